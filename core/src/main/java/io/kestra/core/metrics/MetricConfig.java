@@ -4,6 +4,7 @@ import io.micronaut.context.annotation.ConfigurationProperties;
 import io.micronaut.core.convert.format.MapFormat;
 import lombok.Getter;
 
+import java.util.List;
 import java.util.Map;
 
 @ConfigurationProperties("kestra.metrics")
@@ -13,5 +14,22 @@ public class MetricConfig {
 
     @MapFormat(transformation = MapFormat.MapTransformation.FLAT)
     Map<String, String> tags;
+
+    /**
+     * The maximum number of distinct values of a tag for each metric, values seen after are collapsed into an overflow
+     * value. No limit when not set.
+     */
+    Integer cardinalityLimit;
+
+    /**
+     * The tags whose cardinality is limited.
+     */
+    List<String> cardinalityLimitedTags = List.of(
+        MetricRegistry.TAG_TENANT_ID,
+        MetricRegistry.TAG_NAMESPACE_ID,
+        MetricRegistry.TAG_FLOW_ID,
+        MetricRegistry.TAG_TASK_TYPE,
+        MetricRegistry.TAG_TRIGGER_TYPE
+    );
 }
 
@@ -1,5 +1,7 @@
 package io.kestra.core.metrics;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.triggers.AbstractTrigger;
@@ -16,6 +18,12 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.ArrayUtils;
 
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
 @Singleton
 @Slf4j
 public class MetricRegistry {
@@ -34,6 +42,10 @@ public class MetricRegistry {
     public static final String METRIC_WORKER_TRIGGER_ENDED_COUNT = "worker.trigger.ended.count";
     public static final String METRIC_WORKER_TRIGGER_ERROR_COUNT = "worker.trigger.error.count";
     public static final String METRIC_WORKER_TRIGGER_EXECUTION_COUNT = "worker.trigger.execution.count";
+    public static final String METRIC_WORKER_NAMESPACE_FILES_CACHE_HIT_COUNT = "worker.namespace_files.cache.hit.count";
+    public static final String METRIC_WORKER_NAMESPACE_FILES_CACHE_MISS_COUNT = "worker.namespace_files.cache.miss.count";
+    public static final String METRIC_WORKER_NAMESPACE_FILES_CACHE_SAVED_BYTES = "worker.namespace_files.cache.saved.bytes";
+    public static final String METRIC_WORKER_NAMESPACE_FILES_POPULATE_DURATION = "worker.namespace_files.populate.duration";
 
     public static final String EXECUTOR_TASKRUN_NEXT_COUNT = "executor.taskrun.next.count";
     public static final String EXECUTOR_TASKRUN_ENDED_COUNT = "executor.taskrun.ended.count";
@@ -43,6 +55,11 @@ public class MetricRegistry {
     public static final String EXECUTOR_EXECUTION_END_COUNT = "executor.execution.end.count";
     public static final String EXECUTOR_EXECUTION_DURATION = "executor.execution.duration";
 
+    public static final String FLOW_REGISTRY_LOOKUP_COUNT = "flow.registry.lookup.count";
+
+    public static final String EXECUTION_INPUT_UPLOAD_SIZE = "execution.input.upload.size";
+    public static final String EXECUTION_INPUT_UPLOAD_DURATION = "execution.input.upload.duration";
+
     public static final String METRIC_INDEXER_REQUEST_COUNT = "indexer.request.count";
     public static final String METRIC_INDEXER_REQUEST_DURATION = "indexer.request.duration";
     public static final String METRIC_INDEXER_REQUEST_RETRY_COUNT = "indexer.request.retry.count";
@@ -62,8 +79,12 @@ public class MetricRegistry {
 
     public static final String JDBC_QUERY_DURATION = "jdbc.query.duration";
 
+    public static final String SERVICE_LIVENESS_COORDINATOR_SCAN_DURATION = "service.liveness.coordinator.scan.duration";
+
     public static final String QUEUE_BIG_MESSAGE_COUNT = "queue.big_message.count";
 
+    public static final String METRIC_CARDINALITY_OVERFLOW_COUNT = "metric.cardinality.overflow.count";
+
     public static final String TAG_TASK_TYPE = "task_type";
     public static final String TAG_TRIGGER_TYPE = "trigger_type";
     public static final String TAG_FLOW_ID = "flow_id";
@@ -73,6 +94,14 @@ public class MetricRegistry {
     public static final String TAG_WORKER_GROUP = "worker_group";
     public static final String TAG_TENANT_ID = "tenant_id";
     public static final String TAG_CLASS_NAME = "class_name";
+    public static final String TAG_UPLOAD_MODE = "upload_mode";
+    public static final String TAG_LOOKUP_RESULT = "result";
+    public static final String TAG_METRIC_NAME = "metric";
+    public static final String TAG_KEY = "tag";
+
+    public static final String TAG_VALUE_OVERFLOW = "_overflow";
+
+    private static final int COLLAPSED_CACHE_SIZE = 10_000;
 
     @Inject
     private MeterRegistry meterRegistry;
@@ -80,6 +109,22 @@ public class MetricRegistry {
     @Inject
     private MetricConfig metricConfig;
 
+    // meters already resolved by name and tags, to avoid a registry lookup on each call
+    private final Map<MeterKey, Meter> meters = new ConcurrentHashMap<>();
+
+    // distinct values seen by metric and tag key, for the tags with a limited cardinality
+    private final Map<String, Set<String>> tagValues = new ConcurrentHashMap<>();
+
+    // meters whose tags were collapsed, by their original tags; bounded as the original tags have an unbounded cardinality
+    private final Cache<MeterKey, Meter> collapsedMeters = CacheBuilder.newBuilder()
+        .maximumSize(COLLAPSED_CACHE_SIZE)
+        .build();
+
+    // collapsed values already counted by metric, tag key and value, bounded for the same reason
+    private final Cache<String, Boolean> collapsedValues = CacheBuilder.newBuilder()
+        .maximumSize(COLLAPSED_CACHE_SIZE)
+        .build();
+
     /**
      * Tracks a monotonically increasing value.
      *
@@ -88,7 +133,7 @@ public class MetricRegistry {
      * @return A new or existing counter.
      */
     public Counter counter(String name, String... tags) {
-        return this.meterRegistry.counter(metricName(name), tags);
+        return this.meter(Meter.Type.COUNTER, name, tags, limitedTags -> this.meterRegistry.counter(metricName(name), limitedTags));
     }
 
     /**
@@ -113,7 +158,7 @@ public class MetricRegistry {
      * @return A new or existing timer.
      */
     public Timer timer(String name, String... tags) {
-        return this.meterRegistry.timer(metricName(name), tags);
+        return this.meter(Meter.Type.TIMER, name, tags, limitedTags -> this.meterRegistry.timer(metricName(name), limitedTags));
     }
 
     /**
@@ -124,7 +169,77 @@ public class MetricRegistry {
      * @return A new or existing distribution summary.
      */
     public DistributionSummary summary(String name, String... tags) {
-        return this.meterRegistry.summary(metricName(name), tags);
+        return this.meter(Meter.Type.DISTRIBUTION_SUMMARY, name, tags, limitedTags -> this.meterRegistry.summary(metricName(name), limitedTags));
+    }
+
+    /**
+     * Returns the cached meter for this name and tags, or registers it.
+     * Meters whose tags were collapsed by the cardinality limit are kept in a separate bounded cache.
+     */
+    @SuppressWarnings("unchecked")
+    private <T extends Meter> T meter(Meter.Type type, String name, String[] tags, Function<String[], T> register) {
+        MeterKey key = new MeterKey(type, name, tags);
+        Meter meter = this.meters.get(key);
+        if (meter == null) {
+            meter = this.collapsedMeters.getIfPresent(key);
+        }
+        if (meter != null) {
+            return (T) meter;
+        }
+
+        String[] limitedTags = this.limitCardinality(name, tags);
+        if (limitedTags != tags) {
+            T collapsed = register.apply(limitedTags);
+            this.collapsedMeters.put(new MeterKey(type, name, tags.clone()), collapsed);
+
+            return collapsed;
+        }
+
+        // copy the tags as the caller may reuse its array
+        return (T) this.meters.computeIfAbsent(new MeterKey(type, name, tags.clone()), key -> register.apply(key.tags()));
+    }
+
+    /**
+     * Replaces the values of the limited tags by {@link #TAG_VALUE_OVERFLOW} once the metric already has the configured
+     * number of distinct values for this tag.
+     *
+     * @return the given tags if none was collapsed, a copy otherwise.
+     */
+    private String[] limitCardinality(String name, String[] tags) {
+        Integer limit = metricConfig.getCardinalityLimit();
+        if (limit == null) {
+            return tags;
+        }
+
+        String[] limitedTags = tags;
+        for (int i = 0; i + 1 < tags.length; i += 2) {
+            if (tags[i + 1] == null || !metricConfig.getCardinalityLimitedTags().contains(tags[i])) {
+                continue;
+            }
+
+            Set<String> values = this.tagValues.computeIfAbsent(name + "|" + tags[i], k -> ConcurrentHashMap.newKeySet());
+            if (values.contains(tags[i + 1])) {
+                continue;
+            }
+
+            if (values.size() < limit) {
+                values.add(tags[i + 1]);
+            } else {
+                if (limitedTags == tags) {
+                    limitedTags = tags.clone();
+                }
+                limitedTags[i + 1] = TAG_VALUE_OVERFLOW;
+
+                // each collapsed value is counted once
+                if (this.collapsedValues.asMap().putIfAbsent(name + "|" + tags[i] + "|" + tags[i + 1], Boolean.TRUE) == null) {
+                    this.meterRegistry
+                        .counter(metricName(METRIC_CARDINALITY_OVERFLOW_COUNT), TAG_METRIC_NAME, name, TAG_KEY, tags[i])
+                        .increment();
+                }
+            }
+        }
+
+        return limitedTags;
     }
 
     /**
@@ -178,16 +293,14 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTask workerTask, String workerGroup, String... tags) {
-        var baseTags = ArrayUtils.addAll(
-            ArrayUtils.addAll(
-                this.tags(workerTask.getTask()),
-                tags
-            ),
+        return withTags(
+            tags,
+            TAG_TASK_TYPE, workerTask.getTask().getType(),
             TAG_NAMESPACE_ID, workerTask.getTaskRun().getNamespace(),
-            TAG_FLOW_ID, workerTask.getTaskRun().getFlowId()
+            TAG_FLOW_ID, workerTask.getTaskRun().getFlowId(),
+            TAG_WORKER_GROUP, workerGroup,
+            TAG_TENANT_ID, workerTask.getTaskRun().getTenantId()
         );
-        baseTags = workerGroup == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_WORKER_GROUP, workerGroup);
-        return workerTask.getTaskRun().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTask.getTaskRun().getTenantId());
     }
 
     /**
@@ -199,16 +312,14 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTrigger workerTrigger, String workerGroup, String... tags) {
-        var baseTags = ArrayUtils.addAll(
-            ArrayUtils.addAll(
-                this.tags(workerTrigger.getTrigger()),
-                tags
-            ),
+        return withTags(
+            tags,
+            TAG_TRIGGER_TYPE, workerTrigger.getTrigger().getType(),
             TAG_NAMESPACE_ID, workerTrigger.getTriggerContext().getNamespace(),
-            TAG_FLOW_ID, workerTrigger.getTriggerContext().getFlowId()
+            TAG_FLOW_ID, workerTrigger.getTriggerContext().getFlowId(),
+            TAG_WORKER_GROUP, workerGroup,
+            TAG_TENANT_ID, workerTrigger.getTriggerContext().getTenantId()
         );
-        baseTags = workerGroup == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_WORKER_GROUP, workerGroup);
-        return workerTrigger.getTriggerContext().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTrigger.getTriggerContext().getTenantId());
     }
 
 
@@ -219,13 +330,13 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(WorkerTaskResult workerTaskResult, String... tags) {
-        var baseTags = ArrayUtils.addAll(
+        return withTags(
             tags,
             TAG_NAMESPACE_ID, workerTaskResult.getTaskRun().getNamespace(),
             TAG_FLOW_ID, workerTaskResult.getTaskRun().getFlowId(),
-            TAG_STATE, workerTaskResult.getTaskRun().getState().getCurrent().name()
+            TAG_STATE, workerTaskResult.getTaskRun().getState().getCurrent().name(),
+            TAG_TENANT_ID, workerTaskResult.getTaskRun().getTenantId()
         );
-        return workerTaskResult.getTaskRun().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, workerTaskResult.getTaskRun().getTenantId());
     }
 
     /**
@@ -235,13 +346,13 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(SubflowExecutionResult subflowExecutionResult, String... tags) {
-        var baseTags = ArrayUtils.addAll(
+        return withTags(
             tags,
             TAG_NAMESPACE_ID, subflowExecutionResult.getParentTaskRun().getNamespace(),
             TAG_FLOW_ID, subflowExecutionResult.getParentTaskRun().getFlowId(),
-            TAG_STATE, subflowExecutionResult.getParentTaskRun().getState().getCurrent().name()
+            TAG_STATE, subflowExecutionResult.getParentTaskRun().getState().getCurrent().name(),
+            TAG_TENANT_ID, subflowExecutionResult.getParentTaskRun().getTenantId()
         );
-        return subflowExecutionResult.getParentTaskRun().getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, subflowExecutionResult.getParentTaskRun().getTenantId());
     }
 
     /**
@@ -275,12 +386,13 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(Execution execution) {
-        var baseTags = new String[]{
+        return withTags(
+            ArrayUtils.EMPTY_STRING_ARRAY,
             TAG_FLOW_ID, execution.getFlowId(),
             TAG_NAMESPACE_ID, execution.getNamespace(),
             TAG_STATE, execution.getState().getCurrent().name(),
-        };
-        return execution.getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, execution.getTenantId());
+            TAG_TENANT_ID, execution.getTenantId()
+        );
     }
 
     /**
@@ -290,11 +402,12 @@ public class MetricRegistry {
      * @return tags to apply to metrics
      */
     public String[] tags(TriggerContext triggerContext) {
-        var baseTags = new String[]{
+        return withTags(
+            ArrayUtils.EMPTY_STRING_ARRAY,
             TAG_FLOW_ID, triggerContext.getFlowId(),
-            TAG_NAMESPACE_ID, triggerContext.getNamespace()
-        };
-        return triggerContext.getTenantId() == null ? baseTags : ArrayUtils.addAll(baseTags, TAG_TENANT_ID, triggerContext.getTenantId());
+            TAG_NAMESPACE_ID, triggerContext.getNamespace(),
+            TAG_TENANT_ID, triggerContext.getTenantId()
+        );
     }
 
     /**
@@ -311,6 +424,35 @@ public class MetricRegistry {
     }
 
 
+    /**
+     * Builds the tags in a single array: the key/value pairs followed by the given tags.
+     * Optional pairs, like the tenant or the worker group, are skipped when their value is null.
+     */
+    private static String[] withTags(String[] tags, String... pairs) {
+        int size = tags.length;
+        for (int i = 1; i < pairs.length; i += 2) {
+            if (pairs[i] != null || !isOptionalTag(pairs[i - 1])) {
+                size += 2;
+            }
+        }
+
+        String[] result = new String[size];
+        int index = 0;
+        for (int i = 0; i + 1 < pairs.length; i += 2) {
+            if (pairs[i + 1] != null || !isOptionalTag(pairs[i])) {
+                result[index++] = pairs[i];
+                result[index++] = pairs[i + 1];
+            }
+        }
+        System.arraycopy(tags, 0, result, index, tags.length);
+
+        return result;
+    }
+
+    private static boolean isOptionalTag(String key) {
+        return TAG_TENANT_ID.equals(key) || TAG_WORKER_GROUP.equals(key);
+    }
+
     /**
      * Return globals tags
      *
@@ -332,5 +474,16 @@ public class MetricRegistry {
             log.warn("Error on metrics", e);
         }
     }
-}
 
+    private record MeterKey(Meter.Type type, String name, String[] tags) {
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof MeterKey other && type == other.type && name.equals(other.name) && Arrays.equals(tags, other.tags);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * type.hashCode() + name.hashCode()) + Arrays.hashCode(tags);
+        }
+    }
+}
@@ -15,6 +15,7 @@ import jakarta.validation.constraints.NotNull;
 @NoArgsConstructor
 public class Setting {
     public static final String INSTANCE_UUID = "instance.uuid";
+    public static final String EXECUTION_STATISTICS_WATERMARK = "execution.statistics.watermark";
     @NotNull
     private String key;
 
@@ -2,7 +2,21 @@ package io.kestra.core.models.conditions;
 
 import io.kestra.core.exceptions.InternalException;
 
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
 
 public interface ScheduleCondition {
+    String TRIGGER_DATE = "{{ trigger.date }}";
+
     boolean test(ConditionContext conditionContext) throws InternalException;
+
+    /**
+     * Evaluates the condition on a schedule date alone, without rendering any template.
+     *
+     * @return the result, or empty when the condition depends on more than the schedule date.
+     */
+    default Optional<Boolean> testDate(ZonedDateTime date) {
+        return Optional.empty();
+    }
 }
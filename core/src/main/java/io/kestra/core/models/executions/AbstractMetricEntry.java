@@ -13,11 +13,8 @@ import lombok.NoArgsConstructor;
 import lombok.ToString;
 
 import java.time.Instant;
-import java.util.Collection;
+import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 import jakarta.validation.constraints.NotNull;
 
 @JsonTypeInfo(use = JsonTypeInfo.Id.NAME, property = "type", visible = true, include = JsonTypeInfo.As.EXISTING_PROPERTY)
@@ -64,13 +61,18 @@ abstract public class AbstractMetricEntry<T> {
     }
 
     protected String[] tagsAsArray(Map<String, String> others) {
-        return Stream.concat(
-                Optional.ofNullable(this.tags).map(Map::entrySet).stream().flatMap(Collection::stream),
-                others.entrySet().stream()
-            )
-            .flatMap(e -> Stream.of(e.getKey(), e.getValue()))
-            .toList()
-            .toArray(String[]::new);
+        Map<String, String> tags = this.tags == null ? Map.of() : this.tags;
+        String[] result = new String[(tags.size() + others.size()) * 2];
+
+        int index = 0;
+        for (Map<String, String> map : List.of(tags, others)) {
+            for (Map.Entry<String, String> entry : map.entrySet()) {
+                result[index++] = entry.getKey();
+                result[index++] = entry.getValue();
+            }
+        }
+
+        return result;
     }
 
     protected String metricName(String prefix) {
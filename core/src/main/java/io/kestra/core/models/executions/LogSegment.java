@@ -0,0 +1,99 @@
+package io.kestra.core.models.executions;
+
+import io.kestra.core.models.DeletedInterface;
+import io.kestra.core.models.HasUID;
+import io.kestra.core.models.TenantInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.core.annotation.Nullable;
+import io.swagger.v3.oas.annotations.Hidden;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.Builder;
+import lombok.Value;
+import org.slf4j.event.Level;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A chunk of the logs of a task run, or of an execution for the logs outside any task run, stored as a compressed
+ * file in the internal storage. Only this summary is kept in the database.
+ */
+@Value
+@Builder(toBuilder = true)
+public class LogSegment implements DeletedInterface, TenantInterface, HasUID {
+    @Hidden
+    @Pattern(regexp = "^[a-z0-9][a-z0-9_-]*")
+    String tenantId;
+
+    @NotNull
+    String id;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    String executionId;
+
+    @Nullable
+    String taskId;
+
+    @Nullable
+    String taskRunId;
+
+    @NotNull
+    URI uri;
+
+    /**
+     * The number of log lines, by level.
+     */
+    @NotNull
+    Map<Level, Long> counts;
+
+    /**
+     * The size of the compressed file, in bytes.
+     */
+    long size;
+
+    @NotNull
+    Instant startDate;
+
+    @NotNull
+    Instant endDate;
+
+    @Builder.Default
+    boolean deleted = false;
+
+    public long count() {
+        return this.counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * @return the number of log lines with one of the given levels, or of all the levels if null.
+     */
+    public long count(@Nullable List<Level> levels) {
+        if (levels == null) {
+            return this.count();
+        }
+
+        return levels.stream().mapToLong(level -> this.counts.getOrDefault(level, 0L)).sum();
+    }
+
+    /**
+     * @return whether this segment contains at least one log with one of the given levels.
+     */
+    public boolean hasAnyLevel(List<Level> levels) {
+        return levels.stream().anyMatch(level -> this.counts.getOrDefault(level, 0L) > 0);
+    }
+
+    /** {@inheritDoc **/
+    @Override
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.executionId, this.id);
+    }
+}
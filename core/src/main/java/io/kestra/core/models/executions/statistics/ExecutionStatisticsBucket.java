@@ -0,0 +1,63 @@
+package io.kestra.core.models.executions.statistics;
+
+import io.kestra.core.models.HasUID;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+/**
+ * An hour of the executions of a flow in a state, used to mark the {@link ExecutionStatisticsRollup} that must be recomputed.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ExecutionStatisticsBucket implements HasUID {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    Instant date;
+
+    @NotNull
+    State.Type state;
+
+    /**
+     * The buckets that an execution may have changed: one for each state it went through, as the execution may have
+     * left any of them since it was last counted.
+     */
+    public static List<ExecutionStatisticsBucket> of(Execution execution) {
+        Instant date = execution.getState().getStartDate().truncatedTo(ChronoUnit.HOURS);
+
+        return execution.getState().getHistories()
+            .stream()
+            .map(State.History::getState)
+            .distinct()
+            .map(state -> new ExecutionStatisticsBucket(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                date,
+                state
+            ))
+            .toList();
+    }
+
+    /** {@inheritDoc **/
+    @Override
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.namespace, this.flowId, this.date.toString(), this.state.name());
+    }
+}
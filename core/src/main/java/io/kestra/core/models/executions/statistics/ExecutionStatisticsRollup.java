@@ -0,0 +1,47 @@
+package io.kestra.core.models.executions.statistics;
+
+import io.kestra.core.models.HasUID;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.Instant;
+
+/**
+ * Pre-aggregated statistics of the executions of a flow, started in a given hour and in a given state.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ExecutionStatisticsRollup implements HasUID {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @NotNull
+    State.Type state;
+
+    @NotNull
+    Instant date;
+
+    long count;
+
+    long durationMin;
+
+    long durationMax;
+
+    long durationSum;
+
+    /** {@inheritDoc **/
+    @Override
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.namespace, this.flowId, this.date.toString(), this.state.name());
+    }
+}
@@ -0,0 +1,182 @@
+package io.kestra.core.plugins;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import io.kestra.core.serializers.JacksonMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
+import java.util.jar.Manifest;
+import java.util.stream.Collectors;
+
+/**
+ * A persisted index of the plugin scan results, stored in the top-level plugin directory.
+ * <p>
+ * Each scanned plugin is stored with a fingerprint of its resources (path, size and last modified time), so
+ * unchanged plugins can be registered from the index without loading and instantiating every plugin class
+ * through a {@link java.util.ServiceLoader}.
+ */
+@Slf4j
+public class PluginScanIndex {
+    static final String INDEX_FILE_NAME = ".kestra-plugins-index.json";
+
+    private static final TypeReference<Map<String, Entry>> TYPE_REFERENCE = new TypeReference<>() {};
+
+    private final Path pluginPath;
+    private final Map<String, Entry> entries;
+    private volatile boolean modified = false;
+
+    private PluginScanIndex(final Path pluginPath, final Map<String, Entry> entries) {
+        this.pluginPath = pluginPath;
+        this.entries = new ConcurrentHashMap<>(entries);
+    }
+
+    /**
+     * Loads the index of the given top-level plugin directory, an empty index is returned if it doesn't exist or can't be read.
+     *
+     * @param pluginPath the absolute path to a top-level plugin directory.
+     * @return the {@link PluginScanIndex}.
+     */
+    public static PluginScanIndex load(final Path pluginPath) {
+        Path indexFile = pluginPath.resolve(INDEX_FILE_NAME);
+        if (Files.exists(indexFile)) {
+            try {
+                return new PluginScanIndex(pluginPath, JacksonMapper.ofJson().readValue(indexFile.toFile(), TYPE_REFERENCE));
+            } catch (IOException e) {
+                log.warn("Unable to read the plugin scan index '{}', all plugins will be scanned.", indexFile, e);
+            }
+        }
+
+        return new PluginScanIndex(pluginPath, Map.of());
+    }
+
+    /**
+     * Computes the fingerprint of the given plugin resources.
+     */
+    public static String fingerprint(final ExternalPlugin plugin) {
+        StringBuilder fingerprint = new StringBuilder();
+        for (URL resource : plugin.getResources()) {
+            try {
+                Path path = Path.of(resource.toURI());
+                fingerprint.append(path).append(':').append(Files.size(path)).append(':').append(Files.getLastModifiedTime(path).toMillis()).append(';');
+            } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+                // the fingerprint will never match so the plugin will always be scanned
+                return null;
+            }
+        }
+
+        return fingerprint.toString();
+    }
+
+    public Optional<Entry> get(final ExternalPlugin plugin, final String fingerprint) {
+        return Optional.ofNullable(entries.get(plugin.getLocation().toString()))
+            .filter(entry -> fingerprint != null && fingerprint.equals(entry.fingerprint()));
+    }
+
+    public void put(final ExternalPlugin plugin, final String fingerprint, final RegisteredPlugin registeredPlugin) {
+        if (fingerprint == null) {
+            return;
+        }
+
+        entries.put(plugin.getLocation().toString(), Entry.of(fingerprint, registeredPlugin));
+        modified = true;
+    }
+
+    /**
+     * Removes the entry of a plugin, so it's scanned again on next startup.
+     */
+    public void remove(final ExternalPlugin plugin) {
+        modified |= entries.remove(plugin.getLocation().toString()) != null;
+    }
+
+    /**
+     * Removes the entries of the plugins that no longer exist.
+     */
+    public void retainAll(final Collection<ExternalPlugin> plugins) {
+        Set<String> locations = plugins.stream().map(plugin -> plugin.getLocation().toString()).collect(Collectors.toSet());
+        modified |= entries.keySet().retainAll(locations);
+    }
+
+    /**
+     * Persists the index if it has been modified. The plugin directory may be read-only, so failures are only logged.
+     */
+    public void save() {
+        if (!modified) {
+            return;
+        }
+
+        Path indexFile = pluginPath.resolve(INDEX_FILE_NAME);
+        try {
+            Path temporary = Files.createTempFile(pluginPath, INDEX_FILE_NAME, ".tmp");
+            JacksonMapper.ofJson().writeValue(temporary.toFile(), entries);
+            Files.move(temporary, indexFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            modified = false;
+        } catch (IOException | UnsupportedOperationException e) {
+            log.debug("Unable to write the plugin scan index '{}'.", indexFile, e);
+        }
+    }
+
+    /**
+     * The scan result of a plugin.
+     *
+     * @param fingerprint the fingerprint of the plugin resources.
+     * @param manifest    the main attributes of the plugin manifest.
+     * @param classes     the plugin class names grouped as in {@link RegisteredPlugin#allClassGrouped()}.
+     * @param guides      the plugin guides.
+     * @param aliases     the plugin class names by alias.
+     */
+    public record Entry(
+        String fingerprint,
+        Map<String, String> manifest,
+        Map<String, List<String>> classes,
+        List<String> guides,
+        Map<String, String> aliases
+    ) {
+        static Entry of(final String fingerprint, final RegisteredPlugin plugin) {
+            return new Entry(
+                fingerprint,
+                Optional.ofNullable(plugin.getManifest())
+                    .map(manifest -> manifest.getMainAttributes().entrySet().stream().collect(Collectors.toMap(
+                        e -> e.getKey().toString(),
+                        e -> e.getValue().toString()
+                    )))
+                    .orElse(null),
+                plugin.allClassGrouped().entrySet().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> e.getValue().stream().map(Class::getName).toList()
+                )),
+                plugin.getGuides(),
+                plugin.getAliases().values().stream().collect(Collectors.toMap(
+                    Map.Entry::getKey,
+                    e -> e.getValue().getName()
+                ))
+            );
+        }
+
+        Manifest toManifest() {
+            if (manifest == null) {
+                return null;
+            }
+
+            Manifest result = new Manifest();
+            Attributes attributes = result.getMainAttributes();
+            manifest.forEach(attributes::putValue);
+            return result;
+        }
+
+        List<String> classes(final String group) {
+            return Optional.ofNullable(classes).map(map -> map.get(group)).orElse(List.of());
+        }
+    }
+}
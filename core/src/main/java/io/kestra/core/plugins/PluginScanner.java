@@ -26,6 +26,8 @@ import java.util.jar.JarFile;
 import java.util.jar.Manifest;
 import java.util.stream.Collectors;
 
+import static io.kestra.core.utils.Rethrow.throwFunction;
+
 @Slf4j
 public class PluginScanner {
     ClassLoader parent;
@@ -41,8 +43,10 @@ public class PluginScanner {
      */
     public List<RegisteredPlugin> scan(final Path pluginPaths) {
         long start = System.currentTimeMillis();
-        List<RegisteredPlugin> scanResult = new PluginResolver(pluginPaths)
-            .resolves()
+        List<ExternalPlugin> resolved = new PluginResolver(pluginPaths).resolves();
+        PluginScanIndex index = PluginScanIndex.load(pluginPaths);
+
+        List<RegisteredPlugin> scanResult = resolved
             .parallelStream()
             .map(plugin -> {
                 log.debug("Loading plugins from path: {}", plugin.getLocation());
@@ -59,11 +63,26 @@ public class PluginScanner {
                     classLoader
                 );
 
-                return scanClassLoader(classLoader, plugin, null);
+                String fingerprint = PluginScanIndex.fingerprint(plugin);
+                return index.get(plugin, fingerprint)
+                    .flatMap(entry -> fromIndex(classLoader, plugin, entry))
+                    .orElseGet(() -> {
+                        ClassLoaderScan scan = scanClassLoader(classLoader, plugin, null);
+                        if (scan.complete()) {
+                            index.put(plugin, fingerprint, scan.plugin());
+                        } else {
+                            // a partial result must not be reused, the plugin is scanned again on next startup
+                            index.remove(plugin);
+                        }
+                        return scan.plugin();
+                    });
             })
             .filter(RegisteredPlugin::isValid)
             .toList();
 
+        index.retainAll(resolved);
+        index.save();
+
         int nbPlugins = scanResult.stream().mapToInt(registeredPlugin -> registeredPlugin.allClass().size()).sum();
         log.info("Registered {} plugins from {} groups (scan done in {}ms)", nbPlugins, scanResult.size(), System.currentTimeMillis() - start);
         return scanResult;
@@ -81,7 +100,7 @@ public class PluginScanner {
                 StandardCharsets.UTF_8
             ));
 
-            RegisteredPlugin corePlugin = scanClassLoader(PluginScanner.class.getClassLoader(), null, manifest);
+            RegisteredPlugin corePlugin = scanClassLoader(PluginScanner.class.getClassLoader(), null, manifest).plugin();
             log.info("Registered {} core plugins (scan done in {}ms)", corePlugin.allClass().size(), System.currentTimeMillis() - start);
             return corePlugin;
         } catch (IOException e) {
@@ -90,9 +109,9 @@ public class PluginScanner {
 
     }
 
-    private RegisteredPlugin scanClassLoader(final ClassLoader classLoader,
-                                             final ExternalPlugin externalPlugin,
-                                             Manifest manifest) {
+    private ClassLoaderScan scanClassLoader(final ClassLoader classLoader,
+                                            final ExternalPlugin externalPlugin,
+                                            Manifest manifest) {
         List<Class<? extends Task>> tasks = new ArrayList<>();
         List<Class<? extends AbstractTrigger>> triggers = new ArrayList<>();
         List<Class<? extends Condition>> conditions = new ArrayList<>();
@@ -109,6 +128,7 @@ public class PluginScanner {
             manifest = getManifest(classLoader);
         }
 
+        boolean complete = true;
         final ServiceLoader<Plugin> sl = ServiceLoader.load(Plugin.class, classLoader);
         try {
             for (Plugin plugin : sl) {
@@ -156,6 +176,7 @@ public class PluginScanner {
                 Plugin.getAliases(plugin.getClass()).forEach(alias -> aliases.put(alias, plugin.getClass()));
             }
         } catch (ServiceConfigurationError | NoClassDefFoundError e) {
+            complete = false;
             Object location = externalPlugin != null ? externalPlugin.getLocation() : "core";
             log.error("Unable to load all plugin classes from '{}'. Cause: [{}] {}",
                 location,
@@ -183,7 +204,7 @@ public class PluginScanner {
             }
         }
 
-        return RegisteredPlugin.builder()
+        RegisteredPlugin registeredPlugin = RegisteredPlugin.builder()
             .externalPlugin(externalPlugin)
             .manifest(manifest)
             .classLoader(classLoader)
@@ -201,6 +222,61 @@ public class PluginScanner {
                 Function.identity()
             )))
             .build();
+
+        return new ClassLoaderScan(registeredPlugin, complete);
+    }
+
+    /**
+     * The result of a class loader scan, not complete when some plugin classes couldn't be loaded.
+     */
+    private record ClassLoaderScan(RegisteredPlugin plugin, boolean complete) {
+    }
+
+    /**
+     * Registers a plugin from its indexed scan result, loading its classes without initializing nor instantiating them.
+     *
+     * @return the {@link RegisteredPlugin}, or {@link Optional#empty()} if any indexed class can no longer be loaded.
+     */
+    private Optional<RegisteredPlugin> fromIndex(final ClassLoader classLoader,
+                                                 final ExternalPlugin externalPlugin,
+                                                 final PluginScanIndex.Entry entry) {
+        try {
+            Map<String, Class<?>> loaded = new HashMap<>();
+            Function<String, Class<?>> loader = name -> loaded.computeIfAbsent(name, throwFunction(cls -> Class.forName(cls, false, classLoader)));
+
+            Map<String, Map.Entry<String, Class<?>>> aliases = new HashMap<>();
+            entry.aliases().forEach((alias, cls) -> aliases.put(alias.toLowerCase(), Map.entry(alias, loader.apply(cls))));
+
+            return Optional.of(RegisteredPlugin.builder()
+                .externalPlugin(externalPlugin)
+                .manifest(entry.toManifest())
+                .classLoader(classLoader)
+                .tasks(loadClasses(entry, "tasks", loader))
+                .triggers(loadClasses(entry, "triggers", loader))
+                .conditions(loadClasses(entry, "conditions", loader))
+                .storages(loadClasses(entry, "storages", loader))
+                .secrets(loadClasses(entry, "secrets", loader))
+                .taskRunners(loadClasses(entry, "task-runners", loader))
+                .apps(loadClasses(entry, "apps", loader))
+                .appBlocks(loadClasses(entry, "appBlocks", loader))
+                .guides(entry.guides())
+                .aliases(aliases)
+                .build()
+            );
+        } catch (Exception | LinkageError e) {
+            log.debug("Unable to load indexed plugin classes from '{}', plugin will be scanned.", externalPlugin.getLocation(), e);
+            return Optional.empty();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<Class<? extends T>> loadClasses(final PluginScanIndex.Entry entry,
+                                                            final String group,
+                                                            final Function<String, Class<?>> loader) {
+        return entry.classes(group)
+            .stream()
+            .map(cls -> (Class<? extends T>) loader.apply(cls))
+            .collect(Collectors.toCollection(ArrayList::new));
     }
 
     public static Manifest getManifest(ClassLoader classLoader) {
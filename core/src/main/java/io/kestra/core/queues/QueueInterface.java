@@ -4,6 +4,7 @@ import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.utils.Either;
 
 import java.io.Closeable;
+import java.util.List;
 import java.util.function.Consumer;
 
 public interface QueueInterface<T> extends Closeable {
@@ -19,6 +20,15 @@ public interface QueueInterface<T> extends Closeable {
 
     void emitAsync(String consumerGroup, T message) throws QueueException;
 
+    /**
+     * Emits several messages at once, implementations may send them in a single round-trip.
+     */
+    default void emitBatch(List<T> messages) throws QueueException {
+        for (T message : messages) {
+            emit(message);
+        }
+    }
+
     default void delete(T message) throws QueueException {
         delete(null, message);
     }
@@ -0,0 +1,37 @@
+package io.kestra.core.repositories;
+
+import io.micronaut.core.annotation.Nullable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page of results fetched with keyset pagination.
+ */
+@Getter
+@NoArgsConstructor
+public class ArrayListCursor<T> extends ArrayList<T> {
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The opaque cursor of the next page, null if this is the last page.
+     */
+    @Nullable
+    private String next;
+
+    /**
+     * The total number of results, only computed if requested.
+     */
+    @Nullable
+    private Long total;
+
+    public ArrayListCursor(List<T> list, @Nullable String next, @Nullable Long total) {
+        super(list);
+        this.next = next;
+        this.total = total;
+    }
+}
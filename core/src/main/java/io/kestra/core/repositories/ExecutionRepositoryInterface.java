@@ -102,6 +102,30 @@ public interface ExecutionRepositoryInterface extends SaveRepositoryInterface<Ex
         boolean allowDeleted
     );
 
+    /**
+     * Finds executions with keyset pagination, ordered by start date and id descending.
+     *
+     * @param cursor the cursor of the page to fetch, as returned by the previous page, or null for the first page.
+     * @param size the page size.
+     * @param withTotal whether to also count the total number of matching executions.
+     */
+    ArrayListCursor<Execution> findWithCursor(
+        @Nullable String cursor,
+        int size,
+        boolean withTotal,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    );
+
     ArrayListTotal<TaskRun> findTaskRun(
         Pageable pageable,
         @Nullable String query,
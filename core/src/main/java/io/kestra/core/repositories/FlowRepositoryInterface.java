@@ -13,6 +13,7 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 
 public interface FlowRepositoryInterface {
 
@@ -173,5 +174,25 @@ public interface FlowRepositoryInterface {
 
     FlowWithSource update(Flow flow, Flow previous, String flowSource, Flow flowWithDefaults) throws ConstraintViolationException;
 
+    /**
+     * Creates or updates a batch of flows, skipping the flows whose source didn't change.
+     * <p>
+     * The default implementation creates or updates the flows one by one.
+     *
+     * @param tenantId     the tenant of the flows.
+     * @param flows        the flows to create or update, with their source.
+     * @param withDefaults injects the plugin defaults in a flow, the result is used to validate it.
+     * @return the created or updated flows, and the last revision of the unchanged ones.
+     */
+    default List<FlowWithSource> createOrUpdate(String tenantId, List<FlowWithSource> flows, Function<FlowWithSource, ? extends Flow> withDefaults) throws ConstraintViolationException {
+        return flows
+            .stream()
+            .map(flow -> this.findById(tenantId, flow.getNamespace(), flow.getId())
+                .map(previous -> this.update(flow, previous, flow.getSource(), withDefaults.apply(flow)))
+                .orElseGet(() -> this.create(flow, flow.getSource(), withDefaults.apply(flow)))
+            )
+            .toList();
+    }
+
     FlowWithSource delete(FlowWithSource flow);
 }
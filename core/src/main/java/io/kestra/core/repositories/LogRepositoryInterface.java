@@ -84,6 +84,27 @@ public interface LogRepositoryInterface extends SaveRepositoryInterface<LogEntry
         @Nullable ZonedDateTime endDate
     );
 
+    /**
+     * Finds logs with keyset pagination, ordered by timestamp and key descending.
+     *
+     * @param cursor the cursor of the page to fetch, as returned by the previous page, or null for the first page.
+     * @param size the page size.
+     * @param withTotal whether to also count the total number of matching logs.
+     */
+    ArrayListCursor<LogEntry> findWithCursor(
+        @Nullable String cursor,
+        int size,
+        boolean withTotal,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String triggerId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate
+    );
+
     List<LogStatistics> statistics(
         @Nullable String query,
         @Nullable String tenantId,
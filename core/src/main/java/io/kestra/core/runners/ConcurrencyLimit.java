@@ -0,0 +1,42 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.models.HasUID;
+import io.kestra.core.utils.IdUtils;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Value;
+import lombok.With;
+
+/**
+ * The number of concurrency slots in use by the executions of a flow with a concurrency limit.
+ * A slot is taken when an execution is allowed to run, and released when it terminates.
+ */
+@Value
+@AllArgsConstructor
+@Builder
+public class ConcurrencyLimit implements HasUID {
+    String tenantId;
+
+    @NotNull
+    String namespace;
+
+    @NotNull
+    String flowId;
+
+    @With
+    int running;
+
+    /**
+     * Incremented each time a slot is taken or released, to detect the changes made while the slots were compared with
+     * the executions.
+     */
+    @With
+    long version;
+
+    /** {@inheritDoc **/
+    @Override
+    public String uid() {
+        return IdUtils.fromParts(this.tenantId, this.namespace, this.flowId);
+    }
+}
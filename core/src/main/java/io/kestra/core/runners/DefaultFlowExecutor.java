@@ -1,26 +1,92 @@
 package io.kestra.core.runners;
 
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.services.FlowListenersInterface;
+import io.micronaut.context.annotation.Value;
 import jakarta.inject.Singleton;
-import lombok.Setter;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * A registry of the flows fed by the {@link FlowListenersInterface}.
+ * <p>
+ * Last versions are indexed by tenant, namespace and id for constant time lookups. Older revisions, which are
+ * immutable, are loaded from the repository and kept in a bounded LRU cache, as executions of a previous revision are
+ * usually still running right after a flow is updated.
+ */
 @Singleton
 public class DefaultFlowExecutor implements FlowExecutorInterface {
     private final FlowRepositoryInterface flowRepository;
+    private final MetricRegistry metricRegistry;
+    private final int revisionCacheSize;
 
-    @Setter
-    private List<FlowWithSource> allFlows;
+    private volatile List<FlowWithSource> allFlows;
+    private volatile Map<String, FlowWithSource> lastVersions = Map.of();
 
-    public DefaultFlowExecutor(FlowListenersInterface flowListeners, FlowRepositoryInterface flowRepository) {
+    // access-ordered, the first entry is the least recently used revision
+    private final LinkedHashMap<String, FlowWithSource> revisions = new LinkedHashMap<>(16, 0.75f, true);
+
+    public DefaultFlowExecutor(
+        FlowListenersInterface flowListeners,
+        FlowRepositoryInterface flowRepository,
+        MetricRegistry metricRegistry,
+        @Value("${kestra.flow-registry.revision-cache-size:1000}") int revisionCacheSize
+    ) {
         this.flowRepository = flowRepository;
+        this.metricRegistry = metricRegistry;
+        this.revisionCacheSize = revisionCacheSize;
+
+        flowListeners.listenChanges(this::applyChanges);
+    }
+
+    /**
+     * Applies the changes of the flows to the last versions, without indexing again the flows that didn't change.
+     */
+    public void applyChanges(FlowListenersInterface.FlowChanges changes) {
+        if (this.allFlows == null) {
+            this.setAllFlows(changes.flows());
+            return;
+        }
+
+        Map<String, FlowWithSource> index = new HashMap<>(this.lastVersions);
+        changes.added().forEach(flow -> index.put(key(flow.getTenantId(), flow.getNamespace(), flow.getId()), flow));
+        changes.updated().forEach(flow -> {
+            // the replaced last version is kept as an older revision
+            FlowWithSource replaced = index.put(key(flow.getTenantId(), flow.getNamespace(), flow.getId()), flow);
+            if (replaced != null && !replaced.getRevision().equals(flow.getRevision())) {
+                this.putRevision(replaced);
+            }
+        });
+        changes.removed().forEach(flow -> index.remove(key(flow.getTenantId(), flow.getNamespace(), flow.getId())));
+
+        this.lastVersions = index;
+        this.allFlows = changes.flows();
+    }
+
+    public void setAllFlows(List<FlowWithSource> flows) {
+        Map<String, FlowWithSource> previous = this.lastVersions;
+        Map<String, FlowWithSource> index = HashMap.newHashMap(flows.size());
+        for (FlowWithSource flow : flows) {
+            String key = key(flow.getTenantId(), flow.getNamespace(), flow.getId());
+            index.put(key, flow);
+
+            // the replaced last version is kept as an older revision
+            FlowWithSource replaced = previous.get(key);
+            if (replaced != null && !replaced.getRevision().equals(flow.getRevision())) {
+                this.putRevision(replaced);
+            }
+        }
 
-        flowListeners.listen(flows -> this.allFlows = flows);
+        this.lastVersions = index;
+        this.allFlows = flows;
     }
 
     @Override
@@ -30,24 +96,55 @@ public class DefaultFlowExecutor implements FlowExecutorInterface {
 
     @Override
     public Optional<FlowWithSource> findById(String tenantId, String namespace, String id, Optional<Integer> revision) {
-        Optional<FlowWithSource> find = this.allFlows
-            .stream()
-            .filter(flow -> ((flow.getTenantId() == null && tenantId == null) || flow.getTenantId().equals(tenantId)) &&
-                flow.getNamespace().equals(namespace) &&
-                flow.getId().equals(id) &&
-                (revision.isEmpty() || revision.get().equals(flow.getRevision()))
-            )
-            .findFirst();
-
-        if (find.isPresent()) {
-            return find;
-        } else {
-            return flowRepository.findByIdWithSource(tenantId, namespace, id, revision);
+        String key = key(tenantId, namespace, id);
+
+        FlowWithSource lastVersion = this.lastVersions.get(key);
+        if (lastVersion != null && (revision.isEmpty() || revision.get().equals(lastVersion.getRevision()))) {
+            this.record("hit");
+            return Optional.of(lastVersion);
+        }
+
+        if (revision.isPresent()) {
+            FlowWithSource cached = this.getRevision(key, revision.get());
+            if (cached != null) {
+                this.record("hit");
+                return Optional.of(cached);
+            }
         }
+
+        this.record("miss");
+        Optional<FlowWithSource> find = flowRepository.findByIdWithSource(tenantId, namespace, id, revision);
+        if (revision.isPresent()) {
+            find.ifPresent(this::putRevision);
+        }
+
+        return find;
     }
 
     @Override
     public Boolean isReady() {
         return true;
     }
+
+    private synchronized FlowWithSource getRevision(String key, int revision) {
+        return this.revisions.get(key + "|" + revision);
+    }
+
+    private synchronized void putRevision(FlowWithSource flow) {
+        this.revisions.put(key(flow.getTenantId(), flow.getNamespace(), flow.getId()) + "|" + flow.getRevision(), flow);
+
+        var iterator = this.revisions.entrySet().iterator();
+        while (this.revisions.size() > this.revisionCacheSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private void record(String result) {
+        metricRegistry.counter(MetricRegistry.FLOW_REGISTRY_LOOKUP_COUNT, MetricRegistry.TAG_LOOKUP_RESULT, result).increment();
+    }
+
+    private static String key(String tenantId, String namespace, String id) {
+        return Flow.uidWithoutRevision(tenantId, namespace, id);
+    }
 }
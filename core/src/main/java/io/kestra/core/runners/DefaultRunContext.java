@@ -62,7 +62,10 @@ public class DefaultRunContext extends RunContext {
     private Optional<String> secretKey;
 
     private Map<String, Object> variables;
-    private List<AbstractMetricEntry<?>> metrics = new ArrayList<>();
+    // metrics aggregated by series: type, name and tags
+    private Map<AbstractMetricEntry<?>, AbstractMetricEntry<?>> metrics = new LinkedHashMap<>();
+    private String metricPrefix;
+    private Map<String, String> metricsTags;
     private RunContextLogger logger;
     private final List<WorkerTaskResult> dynamicWorkerTaskResult = new ArrayList<>();
     private String triggerExecutionId;
@@ -126,6 +129,8 @@ public class DefaultRunContext extends RunContext {
 
     void setVariables(final Map<String, Object> variables) {
         this.variables = Collections.unmodifiableMap(variables);
+        this.metricPrefix = null;
+        this.metricsTags = null;
     }
 
     void setStorage(final Storage storage) {
@@ -169,7 +174,7 @@ public class DefaultRunContext extends RunContext {
         runContext.variables = new HashMap<>(this.variables);
         runContext.workingDir = this.workingDir;
         runContext.logger = this.logger;
-        runContext.metrics = new ArrayList<>();
+        runContext.metrics = new LinkedHashMap<>();
         runContext.storage = this.storage;
         runContext.pluginConfiguration = this.pluginConfiguration;
         runContext.secretInputs = this.secretInputs;
@@ -377,7 +382,7 @@ public class DefaultRunContext extends RunContext {
      */
     @Override
     public List<AbstractMetricEntry<?>> metrics() {
-        return this.metrics;
+        return new ArrayList<>(this.metrics.values());
     }
 
     /**
@@ -385,18 +390,19 @@ public class DefaultRunContext extends RunContext {
      */
     @Override
     public <T> RunContext metric(AbstractMetricEntry<T> metricEntry) {
-        int index = this.metrics.indexOf(metricEntry);
-
-        if (index >= 0) {
-            @SuppressWarnings("unchecked")
-            AbstractMetricEntry<T> current = (AbstractMetricEntry<T>) this.metrics.get(index);
+        @SuppressWarnings("unchecked")
+        AbstractMetricEntry<T> current = (AbstractMetricEntry<T>) this.metrics.putIfAbsent(metricEntry, metricEntry);
+        if (current != null) {
             current.increment(metricEntry.getValue());
-        } else {
-            this.metrics.add(metricEntry);
+        }
+
+        if (this.metricsTags == null) {
+            this.metricPrefix = this.metricPrefix();
+            this.metricsTags = this.metricsTags();
         }
 
         try {
-            metricEntry.register(this.meterRegistry, this.metricPrefix(), this.metricsTags());
+            metricEntry.register(this.meterRegistry, this.metricPrefix, this.metricsTags);
         } catch (IllegalArgumentException e) {
             // https://github.com/micrometer-metrics/micrometer/issues/877
             // https://github.com/micrometer-metrics/micrometer/issues/2399
@@ -21,6 +21,7 @@ import io.kestra.core.models.flows.input.ItemTypeInterface;
 import io.kestra.core.models.tasks.common.EncryptedString;
 import io.kestra.core.models.validations.ManualConstraintViolation;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.services.FileUploadService;
 import io.kestra.core.storages.StorageContext;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.utils.ListUtils;
@@ -42,7 +43,6 @@ import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
@@ -80,15 +80,18 @@ public class FlowInputOutput {
     private final StorageInterface storageInterface;
     private final Optional<String> secretKey;
     private final RunContextFactory runContextFactory;
+    private final FileUploadService fileUploadService;
 
     @Inject
     public FlowInputOutput(
         StorageInterface storageInterface,
         RunContextFactory runContextFactory,
+        FileUploadService fileUploadService,
         @Nullable @Value("${kestra.encryption.secret-key}") String secretKey
     ) {
         this.storageInterface = storageInterface;
         this.runContextFactory = runContextFactory;
+        this.fileUploadService = fileUploadService;
         this.secretKey = Optional.ofNullable(secretKey);
     }
 
@@ -150,24 +153,16 @@ public class FlowInputOutput {
                         fileUpload.discard();
                         sink.next(new AbstractMap.SimpleEntry<>(fileUpload.getFilename(), from.toString()));
                     } else {
-                        try {
-                            final String fileExtension = FileInput.findFileInputExtension(inputs, fileUpload.getFilename());
-
-                            File tempFile = File.createTempFile(fileUpload.getFilename() + "_", fileExtension);
-                            try (var inputStream = fileUpload.getInputStream();
-                                 var outputStream = new FileOutputStream(tempFile)) {
-                                long transferredBytes = inputStream.transferTo(outputStream);
-                                if (transferredBytes == 0) {
-                                    sink.error(new KestraRuntimeException("Can't upload file: " + fileUpload.getFilename()));
-                                    return;
-                                }
-                                URI from = storageInterface.from(execution, fileUpload.getFilename(), tempFile);
-                                sink.next(new AbstractMap.SimpleEntry<>(fileUpload.getFilename(), from.toString()));
-                            } finally {
-                                if (!tempFile.delete()) {
-                                    tempFile.deleteOnExit();
-                                }
+                        final String fileExtension = FileInput.findFileInputExtension(inputs, fileUpload.getFilename());
+
+                        // stream the upload straight to the internal storage, without an intermediate temporary file
+                        try (var inputStream = fileUpload.getInputStream()) {
+                            URI from = fileUploadService.putInput(execution, fileUpload.getFilename(), fileUpload.getFilename() + fileExtension, inputStream);
+                            if (from == null) {
+                                sink.error(new KestraRuntimeException("Can't upload file: " + fileUpload.getFilename()));
+                                return;
                             }
+                            sink.next(new AbstractMap.SimpleEntry<>(fileUpload.getFilename(), from.toString()));
                         } catch (IOException e) {
                             fileUpload.discard();
                             sink.error(e);
@@ -175,8 +170,14 @@ public class FlowInputOutput {
                     }
                 } else {
                     try {
-                        sink.next(new AbstractMap.SimpleEntry<>(input.getName(), new String(input.getBytes())));
-                    } catch (IOException e) {
+                        String value = new String(input.getBytes());
+                        boolean fileInput = ListUtils.emptyOnNull(inputs).stream().anyMatch(i -> i.getId().equals(input.getName()) && i.getType() == Type.FILE);
+                        if (uploadFiles && fileInput && value.startsWith(StorageContext.KESTRA_PROTOCOL) && FileUploadService.isUpload(URI.create(value))) {
+                            // a file uploaded in chunks, it's copied to the execution storage
+                            value = fileUploadService.moveToExecution(execution, input.getName(), URI.create(value)).toString();
+                        }
+                        sink.next(new AbstractMap.SimpleEntry<>(input.getName(), value));
+                    } catch (IOException | IllegalArgumentException e) {
                         sink.error(e);
                     }
                 }
@@ -4,7 +4,6 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import io.kestra.core.models.flows.FlowWithException;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.serializers.JacksonMapper;
-import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
@@ -13,9 +12,9 @@ import io.kestra.core.services.FlowListenersInterface;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Map;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -23,6 +22,14 @@ import jakarta.inject.Inject;
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 
+/**
+ * Keeps the last version of all the flows up to date from the flow queue.
+ * <p>
+ * Each flow update increments the version of the flows, and an immutable snapshot of the flows is built at most once
+ * per version and shared by all the consumers. Consumers of the flows or of their changes are notified asynchronously,
+ * each one on its own thread: the updates received while a consumer is busy are merged, so it is then called once with
+ * the latest snapshot instead of once per update. Consumers of each flow update are still called synchronously.
+ */
 @Singleton
 @Slf4j
 public class FlowListeners implements FlowListenersInterface {
@@ -30,9 +37,14 @@ public class FlowListeners implements FlowListenersInterface {
 
     private Boolean isStarted = false;
     private final QueueInterface<FlowWithSource> flowQueue;
-    private final List<FlowWithSource> flows;
-    private final List<Consumer<List<FlowWithSource>>> consumers = new ArrayList<>();
 
+    // the last version of the flows by tenant, namespace and id
+    private final Map<String, FlowWithSource> flows = new LinkedHashMap<>();
+    private long version = 0;
+    private long snapshotVersion = -1;
+    private List<FlowWithSource> snapshot;
+
+    private final List<ChangesListener> listeners = new ArrayList<>();
     private final List<BiConsumer<FlowWithSource, FlowWithSource>> consumersEach = new ArrayList<>();
 
     @Inject
@@ -41,7 +53,8 @@ public class FlowListeners implements FlowListenersInterface {
         @Named(QueueFactoryInterface.FLOW_NAMED) QueueInterface<FlowWithSource> flowQueue
     ) {
         this.flowQueue = flowQueue;
-        this.flows = flowRepository.findAllWithSourceForAllTenants();
+        flowRepository.findAllWithSourceForAllTenants()
+            .forEach(flow -> this.flows.put(flow.uidWithoutRevision(), flow));
     }
 
     @Override
@@ -66,13 +79,6 @@ public class FlowListeners implements FlowListenersInterface {
                     else {
                         flow = either.getLeft();
                     }
-                    Optional<FlowWithSource> previous = this.previous(flow);
-
-                    if (flow.isDeleted()) {
-                        this.remove(flow);
-                    } else {
-                        this.upsert(flow);
-                    }
 
                     if (log.isTraceEnabled()) {
                         log.trace(
@@ -83,8 +89,7 @@ public class FlowListeners implements FlowListenersInterface {
                         );
                     }
 
-                    this.notifyConsumersEach(flow, previous.orElse(null));
-                    this.notifyConsumers();
+                    this.update(flow);
                 });
 
                 if (log.isTraceEnabled()) {
@@ -92,56 +97,44 @@ public class FlowListeners implements FlowListenersInterface {
                 }
             }
 
-            this.notifyConsumers();
+            this.listeners.forEach(ChangesListener::notifyCurrent);
         }
     }
 
-    private Optional<FlowWithSource> previous(FlowWithSource flow) {
-        return flows
-            .stream()
-            .filter(r -> Objects.equals(r.getTenantId(), flow.getTenantId()) && r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()))
-            .findFirst();
-    }
+    private synchronized void update(FlowWithSource flow) {
+        String key = flow.uidWithoutRevision();
 
-    private boolean remove(FlowWithSource flow) {
-        synchronized (this) {
-            boolean remove = flows.removeIf(r -> Objects.equals(r.getTenantId(), flow.getTenantId()) && r.getNamespace().equals(flow.getNamespace()) && r.getId().equals(flow.getId()));
-            if (!remove && flow.isDeleted()) {
+        FlowWithSource previous;
+        if (flow.isDeleted()) {
+            previous = this.flows.remove(key);
+            if (previous == null) {
                 log.warn("Can't remove flow {}.{}", flow.getNamespace(), flow.getId());
             }
-
-            return remove;
+        } else {
+            previous = this.flows.put(key, flow);
         }
-    }
 
-    private void upsert(FlowWithSource flow) {
-        synchronized (this) {
-            this.remove(flow);
+        this.version++;
 
-            this.flows.add(flow);
-        }
-    }
+        this.consumersEach
+            .forEach(consumer -> consumer.accept(flow, previous));
 
-    private void notifyConsumers() {
-        synchronized (this) {
-            this.consumers
-                .forEach(consumer -> consumer.accept(new ArrayList<>(this.flows)));
-        }
+        this.listeners
+            .forEach(listener -> listener.notifyChange(key, previous));
     }
 
-    private void notifyConsumersEach(FlowWithSource flow, FlowWithSource previous) {
-        synchronized (this) {
-            this.consumersEach
-                .forEach(consumer -> consumer.accept(flow, previous));
+    private synchronized List<FlowWithSource> snapshot() {
+        if (this.snapshotVersion != this.version) {
+            this.snapshot = List.copyOf(this.flows.values());
+            this.snapshotVersion = this.version;
         }
+
+        return this.snapshot;
     }
 
     @Override
     public void listen(Consumer<List<FlowWithSource>> consumer) {
-        synchronized (this) {
-            consumers.add(consumer);
-            consumer.accept(new ArrayList<>(this.flows()));
-        }
+        this.listenChanges(changes -> consumer.accept(changes.flows()));
     }
 
     @Override
@@ -151,10 +144,100 @@ public class FlowListeners implements FlowListenersInterface {
         }
     }
 
-    @SneakyThrows
+    @Override
+    public void listenChanges(Consumer<FlowChanges> consumer) {
+        synchronized (this) {
+            List<FlowWithSource> current = this.snapshot();
+            consumer.accept(new FlowChanges(this.version, current, current, List.of(), List.of()));
+
+            listeners.add(new ChangesListener(consumer));
+        }
+    }
+
     @Override
     public List<FlowWithSource> flows() {
-        // we forced a deep clone to avoid concurrency where instance are changed during iteration (especially scheduler).
-        return new ArrayList<>(this.flows);
+        // an immutable snapshot, so instances can't change during iteration (especially scheduler).
+        return this.snapshot();
+    }
+
+    /**
+     * A consumer of the flow changes, with the flows as they were at its last notification for the flows changed since.
+     * The notifications are delivered by a single thread at a time, started when a change is pending.
+     * <p>
+     * All the fields are guarded by the {@link FlowListeners} lock.
+     */
+    private class ChangesListener {
+        private final Consumer<FlowChanges> consumer;
+
+        // a null value means that the flow didn't exist at the last notification
+        private Map<String, FlowWithSource> pending = new LinkedHashMap<>();
+        private boolean notifyCurrent = false;
+        private boolean running = false;
+
+        private ChangesListener(Consumer<FlowChanges> consumer) {
+            this.consumer = consumer;
+        }
+
+        private void notifyChange(String key, FlowWithSource previous) {
+            if (!this.pending.containsKey(key)) {
+                this.pending.put(key, previous);
+            }
+
+            this.start();
+        }
+
+        private void notifyCurrent() {
+            this.notifyCurrent = true;
+
+            this.start();
+        }
+
+        private void start() {
+            if (!this.running) {
+                this.running = true;
+                Thread.ofVirtual().name("flow-listeners").start(this::deliver);
+            }
+        }
+
+        private void deliver() {
+            while (true) {
+                FlowChanges changes;
+                synchronized (FlowListeners.this) {
+                    if (this.pending.isEmpty() && !this.notifyCurrent) {
+                        this.running = false;
+                        return;
+                    }
+
+                    changes = this.changes();
+                    this.pending = new LinkedHashMap<>();
+                    this.notifyCurrent = false;
+                }
+
+                try {
+                    this.consumer.accept(changes);
+                } catch (Exception e) {
+                    log.error("Unable to notify the flow changes up to version {}", changes.version(), e);
+                }
+            }
+        }
+
+        private FlowChanges changes() {
+            List<FlowWithSource> added = new ArrayList<>();
+            List<FlowWithSource> updated = new ArrayList<>();
+            List<FlowWithSource> removed = new ArrayList<>();
+
+            this.pending.forEach((key, previous) -> {
+                FlowWithSource current = flows.get(key);
+                if (previous == null && current != null) {
+                    added.add(current);
+                } else if (previous != null && current == null) {
+                    removed.add(previous);
+                } else if (previous != null && previous != current) {
+                    updated.add(current);
+                }
+            });
+
+            return new FlowChanges(version, snapshot(), added, updated, removed);
+        }
     }
 }
@@ -0,0 +1,205 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.tasks.NamespaceFiles;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.Namespace;
+import io.kestra.core.storages.NamespaceFile;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * A worker-local cache of namespace files, used to populate task working directories.
+ * <p>
+ * Files are keyed by tenant, namespace, path and version (the last modified time and size in the internal storage,
+ * read for all the files at once), so only new or updated files are downloaded. Cached files are copied into the
+ * working directories, so a task modifying its files never changes the cache or the files of another task.
+ * The least recently used files are evicted once the cache exceeds its maximum size.
+ */
+@Singleton
+@Slf4j
+public class NamespaceFilesCache {
+    private static final String CACHE_DIRECTORY = "kestra-namespace-files-cache";
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Value("${kestra.tasks.tmp-dir.path}")
+    protected Optional<String> tmpdirPath;
+
+    @Value("${kestra.tasks.namespace-files.cache.enabled:true}")
+    protected boolean enabled;
+
+    @Value("${kestra.tasks.namespace-files.cache.max-size:1073741824}")
+    protected long maxSize;
+
+    // access-ordered, the first entry is the least recently used one
+    private final LinkedHashMap<String, CachedFile> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long currentSize = 0;
+    private Path cacheDirectory;
+
+    @PostConstruct
+    void init() throws IOException {
+        if (!this.enabled) {
+            return;
+        }
+
+        // each instance uses its own directory as the files are only tracked in memory
+        this.cacheDirectory = Path.of(tmpdirPath.orElse(System.getProperty("java.io.tmpdir")), CACHE_DIRECTORY, IdUtils.create());
+        Files.createDirectories(this.cacheDirectory);
+    }
+
+    @PreDestroy
+    void close() {
+        if (this.cacheDirectory != null) {
+            FileUtils.deleteQuietly(this.cacheDirectory.toFile());
+        }
+    }
+
+    /**
+     * Loads the namespace files matching the given configuration into the working directory of the run context.
+     *
+     * @param runContext     The run context.
+     * @param namespaceFiles The namespace files configuration.
+     */
+    public void populate(RunContext runContext, NamespaceFiles namespaceFiles) throws Exception {
+        long start = System.nanoTime();
+
+        Namespace namespace = runContext.storage().namespace();
+        List<NamespaceFile> matched = namespace.findAllFilesMatching(namespaceFiles.getInclude(), namespaceFiles.getExclude());
+        Map<String, FileAttributes> allAttributes = this.attributes(namespace, matched);
+
+        for (NamespaceFile namespaceFile : matched) {
+            Path target = runContext.workingDir().resolve(Path.of(namespaceFile.path()));
+            FileAttributes attributes = allAttributes.get(namespaceFile.path());
+            if (attributes == null) {
+                this.download(runContext, namespaceFile, target);
+                continue;
+            }
+
+            String key = IdUtils.from(String.join("|",
+                String.valueOf(runContext.flowInfo().tenantId()),
+                namespaceFile.namespace(),
+                namespaceFile.path(),
+                String.valueOf(attributes.getLastModifiedTime()),
+                String.valueOf(attributes.getSize())
+            ));
+
+            Path cached = this.get(key);
+            if (cached != null) {
+                metricRegistry.counter(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_HIT_COUNT).increment();
+                metricRegistry.counter(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_SAVED_BYTES).increment(attributes.getSize());
+            } else {
+                metricRegistry.counter(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_MISS_COUNT).increment();
+                Path downloaded = Files.createTempFile(this.cacheDirectory, "download", ".tmp");
+                this.download(runContext, namespaceFile, downloaded);
+                cached = this.put(key, downloaded);
+            }
+
+            try {
+                this.copy(cached, target);
+            } catch (NoSuchFileException e) {
+                // the file has been evicted in the meantime
+                this.download(runContext, namespaceFile, target);
+            }
+        }
+
+        metricRegistry
+            .timer(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_POPULATE_DURATION)
+            .record(Duration.ofNanos(System.nanoTime() - start));
+
+        if (runContext.logger().isTraceEnabled()) {
+            runContext.logger().trace("Loaded {} namespace file(s).", matched.size());
+        }
+    }
+
+    private void download(RunContext runContext, NamespaceFile namespaceFile, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        try (InputStream content = runContext.storage().getFile(namespaceFile.uri())) {
+            Files.copy(content, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Reads the attributes of all the files at once, none are returned when the cache is disabled or when
+     * the namespace doesn't support reading them, so all the files are downloaded.
+     */
+    private Map<String, FileAttributes> attributes(Namespace namespace, List<NamespaceFile> files) throws IOException {
+        if (!this.enabled) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            return namespace.getFilesAttributes(files);
+        } catch (UnsupportedOperationException e) {
+            log.debug("Namespace files of '{}' can't be cached: {}", namespace.namespace(), e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    private void copy(Path cached, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        Files.copy(cached, target, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private synchronized Path get(String key) {
+        return Optional.ofNullable(this.files.get(key)).map(CachedFile::path).orElse(null);
+    }
+
+    private synchronized Path put(String key, Path downloaded) throws IOException {
+        Path path = this.cacheDirectory.resolve(key);
+        Files.move(downloaded, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+        CachedFile previous = this.files.put(key, new CachedFile(path, Files.size(path)));
+        if (previous != null) {
+            this.currentSize -= previous.size();
+        }
+        this.currentSize += Files.size(path);
+
+        Iterator<Map.Entry<String, CachedFile>> iterator = this.files.entrySet().iterator();
+        while (this.currentSize > this.maxSize && iterator.hasNext()) {
+            Map.Entry<String, CachedFile> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                // always keep the file we just added, even if it's larger than the cache
+                continue;
+            }
+
+            iterator.remove();
+            this.delete(eldest.getValue());
+        }
+
+        return path;
+    }
+
+    private void delete(CachedFile cachedFile) {
+        this.currentSize -= cachedFile.size();
+        try {
+            Files.deleteIfExists(cachedFile.path());
+        } catch (IOException e) {
+            log.warn("Unable to delete the cached namespace file '{}'", cachedFile.path(), e);
+        }
+    }
+
+    private record CachedFile(Path path, long size) {
+    }
+}
@@ -1,5 +1,6 @@
 package io.kestra.core.runners;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.ImmutableMap;
 import io.kestra.core.models.Label;
 import io.kestra.core.models.executions.Execution;
@@ -16,11 +17,14 @@ import lombok.With;
 
 import java.security.GeneralSecurityException;
 import java.util.AbstractMap;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -220,32 +224,17 @@ public final class RunVariables {
                 builder.put("execution", executionMap.build());
 
                 if (execution.getTaskRunList() != null) {
-                    Map<String, Object> outputs = new HashMap<>(execution.outputs());
-                    if (decryptVariables) {
-                        final Secret secret = new Secret(secretKey, logger);
-                        outputs = secret.decrypt(outputs);
-                    }
-                    builder.put("outputs", outputs);
-
-                    Map<String, Object> tasksMap = new HashMap<>();
-
-                    execution.getTaskRunList().forEach(taskRun -> {
-                        if (taskRun.getState() != null) {
-                            if (taskRun.getValue() == null) {
-                                tasksMap.put(taskRun.getTaskId(), Map.of("state", taskRun.getState().getCurrent()));
-                            } else {
-                                if (tasksMap.containsKey(taskRun.getTaskId())) {
-                                    Map<String, Object> taskRunMap = new HashMap<>((Map<String, Object>) tasksMap.get(taskRun.getTaskId()));
-                                    taskRunMap.put(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent()));
-                                    tasksMap.put(taskRun.getTaskId(), taskRunMap);
-                                } else {
-                                    tasksMap.put(taskRun.getTaskId(), Map.of(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent())));
-                                }
-                            }
+                    // outputs and tasks are costly on large executions, they are only computed if a template reads them
+                    builder.put("outputs", new LazyMap(() -> {
+                        Map<String, Object> outputs = new HashMap<>(execution.outputs());
+                        if (decryptVariables) {
+                            final Secret secret = new Secret(secretKey, logger);
+                            outputs = secret.decrypt(outputs);
                         }
-                    });
+                        return outputs;
+                    }));
 
-                    builder.put("tasks", tasksMap);
+                    builder.put("tasks", new LazyMap(() -> tasks(execution)));
                 }
 
                 // Inputs
@@ -331,6 +320,61 @@ public final class RunVariables {
         }
     }
 
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> tasks(Execution execution) {
+        Map<String, Object> tasksMap = new HashMap<>();
+
+        execution.getTaskRunList().forEach(taskRun -> {
+            if (taskRun.getState() != null) {
+                if (taskRun.getValue() == null) {
+                    tasksMap.put(taskRun.getTaskId(), Map.of("state", taskRun.getState().getCurrent()));
+                } else {
+                    // the map of values is only copied once, when replacing the state of a task run without value
+                    Object current = tasksMap.get(taskRun.getTaskId());
+                    Map<String, Object> taskRunMap = current instanceof HashMap ?
+                        (Map<String, Object>) current :
+                        current == null ? new HashMap<>() : new HashMap<>((Map<String, Object>) current);
+
+                    taskRunMap.put(taskRun.getValue(), Map.of("state", taskRun.getState().getCurrent()));
+                    tasksMap.put(taskRun.getTaskId(), taskRunMap);
+                }
+            }
+        });
+
+        return tasksMap;
+    }
+
+    /**
+     * A read-only map computed on first access and memoized, so a variable is only built if it's used.
+     */
+    static final class LazyMap extends AbstractMap<String, Object> {
+        private final Supplier<Map<String, Object>> delegate;
+
+        LazyMap(Supplier<Map<String, Object>> supplier) {
+            this.delegate = Suppliers.memoize(supplier::get);
+        }
+
+        @Override
+        public Object get(Object key) {
+            return delegate.get().get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return delegate.get().containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return delegate.get().size();
+        }
+
+        @Override
+        public Set<Entry<String, Object>> entrySet() {
+            return Collections.unmodifiableMap(delegate.get()).entrySet();
+        }
+    }
+
     private static Map.Entry<String, Object> mapLabel(Label label) {
         if (label.key().startsWith(Label.SYSTEM_PREFIX)) {
             return Map.entry(
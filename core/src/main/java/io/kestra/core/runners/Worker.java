@@ -531,13 +531,15 @@ public class Worker implements Service, Runnable, AutoCloseable {
     }
 
     private WorkerTaskResult run(WorkerTask workerTask, Boolean cleanUp) {
+        String[] tags = metricRegistry.tags(workerTask, workerGroup);
+
         metricRegistry
-            .counter(MetricRegistry.METRIC_WORKER_STARTED_COUNT, metricRegistry.tags(workerTask, workerGroup))
+            .counter(MetricRegistry.METRIC_WORKER_STARTED_COUNT, tags)
             .increment();
 
         if (workerTask.getTaskRun().getState().getCurrent() == CREATED) {
             metricRegistry
-                .timer(MetricRegistry.METRIC_WORKER_QUEUED_DURATION, metricRegistry.tags(workerTask, workerGroup))
+                .timer(MetricRegistry.METRIC_WORKER_QUEUED_DURATION, tags)
                 .record(Duration.between(
                     workerTask.getTaskRun().getState().getStartDate(), Instant.now()
                 ));
@@ -645,12 +647,14 @@ public class Worker implements Service, Runnable, AutoCloseable {
     }
 
     private void logTerminated(WorkerTask workerTask) {
+        String[] tags = metricRegistry.tags(workerTask, workerGroup);
+
         metricRegistry
-            .counter(MetricRegistry.METRIC_WORKER_ENDED_COUNT, metricRegistry.tags(workerTask, workerGroup))
+            .counter(MetricRegistry.METRIC_WORKER_ENDED_COUNT, tags)
             .increment();
 
         metricRegistry
-            .timer(MetricRegistry.METRIC_WORKER_ENDED_DURATION, metricRegistry.tags(workerTask, workerGroup))
+            .timer(MetricRegistry.METRIC_WORKER_ENDED_DURATION, tags)
             .record(workerTask.getTaskRun().getState().getDuration());
 
         logService.logTaskRun(
@@ -735,14 +739,16 @@ public class Worker implements Service, Runnable, AutoCloseable {
             .withState(state)
             .withLogFile(runContext.logFileURI());
 
-        // metrics
-        runContext.metrics().forEach(metric -> {
-            try {
-                this.metricEntryQueue.emit(MetricEntry.of(workerTask.getTaskRun(), metric));
-            } catch (QueueException e) {
-                // fail silently
-            }
-        });
+        // metrics, already aggregated by series in the run context
+        try {
+            this.metricEntryQueue.emitBatch(runContext.metrics()
+                .stream()
+                .map(metric -> MetricEntry.of(workerTask.getTaskRun(), metric))
+                .toList()
+            );
+        } catch (QueueException e) {
+            // fail silently
+        }
 
         // save outputs
         List<TaskRunAttempt> attempts = this.addAttempt(workerTask, taskRunAttempt);
@@ -3,6 +3,7 @@ package io.kestra.core.runners;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.tasks.Task;
+import io.micronaut.core.annotation.Nullable;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
@@ -22,10 +23,20 @@ public class WorkerTaskRunning extends WorkerJobRunning {
     @NotNull
     private TaskRun taskRun;
 
-    @NotNull
+    /**
+     * Only set on records written by previous versions, the task is now resolved from the execution when the worker
+     * job needs to be resubmitted.
+     */
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Task task;
 
-    @NotNull
+    /**
+     * Only set on records written by previous versions, the run context is now rebuilt from the execution when the
+     * worker job needs to be resubmitted.
+     */
+    @Nullable
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private RunContext runContext;
 
     /**
@@ -41,8 +52,6 @@ public class WorkerTaskRunning extends WorkerJobRunning {
             .workerInstance(workerInstance)
             .partition(partition)
             .taskRun(workerTask.getTaskRun())
-            .task(workerTask.getTask())
-            .runContext(workerTask.getRunContext())
             .build();
     }
 }
\ No newline at end of file
@@ -157,7 +157,7 @@ public abstract class AbstractServiceLivenessCoordinator extends AbstractService
 
     protected void handleAllServicesForTerminatedStates(final Instant now) {
         store
-            .findAllInstancesInStates(Set.of(DISCONNECTED, TERMINATING, TERMINATED_GRACEFULLY, TERMINATED_FORCED))
+            .findAllInstancesDueBefore(Set.of(DISCONNECTED, TERMINATING, TERMINATED_GRACEFULLY, TERMINATED_FORCED), now)
             .stream()
             .filter(instance -> !instance.is(Service.ServiceType.WORKER)) // WORKERS are handle above.
             .filter(instance -> instance.isTerminationGracePeriodElapsed(now))
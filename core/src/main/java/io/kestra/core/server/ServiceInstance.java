@@ -226,6 +226,33 @@ public record ServiceInstance(
         return this.updatedAt().plus(terminationGracePeriod).isBefore(now);
     }
 
+    /**
+     * Gets the next instant at which the liveness coordinator has to check this service:
+     * the session timeout for a running service, the termination grace period for a disconnected
+     * or terminating service, and the last update for a terminated one.
+     * <p>
+     * This value is stored with the service so the coordinator can only scan the services that are due.
+     *
+     * @return the {@link Instant}, or {@code null} if the service is not to be checked anymore.
+     */
+    @JsonProperty("nextDeadline")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public Instant nextDeadline() {
+        if (this.updatedAt == null || this.config == null || this.state == ServiceState.EMPTY) {
+            return null;
+        }
+
+        if (this.state.isRunning()) {
+            return this.updatedAt.plus(this.config.liveness().timeout());
+        }
+
+        if (this.state.isDisconnectedOrTerminating()) {
+            return this.updatedAt.plus(this.config.terminationGracePeriod());
+        }
+
+        return this.updatedAt;
+    }
+
     /**
      * A timestamped event value.
      *
@@ -10,7 +10,9 @@ import org.slf4j.LoggerFactory;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -130,30 +132,29 @@ public class ServiceLivenessManager extends AbstractServiceLivenessTask {
             return;
         }
 
-        // Try to update the state of each service.
-        serviceRegistry.all().stream()
+        final long start = System.currentTimeMillis();
+
+        // Execute the before hook for each service.
+        List<Service> services = serviceRegistry.all().stream()
             .filter(localServiceState -> localServiceState.isStateUpdatable().get())
-            .forEach(localServiceState -> {
-                final long start = System.currentTimeMillis();
-                final Service service = localServiceState.service();
+            .filter(localServiceState -> beforeScheduledStateUpdate(now, localServiceState.service(), localServiceState.instance()))
+            .map(LocalServiceState::service)
+            .toList();
 
-                // Execute the before hook.
-                if (!beforeScheduledStateUpdate(now, service, localServiceState.instance())) {
-                    return;
-                }
+        // Execute state update for all services at once (i.e., heartbeat).
+        List<ServiceInstance> instances = services.size() == 1 ?
+            Optional.ofNullable(updateServiceInstanceState(now, services.getFirst(), null, onStateTransitionFailureCallback)).stream().toList() :
+            updateServiceInstanceStates(now, services, onStateTransitionFailureCallback);
 
-                // Execute state update for current service (i.e., heartbeat).
-                ServiceInstance instance = updateServiceInstanceState(now, service, null, onStateTransitionFailureCallback);
-                if (log.isTraceEnabled() && instance != null) {
-                    log.trace("[Service id={}, type={}, hostname='{}'] Completed scheduled state update: '{}' ({}ms).",
-                        instance.uid(),
-                        instance.type(),
-                        instance.server().hostname(),
-                        instance.state(),
-                        System.currentTimeMillis() - start
-                    );
-                }
-            });
+        if (log.isTraceEnabled()) {
+            instances.forEach(instance -> log.trace("[Service id={}, type={}, hostname='{}'] Completed scheduled state update: '{}' ({}ms).",
+                instance.uid(),
+                instance.type(),
+                instance.server().hostname(),
+                instance.state(),
+                System.currentTimeMillis() - start
+            ));
+        }
     }
 
     /**
@@ -232,39 +233,7 @@ public class ServiceLivenessManager extends AbstractServiceLivenessTask {
                 .server(serverInstanceFactory.newServerInstance());
 
             ServiceStateTransition.Response response = serviceLivenessUpdater.update(localInstance, newState);
-            ServiceInstance remoteInstance = response.instance();
-
-            boolean isStateTransitionSucceed = response.is(Result.SUCCEEDED);
-
-            if (response.is(Result.ABORTED)) {
-                // Force state transition due to inconsistent state; remote state does not exist (yet).
-                remoteInstance = localInstance.state(newState, now);
-                serviceLivenessUpdater.update(remoteInstance);
-                isStateTransitionSucceed = true;
-            }
-
-            if (response.is(Result.FAILED)) {
-                mayDisableStateUpdate(service, remoteInstance);
-
-                // Register the OnStateTransitionFailureCallback
-                final ServiceInstance instance = remoteInstance;
-                returnCallback = () -> {
-                    Optional<ServiceInstance> result = onStateChangeError.execute(now, service, instance, isLivenessEnabled());
-                    if (result.isPresent()) {
-                        // Optionally recover from state-transition failure
-                        final ServiceInstance recovered = result.get();
-                        serviceLivenessUpdater.update(recovered);
-                        this.serviceRegistry.register(localServiceState(service).with(recovered));
-                        this.lastSucceedStateUpdated = now;
-                    }
-                };
-            }
-
-            if (isStateTransitionSucceed) {
-                this.lastSucceedStateUpdated = now;
-            }
-            // Update the local instance
-            this.serviceRegistry.register(localServiceState.with(remoteInstance));
+            returnCallback = onStateUpdateResponse(now, service, localServiceState, localInstance, newState, response, onStateChangeError);
         } catch (Exception e) {
             final ServiceInstance localInstance = localServiceState(service).instance();
             log.error("[Service id={}, type='{}', hostname='{}'] Failed to update state to {}. Error: {}",
@@ -285,6 +254,126 @@ public class ServiceLivenessManager extends AbstractServiceLivenessTask {
         return localServiceState(service).instance();
     }
 
+    /**
+     * Updates several services with their current state (i.e., heartbeats), in a single call to the {@link ServiceLivenessUpdater}.
+     *
+     * @param onStateChangeError the callback to invoke if the state of a service cannot be changed.
+     * @return the updated {@link ServiceInstance}s of the services which are still registered.
+     */
+    protected List<ServiceInstance> updateServiceInstanceStates(final Instant now,
+                                                                final List<Service> services,
+                                                                final OnStateTransitionFailureCallback onStateChangeError) {
+        if (services.isEmpty()) {
+            return List.of();
+        }
+
+        List<LocalServiceState> localServiceStates = services.stream()
+            .map(this::localServiceState)
+            .filter(Objects::nonNull) // service has been unregistered.
+            .toList();
+
+        // Ensure only one thread can update any instance at a time.
+        stateLock.lock();
+        // Optional callbacks to be executed at the end.
+        List<Runnable> returnCallbacks = new ArrayList<>();
+        try {
+            // Get an updated view of the local instances.
+            final ServerInstance serverInstance = serverInstanceFactory.newServerInstance();
+            final List<ServiceInstance> localInstances = localServiceStates.stream()
+                .map(localServiceState -> localServiceState.instance()
+                    .metrics(localServiceState.service().getMetrics())
+                    .server(serverInstance)
+                )
+                .toList();
+
+            List<ServiceStateTransition.Response> responses = serviceLivenessUpdater.updateAll(localInstances);
+
+            for (int i = 0; i < localServiceStates.size(); i++) {
+                LocalServiceState localServiceState = localServiceStates.get(i);
+                ServiceInstance localInstance = localInstances.get(i);
+                Runnable returnCallback = onStateUpdateResponse(
+                    now,
+                    localServiceState.service(),
+                    localServiceState,
+                    localInstance,
+                    localInstance.state(),
+                    responses.get(i),
+                    onStateChangeError
+                );
+                if (returnCallback != null) {
+                    returnCallbacks.add(returnCallback);
+                }
+            }
+        } catch (Exception e) {
+            log.error("[Service ids={}] Failed to update states. Error: {}",
+                localServiceStates.stream().map(localServiceState -> localServiceState.instance().uid()).toList(),
+                e.getMessage()
+            );
+        } finally {
+            stateLock.unlock();
+            // Because the callbacks may trigger a new thread that will update
+            // the service instances we must ensure that we run them after calling unlock.
+            returnCallbacks.forEach(Runnable::run);
+        }
+
+        return services.stream()
+            .map(this::localServiceState)
+            .filter(Objects::nonNull)
+            .map(LocalServiceState::instance)
+            .toList();
+    }
+
+    /**
+     * Applies the response of a state update to the local state of the given service.
+     * This method must be called while holding the state lock.
+     *
+     * @return the callback to run once the state lock is released, or {@code null}.
+     */
+    private Runnable onStateUpdateResponse(final Instant now,
+                                           final Service service,
+                                           final LocalServiceState localServiceState,
+                                           final ServiceInstance localInstance,
+                                           final Service.ServiceState newState,
+                                           final ServiceStateTransition.Response response,
+                                           final OnStateTransitionFailureCallback onStateChangeError) {
+        Runnable returnCallback = null;
+        ServiceInstance remoteInstance = response.instance();
+
+        boolean isStateTransitionSucceed = response.is(Result.SUCCEEDED);
+
+        if (response.is(Result.ABORTED)) {
+            // Force state transition due to inconsistent state; remote state does not exist (yet).
+            remoteInstance = localInstance.state(newState, now);
+            serviceLivenessUpdater.update(remoteInstance);
+            isStateTransitionSucceed = true;
+        }
+
+        if (response.is(Result.FAILED)) {
+            mayDisableStateUpdate(service, remoteInstance);
+
+            // Register the OnStateTransitionFailureCallback
+            final ServiceInstance instance = remoteInstance;
+            returnCallback = () -> {
+                Optional<ServiceInstance> result = onStateChangeError.execute(now, service, instance, isLivenessEnabled());
+                if (result.isPresent()) {
+                    // Optionally recover from state-transition failure
+                    final ServiceInstance recovered = result.get();
+                    serviceLivenessUpdater.update(recovered);
+                    this.serviceRegistry.register(localServiceState(service).with(recovered));
+                    this.lastSucceedStateUpdated = now;
+                }
+            };
+        }
+
+        if (isStateTransitionSucceed) {
+            this.lastSucceedStateUpdated = now;
+        }
+        // Update the local instance
+        this.serviceRegistry.register(localServiceState.with(remoteInstance));
+
+        return returnCallback;
+    }
+
     private void mayDisableStateUpdate(final Service service, final ServiceInstance instance) {
         Service.ServiceState actualState = instance.state();
         if (actualState.hasCompletedTermination()) {
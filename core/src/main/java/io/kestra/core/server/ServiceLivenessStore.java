@@ -2,6 +2,7 @@ package io.kestra.core.server;
 
 import io.kestra.core.server.Service.ServiceState;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 
@@ -22,4 +23,19 @@ public interface ServiceLivenessStore  {
      * @return the list of {@link ServiceInstance}.
      */
     List<ServiceInstance> findAllInstancesInStates(Set<ServiceState> states);
+
+    /**
+     * Finds all service instances which are in one of the given states and whose
+     * {@link ServiceInstance#nextDeadline()} is before the given instant.
+     *
+     * @param states the state of services.
+     * @param now    the instant.
+     *
+     * @return the list of {@link ServiceInstance}.
+     */
+    default List<ServiceInstance> findAllInstancesDueBefore(Set<ServiceState> states, Instant now) {
+        return findAllInstancesInStates(states).stream()
+            .filter(instance -> instance.nextDeadline() == null || instance.nextDeadline().isBefore(now))
+            .toList();
+    }
 }
@@ -1,5 +1,6 @@
 package io.kestra.core.server;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -51,4 +52,20 @@ public interface ServiceLivenessUpdater {
     ServiceStateTransition.Response update(final ServiceInstance instance,
                                            final Service.ServiceState newState,
                                            final String reason);
+
+    /**
+     * Attempts to update several existing services to their current state, e.g. for the heartbeats of all the services
+     * of a server.
+     *
+     * <p>
+     * Implementations should update all the services at once when possible.
+     *
+     * @param instances The service instances, each one with the state to update to.
+     * @return the responses, in the same order as the given instances.
+     */
+    default List<ServiceStateTransition.Response> updateAll(final List<ServiceInstance> instances) {
+        return instances.stream()
+            .map(instance -> update(instance, instance.state()))
+            .toList();
+    }
 }
@@ -0,0 +1,284 @@
+package io.kestra.core.services;
+
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.StorageContext;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.annotation.Value;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import org.apache.commons.io.input.CountingInputStream;
+
+import java.io.ByteArrayInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.regex.Pattern;
+
+/**
+ * Service for uploading execution input files, either directly from a stream or as a resumable chunked upload.
+ * <p>
+ * A chunked upload is a session in which parts are uploaded independently, possibly retried, then assembled into
+ * a single file. The resulting {@code kestra:///_uploads/...} URI can be used as the value of a {@code FILE} input,
+ * the file being copied to the execution storage when the execution is created.
+ * <p>
+ * A session is kept until it expires, so the same upload can be used again if the creation of the execution fails.
+ * Expired sessions of a tenant are deleted when a new session is created.
+ */
+@Singleton
+public class FileUploadService {
+    public static final int MAX_PARTS = 10_000;
+
+    private static final String SESSION_MARKER = ".session";
+    private static final String PARTS_DIRECTORY = "parts";
+    private static final Pattern SESSION_ID_PATTERN = Pattern.compile("[a-zA-Z0-9]+");
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Value("${kestra.uploads.session-ttl:1d}")
+    private Duration sessionTtl;
+
+    /**
+     * Stores an execution input file from the given stream, without buffering it.
+     *
+     * @param execution The execution.
+     * @param input     The input id.
+     * @param fileName  The name of the stored file.
+     * @param data      The file content.
+     * @return the URI of the stored file, or {@code null} if the stream is empty.
+     */
+    @Nullable
+    public URI putInput(Execution execution, String input, String fileName, InputStream data) throws IOException {
+        long start = System.nanoTime();
+        URI uri = StorageContext.forInput(execution, input, fileName).getContextStorageURI();
+
+        try (CountingInputStream counting = new CountingInputStream(data)) {
+            URI stored = storageInterface.put(execution.getTenantId(), execution.getNamespace(), uri, counting);
+            if (counting.getByteCount() == 0) {
+                storageInterface.delete(execution.getTenantId(), execution.getNamespace(), stored);
+                return null;
+            }
+
+            this.record("stream", counting.getByteCount(), start);
+            return stored;
+        }
+    }
+
+    /**
+     * Creates a new chunked upload session.
+     *
+     * @param tenantId The tenant.
+     * @return the session id.
+     */
+    public String createSession(@Nullable String tenantId) throws IOException {
+        this.deleteExpiredSessions(tenantId);
+
+        String id = IdUtils.create();
+        storageInterface.put(tenantId, null, this.sessionUri(id, SESSION_MARKER), new ByteArrayInputStream(new byte[0]));
+
+        return id;
+    }
+
+    /**
+     * Stores a part of a chunked upload, replacing any previous upload of the same part.
+     *
+     * @param tenantId The tenant.
+     * @param id       The session id.
+     * @param number   The part number, from 1 to {@link #MAX_PARTS}, parts are assembled in this order.
+     * @param data     The part content.
+     * @return the size of the part.
+     */
+    public long putPart(@Nullable String tenantId, String id, int number, InputStream data) throws IOException {
+        this.checkSession(tenantId, id);
+        if (number < 1 || number > MAX_PARTS) {
+            throw new IllegalArgumentException("Part number must be between 1 and " + MAX_PARTS + ", got " + number);
+        }
+
+        long start = System.nanoTime();
+        try (CountingInputStream counting = new CountingInputStream(data)) {
+            storageInterface.put(tenantId, null, this.partUri(id, number), counting);
+            this.record("chunked", counting.getByteCount(), start);
+
+            return counting.getByteCount();
+        }
+    }
+
+    /**
+     * Lists the parts already uploaded for a session, so an interrupted upload can be resumed.
+     *
+     * @param tenantId The tenant.
+     * @param id       The session id.
+     * @return the uploaded parts, ordered by part number.
+     */
+    public List<Part> parts(@Nullable String tenantId, String id) throws IOException {
+        this.checkSession(tenantId, id);
+
+        List<FileAttributes> files;
+        try {
+            files = storageInterface.list(tenantId, null, this.sessionUri(id, PARTS_DIRECTORY));
+        } catch (FileNotFoundException e) {
+            return Collections.emptyList();
+        }
+
+        return files.stream()
+            .map(file -> new Part(Integer.parseInt(file.getFileName()), file.getSize()))
+            .sorted((a, b) -> Integer.compare(a.number(), b.number()))
+            .toList();
+    }
+
+    /**
+     * Assembles the parts of a session into a single file, then deletes the parts.
+     *
+     * @param tenantId The tenant.
+     * @param id       The session id.
+     * @param fileName The name of the assembled file.
+     * @return the URI of the assembled file, to be used as the value of a {@code FILE} input.
+     */
+    public URI complete(@Nullable String tenantId, String id, String fileName) throws IOException {
+        List<Part> parts = this.parts(tenantId, id);
+        if (parts.isEmpty()) {
+            throw new IllegalArgumentException("Upload '" + id + "' has no part");
+        }
+
+        String name = Path.of(fileName).getFileName().toString();
+        Iterator<Part> iterator = parts.iterator();
+        // parts are opened one at a time so memory stays bounded whatever the file size
+        try (InputStream assembled = new SequenceInputStream(new Enumeration<>() {
+            @Override
+            public boolean hasMoreElements() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public InputStream nextElement() {
+                if (!iterator.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+
+                try {
+                    return storageInterface.get(tenantId, null, partUri(id, iterator.next().number()));
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        })) {
+            URI uri = storageInterface.put(tenantId, null, this.sessionUri(id, name), assembled);
+            storageInterface.deleteByPrefix(tenantId, null, this.sessionUri(id, PARTS_DIRECTORY));
+
+            return uri;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Checks whether the given URI is the result of a chunked upload.
+     */
+    public static boolean isUpload(URI uri) {
+        return StorageContext.KESTRA_SCHEME.equals(uri.getScheme()) && uri.getPath().startsWith(StorageContext.PREFIX_UPLOADS + "/");
+    }
+
+    /**
+     * Copies the file of a completed chunked upload to the storage of the execution input.
+     * <p>
+     * The session is not deleted as the execution may still fail to be validated or saved, it's deleted when it expires.
+     *
+     * @param execution The execution.
+     * @param input     The input id.
+     * @param upload    The URI of the completed upload.
+     * @return the URI of the execution input file.
+     */
+    public URI moveToExecution(Execution execution, String input, URI upload) throws IOException {
+        String[] segments = upload.getPath().substring(StorageContext.PREFIX_UPLOADS.length() + 1).split("/");
+        if (segments.length != 2 || !SESSION_ID_PATTERN.matcher(segments[0]).matches()) {
+            throw new IllegalArgumentException("Invalid upload URI '" + upload + "'");
+        }
+
+        URI uri = StorageContext.forInput(execution, input, segments[1]).getContextStorageURI();
+        URI moved;
+        // the storage may not be able to move a file to a location that doesn't exist yet, so it's copied
+        try (InputStream inputStream = storageInterface.get(execution.getTenantId(), null, upload)) {
+            moved = storageInterface.put(execution.getTenantId(), execution.getNamespace(), uri, inputStream);
+        }
+
+        return moved;
+    }
+
+    private void deleteExpiredSessions(@Nullable String tenantId) throws IOException {
+        List<FileAttributes> sessions;
+        try {
+            sessions = storageInterface.list(tenantId, null, URI.create(StorageContext.KESTRA_PROTOCOL + StorageContext.PREFIX_UPLOADS));
+        } catch (FileNotFoundException e) {
+            return;
+        }
+
+        long expiration = System.currentTimeMillis() - sessionTtl.toMillis();
+        for (FileAttributes session : sessions) {
+            String id = session.getFileName();
+            if (session.getType() != FileAttributes.FileType.Directory || !SESSION_ID_PATTERN.matcher(id).matches()) {
+                continue;
+            }
+
+            long created;
+            try {
+                created = storageInterface.getAttributes(tenantId, null, this.sessionUri(id, SESSION_MARKER)).getLastModifiedTime();
+            } catch (FileNotFoundException e) {
+                // a session without marker is a leftover of a partial deletion
+                created = session.getLastModifiedTime();
+            }
+
+            if (created < expiration) {
+                storageInterface.deleteByPrefix(tenantId, null, URI.create(StorageContext.KESTRA_PROTOCOL + StorageContext.PREFIX_UPLOADS + "/" + id));
+            }
+        }
+    }
+
+    private void checkSession(@Nullable String tenantId, String id) {
+        if (!SESSION_ID_PATTERN.matcher(id).matches() || !storageInterface.exists(tenantId, null, this.sessionUri(id, SESSION_MARKER))) {
+            throw new NoSuchElementException("Unable to find upload '" + id + "'");
+        }
+    }
+
+    private URI sessionUri(String id, String name) {
+        return URI.create(StorageContext.KESTRA_PROTOCOL + StorageContext.PREFIX_UPLOADS + "/" + id + "/" + name);
+    }
+
+    private URI partUri(String id, int number) {
+        return URI.create(StorageContext.KESTRA_PROTOCOL + StorageContext.PREFIX_UPLOADS + "/" + id + "/" + PARTS_DIRECTORY + "/" + String.format("%05d", number));
+    }
+
+    private void record(String mode, long bytes, long start) {
+        metricRegistry
+            .summary(MetricRegistry.EXECUTION_INPUT_UPLOAD_SIZE, MetricRegistry.TAG_UPLOAD_MODE, mode)
+            .record(bytes);
+        metricRegistry
+            .timer(MetricRegistry.EXECUTION_INPUT_UPLOAD_DURATION, MetricRegistry.TAG_UPLOAD_MODE, mode)
+            .record(Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    /**
+     * An uploaded part.
+     *
+     * @param number The part number.
+     * @param size   The part size in bytes.
+     */
+    public record Part(int number, long size) {
+    }
+}
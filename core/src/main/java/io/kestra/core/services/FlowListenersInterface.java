@@ -3,6 +3,7 @@ package io.kestra.core.services;
 import io.kestra.core.models.flows.FlowWithSource;
 
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -13,5 +14,52 @@ public interface FlowListenersInterface {
 
     void listen(BiConsumer<FlowWithSource, FlowWithSource> consumer);
 
+    /**
+     * Listens to the changes of the flows, the consumer is called with the current flows first.
+     * <p>
+     * The default implementation delivers one change for each flow update, implementations may deliver
+     * the changes asynchronously and merge several updates into a single change.
+     */
+    default void listenChanges(Consumer<FlowChanges> consumer) {
+        AtomicLong version = new AtomicLong();
+
+        synchronized (this) {
+            List<FlowWithSource> flows = this.flows();
+            consumer.accept(new FlowChanges(version.get(), flows, flows, List.of(), List.of()));
+
+            this.listen((current, previous) -> {
+                List<FlowWithSource> changed = current.isDeleted() ? List.of() : List.of(current);
+                consumer.accept(new FlowChanges(
+                    version.incrementAndGet(),
+                    this.flows(),
+                    previous == null ? changed : List.of(),
+                    previous == null ? List.of() : changed,
+                    current.isDeleted() && previous != null ? List.of(previous) : List.of()
+                ));
+            });
+        }
+    }
+
     List<FlowWithSource> flows();
+
+    /**
+     * The changes of the flows since the last delivered version.
+     *
+     * @param version The version of the flows, incremented for each flow update.
+     * @param flows   The last version of all the flows, as an immutable list.
+     * @param added   The flows created since the last delivered version.
+     * @param updated The flows updated since the last delivered version, with their last revision.
+     * @param removed The flows deleted since the last delivered version, as they were before their deletion.
+     */
+    record FlowChanges(
+        long version,
+        List<FlowWithSource> flows,
+        List<FlowWithSource> added,
+        List<FlowWithSource> updated,
+        List<FlowWithSource> removed
+    ) {
+        public boolean isEmpty() {
+            return added.isEmpty() && updated.isEmpty() && removed.isEmpty();
+        }
+    }
 }
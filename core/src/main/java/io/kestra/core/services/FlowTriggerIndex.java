@@ -0,0 +1,105 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.models.triggers.multipleflows.MultipleCondition;
+import io.kestra.core.services.FlowTriggerService.FlowWithFlowTrigger;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.plugin.core.trigger.Flow;
+
+import java.util.*;
+
+/**
+ * An inverted index of the flow triggers, by listened execution state and upstream flow.
+ * <p>
+ * It is built once each time the flows change, so on each execution state change only the flow triggers that can
+ * possibly match the execution are evaluated, instead of all the flows.
+ * <p>
+ * A flow trigger is indexed by upstream flow only when its preconditions are exclusively a list of upstream flows,
+ * and they are reset on success, as in this case an execution that doesn't match any upstream flow can't trigger it.
+ * All other flow triggers are candidates for every execution in one of their listened states.
+ */
+public class FlowTriggerIndex {
+    private static final String SEPARATOR = "|";
+
+    private final Map<State.Type, Subscriptions> subscriptionsByState = new EnumMap<>(State.Type.class);
+    private final int size;
+
+    FlowTriggerIndex(List<FlowWithFlowTrigger> flowTriggers) {
+        for (FlowWithFlowTrigger flowTrigger : flowTriggers) {
+            Set<String> upstreams = upstreams(flowTrigger.getTrigger());
+
+            for (State.Type state : ListUtils.emptyOnNull(flowTrigger.getTrigger().getStates())) {
+                Subscriptions subscriptions = subscriptionsByState.computeIfAbsent(state, k -> new Subscriptions());
+                if (upstreams == null) {
+                    subscriptions.all.add(flowTrigger);
+                } else {
+                    upstreams.forEach(upstream -> subscriptions.byUpstream.computeIfAbsent(upstream, k -> new ArrayList<>()).add(flowTrigger));
+                }
+            }
+        }
+
+        this.size = flowTriggers.size();
+    }
+
+    /**
+     * @return the number of indexed flow triggers.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Finds the flow triggers that may be triggered by the given execution, their conditions still need to be evaluated.
+     *
+     * @param execution the execution whose state changed.
+     * @return the candidate flow triggers, each one only once.
+     */
+    public List<FlowWithFlowTrigger> candidates(Execution execution) {
+        Subscriptions subscriptions = subscriptionsByState.get(execution.getState().getCurrent());
+        if (subscriptions == null) {
+            return Collections.emptyList();
+        }
+
+        // a flow trigger can be indexed for several upstream flows that match the same execution
+        Set<FlowWithFlowTrigger> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        candidates.addAll(subscriptions.all);
+        candidates.addAll(subscriptions.byUpstream.getOrDefault(key(execution.getNamespace(), null), Collections.emptyList()));
+        candidates.addAll(subscriptions.byUpstream.getOrDefault(key(execution.getNamespace(), execution.getFlowId()), Collections.emptyList()));
+
+        return new ArrayList<>(candidates);
+    }
+
+    /**
+     * Returns the upstream flow keys of a flow trigger, or null if it must be evaluated for any execution.
+     */
+    private static Set<String> upstreams(Flow trigger) {
+        Flow.Preconditions preconditions = trigger.getPreconditions();
+        if (preconditions == null
+            || Boolean.FALSE.equals(preconditions.getResetOnSuccess())
+            || !ListUtils.isEmpty(preconditions.getWhere())
+            || ListUtils.isEmpty(preconditions.getFlows())
+            || ListUtils.emptyOnNull(trigger.getConditions()).stream().anyMatch(MultipleCondition.class::isInstance)) {
+            return null;
+        }
+
+        Set<String> upstreams = new HashSet<>();
+        for (Flow.UpstreamFlow upstreamFlow : preconditions.getFlows()) {
+            if (upstreamFlow.getNamespace() == null) {
+                return null;
+            }
+            upstreams.add(key(upstreamFlow.getNamespace(), upstreamFlow.getFlowId()));
+        }
+
+        return upstreams;
+    }
+
+    private static String key(String namespace, String flowId) {
+        return flowId == null ? namespace : namespace + SEPARATOR + flowId;
+    }
+
+    private static class Subscriptions {
+        private final List<FlowWithFlowTrigger> all = new ArrayList<>();
+        private final Map<String, List<FlowWithFlowTrigger>> byUpstream = new HashMap<>();
+    }
+}
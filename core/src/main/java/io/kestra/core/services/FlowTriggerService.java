@@ -48,16 +48,41 @@ public class FlowTriggerService {
             .map(io.kestra.plugin.core.trigger.Flow.class::cast);
     }
 
+    /**
+     * Builds the index of the enabled flow triggers of the given flows, to be rebuilt each time the flows change.
+     */
+    public FlowTriggerIndex index(List<Flow> allFlows) {
+        return new FlowTriggerIndex(enabledFlowTriggers(allFlows.stream()).toList());
+    }
+
     public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, List<Flow> allFlows, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
-        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = allFlows.stream()
-            // prevent recursive flow triggers
-            .filter(flow -> flowService.removeUnwanted(flow, execution))
+        Stream<FlowWithFlowTrigger> candidates = enabledFlowTriggers(allFlows.stream())
+            // filter on the execution state the flow listen to
+            .filter(flowWithFlowTrigger -> flowWithFlowTrigger.getTrigger().getStates().contains(execution.getState().getCurrent()));
+
+        return this.computeExecutionsFromFlowTriggers(execution, candidates, multipleConditionStorage);
+    }
+
+    /**
+     * Same as {@link #computeExecutionsFromFlowTriggers(Execution, List, Optional)}, but only evaluates the flow triggers
+     * of the index that may be triggered by the execution.
+     */
+    public List<Execution> computeExecutionsFromFlowTriggers(Execution execution, FlowTriggerIndex index, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
+        return this.computeExecutionsFromFlowTriggers(execution, index.candidates(execution).stream(), multipleConditionStorage);
+    }
+
+    private Stream<FlowWithFlowTrigger> enabledFlowTriggers(Stream<Flow> allFlows) {
+        return allFlows
             // ensure flow & triggers are enabled
             .filter(flow -> !flow.isDisabled() && !(flow instanceof FlowWithException))
             .filter(flow -> flow.getTriggers() != null && !flow.getTriggers().isEmpty())
-            .flatMap(flow -> flowTriggers(flow).map(trigger -> new FlowWithFlowTrigger(flow, trigger)))
-            // filter on the execution state the flow listen to
-            .filter(flowWithFlowTrigger -> flowWithFlowTrigger.getTrigger().getStates().contains(execution.getState().getCurrent()))
+            .flatMap(flow -> flowTriggers(flow).map(trigger -> new FlowWithFlowTrigger(flow, trigger)));
+    }
+
+    private List<Execution> computeExecutionsFromFlowTriggers(Execution execution, Stream<FlowWithFlowTrigger> candidates, Optional<MultipleConditionStorageInterface> multipleConditionStorage) {
+        List<FlowWithFlowTrigger> validTriggersBeforeMultipleConditionEval = candidates
+            // prevent recursive flow triggers
+            .filter(flowWithFlowTrigger -> flowService.removeUnwanted(flowWithFlowTrigger.getFlow(), execution))
             // validate flow triggers conditions excluding multiple conditions
             .filter(flowWithFlowTrigger -> conditionService.valid(
                 flowWithFlowTrigger.getFlow(),
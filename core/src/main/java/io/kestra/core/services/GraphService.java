@@ -1,11 +1,16 @@
 package io.kestra.core.services;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.FlowWithSource;
 import io.kestra.core.models.hierarchies.*;
 import io.kestra.core.models.tasks.ExecutableTask;
 import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.models.triggers.Trigger;
 import io.kestra.core.repositories.FlowRepositoryInterface;
 import io.kestra.core.repositories.TriggerRepositoryInterface;
@@ -17,6 +22,8 @@ import jakarta.inject.Inject;
 import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
 import java.util.stream.Stream;
 
@@ -34,16 +41,166 @@ public class GraphService {
     @Inject
     private RunContextFactory runContextFactory;
 
+    // the static graph of a flow revision only changes with its expanded subflows, so it is built once and only its
+    // triggers, which carry their current state, are refreshed on each request
+    private final Cache<FlowGraphKey, CachedFlowGraph> flowGraphs = CacheBuilder.newBuilder()
+        .maximumSize(500)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
+    // the graph of an execution is rebuilt only when its task runs changed since the last request
+    private final Cache<ExecutionGraphKey, CachedExecutionGraph> executionGraphs = CacheBuilder.newBuilder()
+        .maximumSize(100)
+        .expireAfterAccess(Duration.ofMinutes(10))
+        .build();
+
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows) throws IllegalVariableEvaluationException {
         return this.flowGraph(flow, expandedSubflows, null);
     }
 
     public FlowGraph flowGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException {
-        return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
+        List<String> subflows = Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList());
+
+        if (execution != null) {
+            return FlowGraph.of(this.of(flow, subflows, new HashMap<>(), execution));
+        }
+
+        // the source is part of the key as a flow parsed from a source may reuse the revision of a stored one
+        FlowGraphKey key = new FlowGraphKey(flow.getTenantId(), flow.getNamespace(), flow.getId(), flow.getRevision(), flow.getSource(), Set.copyOf(subflows));
+        CachedFlowGraph cached = this.flowGraphs.getIfPresent(key);
+        if (cached != null && this.isUpToDate(cached.latestSubflows())) {
+            return this.withCurrentTriggers(cached);
+        }
+
+        Map<String, FlowWithSource> flowByUid = new HashMap<>();
+        Map<AbstractTrigger, FlowKey> triggerOwners = new IdentityHashMap<>();
+        FlowGraph flowGraph = FlowGraph.of(this.of(null, flow, subflows, flowByUid, null, triggerOwners));
+
+        // subflows expanded without a revision are resolved to their latest one, the graph is stale once they change
+        this.flowGraphs.put(key, new CachedFlowGraph(flowGraph, triggerOwners, latestSubflows(flowByUid)));
+
+        return flowGraph;
     }
 
+    /**
+     * Builds the graph of an execution, stripped of the information that needs a flow read access.
+     * <p>
+     * The graph is only rebuilt when its version changed since the last call, see {@link #executionGraphVersion(FlowWithSource, List, Execution)}.
+     */
     public FlowGraph executionGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException {
-        return FlowGraph.of(this.of(flow, Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList()), new HashMap<>(), execution));
+        return this.cachedExecutionGraph(flow, expandedSubflows, execution).graph();
+    }
+
+    /**
+     * Returns the version of the graph of an execution. It changes each time the execution or one of its task runs
+     * changes state, and each time an expanded subflow resolves to another revision.
+     * <p>
+     * Without expanded subflows, the version is computed from the execution only. Otherwise, the graph may have to be
+     * built to resolve the revisions of the subflows, it's then cached for the next {@link #executionGraph(FlowWithSource, List, Execution)} call.
+     */
+    public String executionGraphVersion(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException {
+        if (expandedSubflows == null || expandedSubflows.isEmpty()) {
+            return executionVersion(execution);
+        }
+
+        CachedExecutionGraph cached = this.cachedExecutionGraph(flow, expandedSubflows, execution);
+
+        return cached.executionVersion() + "-" + cached.subflowsVersion();
+    }
+
+    private CachedExecutionGraph cachedExecutionGraph(FlowWithSource flow, List<String> expandedSubflows, Execution execution) throws IllegalVariableEvaluationException {
+        List<String> subflows = Optional.ofNullable(expandedSubflows).orElse(Collections.emptyList());
+        ExecutionGraphKey key = new ExecutionGraphKey(execution.getTenantId(), execution.getId(), Set.copyOf(subflows));
+        String executionVersion = executionVersion(execution);
+
+        CachedExecutionGraph cached = this.executionGraphs.getIfPresent(key);
+        if (cached != null && cached.executionVersion().equals(executionVersion) && this.isUpToDate(cached.latestSubflows())) {
+            return cached;
+        }
+
+        Map<String, FlowWithSource> flowByUid = new HashMap<>();
+        FlowGraph flowGraph = FlowGraph.of(this.of(flow, subflows, flowByUid, execution)).forExecution();
+
+        // the expanded subflows are part of the version, with the revision of the flows they resolved to
+        String subflowsVersion = String.join(",", key.expandedSubflows().stream().sorted().toList()) + "@" +
+            String.join(",", flowByUid.values().stream()
+                .map(subflow -> subflow.getNamespace() + "." + subflow.getId() + ":" + subflow.getRevision())
+                .sorted()
+                .toList()
+            );
+
+        cached = new CachedExecutionGraph(executionVersion, subflowsVersion, latestSubflows(flowByUid), flowGraph);
+        this.executionGraphs.put(key, cached);
+
+        return cached;
+    }
+
+    /**
+     * The execution and its task runs are updated with a new state each time they change, so the last state date
+     * along with the number of task runs identifies a version of the execution.
+     */
+    private static String executionVersion(Execution execution) {
+        List<TaskRun> taskRuns = Optional.ofNullable(execution.getTaskRunList()).orElse(Collections.emptyList());
+
+        Instant lastUpdate = taskRuns.stream()
+            .map(taskRun -> taskRun.getState().maxDate())
+            .reduce(execution.getState().maxDate(), (a, b) -> a.isAfter(b) ? a : b);
+
+        return execution.getId() + "-" + lastUpdate.getEpochSecond() + "." + lastUpdate.getNano() + "-" + taskRuns.size();
+    }
+
+    private static Map<FlowKey, Integer> latestSubflows(Map<String, FlowWithSource> flowByUid) {
+        Map<FlowKey, Integer> latestSubflows = new HashMap<>();
+        flowByUid.forEach((uid, subflow) -> {
+            if (uid.equals(Flow.uid(null, subflow.getNamespace(), subflow.getId(), Optional.empty()))) {
+                latestSubflows.put(new FlowKey(subflow.getTenantId(), subflow.getNamespace(), subflow.getId()), subflow.getRevision());
+            }
+        });
+
+        return latestSubflows;
+    }
+
+    private boolean isUpToDate(Map<FlowKey, Integer> latestSubflows) {
+        return latestSubflows.entrySet()
+            .stream()
+            .allMatch(entry -> entry.getValue().equals(
+                flowRepository.lastRevision(entry.getKey().tenantId(), entry.getKey().namespace(), entry.getKey().flowId())
+            ));
+    }
+
+    private FlowGraph withCurrentTriggers(CachedFlowGraph cached) {
+        if (cached.triggerOwners().isEmpty()) {
+            return cached.graph();
+        }
+
+        Map<FlowKey, Map<String, Trigger>> triggersByOwner = new HashMap<>();
+
+        return cached.graph().toBuilder()
+            .nodes(cached.graph().getNodes()
+                .stream()
+                .map(node -> {
+                    if (!(node instanceof AbstractGraphTrigger graphTrigger) ||
+                        !(graphTrigger.getTriggerDeclaration() instanceof AbstractTrigger declaration) ||
+                        !cached.triggerOwners().containsKey(declaration)
+                    ) {
+                        return node;
+                    }
+
+                    Trigger trigger = triggersByOwner
+                        .computeIfAbsent(cached.triggerOwners().get(declaration), owner -> GraphUtils.triggersById(
+                            triggerRepository.find(Pageable.UNPAGED, null, owner.tenantId(), owner.namespace(), owner.flowId(), null)
+                        ))
+                        .get(declaration.getId());
+
+                    GraphTrigger current = new GraphTrigger(declaration, trigger);
+                    current.setUid(graphTrigger.getUid());
+                    current.setError(graphTrigger.isError());
+
+                    return current;
+                })
+                .toList()
+            )
+            .build();
     }
 
     public GraphCluster of(FlowWithSource flow, List<String> expandedSubflows, Map<String, FlowWithSource> flowByUid, Execution execution) throws IllegalVariableEvaluationException {
@@ -55,11 +212,18 @@ public class GraphService {
     }
 
     public GraphCluster of(GraphCluster baseGraph, FlowWithSource flow, List<String> expandedSubflows, Map<String, FlowWithSource> flowByUid, Execution execution) throws IllegalVariableEvaluationException {
+        return this.of(baseGraph, flow, expandedSubflows, flowByUid, execution, new IdentityHashMap<>());
+    }
+
+    private GraphCluster of(GraphCluster baseGraph, FlowWithSource flow, List<String> expandedSubflows, Map<String, FlowWithSource> flowByUid, Execution execution, Map<AbstractTrigger, FlowKey> triggerOwners) throws IllegalVariableEvaluationException {
         String tenantId = flow.getTenantId();
         flow = pluginDefaultService.injectDefaults(flow);
         List<Trigger> triggers = null;
         if (flow.getTriggers() != null) {
             triggers = triggerRepository.find(Pageable.UNPAGED, null, tenantId, flow.getNamespace(), flow.getId(), null);
+
+            FlowKey owner = new FlowKey(tenantId, flow.getNamespace(), flow.getId());
+            flow.getTriggers().forEach(trigger -> triggerOwners.put(trigger, owner));
         }
         GraphCluster graphCluster = GraphUtils.of(baseGraph, flow, execution, triggers);
 
@@ -130,7 +294,9 @@ public class GraphService {
                         new SubflowGraphCluster(subflowGraphTask.getUid(), subflowGraphTask),
                         subflow,
                         expandedSubflows.stream().filter(expandedSubflow -> expandedSubflow.startsWith(finalSubflowGraphTask.getUid() + ".")).toList(),
-                        flowByUid
+                        flowByUid,
+                        null,
+                        triggerOwners
                     )
                 );
             }))
@@ -139,6 +305,21 @@ public class GraphService {
         return graphCluster;
     }
 
+    private record FlowGraphKey(String tenantId, String namespace, String flowId, Integer revision, String source, Set<String> expandedSubflows) {
+    }
+
+    private record CachedFlowGraph(FlowGraph graph, Map<AbstractTrigger, FlowKey> triggerOwners, Map<FlowKey, Integer> latestSubflows) {
+    }
+
+    private record FlowKey(String tenantId, String namespace, String flowId) {
+    }
+
+    private record ExecutionGraphKey(String tenantId, String executionId, Set<String> expandedSubflows) {
+    }
+
+    private record CachedExecutionGraph(String executionVersion, String subflowsVersion, Map<FlowKey, Integer> latestSubflows, FlowGraph graph) {
+    }
+
     private record TaskToClusterReplacer(GraphCluster parentCluster, AbstractGraph taskToReplace,
                                          GraphCluster clusterForReplacement) {
         public void replace() {
@@ -4,15 +4,20 @@ import jakarta.annotation.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 /**
  * The default {@link Namespace} implementation.
@@ -122,6 +127,47 @@ public class InternalNamespace implements Namespace {
         return storage.get(tenant, namespace, namespaceFilePath.toUri());
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public FileAttributes getFileAttributes(final Path path) throws IOException {
+        Path namespaceFilePath = NamespaceFile.of(namespace, path).storagePath();
+        return storage.getAttributes(tenant, namespace, namespaceFilePath.toUri());
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>
+     * The attributes are read with a single listing of each directory containing some of the files.
+     **/
+    @Override
+    public Map<String, FileAttributes> getFilesAttributes(final List<NamespaceFile> files) throws IOException {
+        Map<Path, List<NamespaceFile>> byDirectory = files.stream()
+            .collect(Collectors.groupingBy(file -> file.storagePath().getParent()));
+
+        Map<String, FileAttributes> attributes = new HashMap<>();
+        for (Map.Entry<Path, List<NamespaceFile>> directory : byDirectory.entrySet()) {
+            List<FileAttributes> listed;
+            try {
+                listed = storage.list(tenant, namespace, URI.create(directory.getKey().toString().replace("\\", "/")));
+            } catch (FileNotFoundException e) {
+                continue;
+            }
+
+            Map<String, FileAttributes> byName = listed.stream()
+                .collect(Collectors.toMap(FileAttributes::getFileName, Function.identity(), (a, b) -> a));
+            for (NamespaceFile file : directory.getValue()) {
+                FileAttributes fileAttributes = byName.get(file.storagePath().getFileName().toString());
+                if (fileAttributes != null) {
+                    attributes.put(file.path(), fileAttributes);
+                }
+            }
+        }
+
+        return attributes;
+    }
+
     /**
      * {@inheritDoc}
      **/
@@ -7,7 +7,9 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.nio.file.Path;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 /**
@@ -84,6 +86,37 @@ public interface Namespace {
      */
     InputStream getFileContent(Path path) throws IOException;
 
+    /**
+     * Retrieves the attributes of the namespace file at the given path, without reading its content.
+     *
+     * @param path the file path.
+     * @return the {@link FileAttributes}.
+     * @throws IOException                   if an error happens while accessing the file.
+     * @throws UnsupportedOperationException if the implementation can't read the attributes of a file.
+     */
+    default FileAttributes getFileAttributes(Path path) throws IOException {
+        throw new UnsupportedOperationException("Namespace file attributes are not supported by " + this.getClass().getName());
+    }
+
+    /**
+     * Retrieves the attributes of the given namespace files, without reading their content.
+     * <p>
+     * The default implementation reads the attributes of each file with {@link #getFileAttributes(Path)}.
+     *
+     * @param files the namespace files.
+     * @return the {@link FileAttributes} by namespace file path, files that no longer exist are missing.
+     * @throws IOException                   if an error happens while accessing the files.
+     * @throws UnsupportedOperationException if the implementation can't read the attributes of a file.
+     */
+    default Map<String, FileAttributes> getFilesAttributes(List<NamespaceFile> files) throws IOException {
+        Map<String, FileAttributes> attributes = new HashMap<>();
+        for (NamespaceFile file : files) {
+            attributes.put(file.path(), this.getFileAttributes(Path.of(file.path())));
+        }
+
+        return attributes;
+    }
+
     default NamespaceFile putFile(Path path, InputStream content) throws IOException, URISyntaxException {
         return putFile(path, content, Conflicts.OVERWRITE);
     }
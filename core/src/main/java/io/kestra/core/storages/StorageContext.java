@@ -27,6 +27,7 @@ public class StorageContext {
     public static final String KESTRA_SCHEME = "kestra";
     public static final String KESTRA_PROTOCOL = KESTRA_SCHEME + "://";
     public static final String PREFIX_MESSAGES = "/_messages";
+    public static final String PREFIX_UPLOADS = "/_uploads";
 
     // /{namespace}/_files
     static final String PREFIX_FORMAT_NAMESPACE_FILE = "/%s/_files";
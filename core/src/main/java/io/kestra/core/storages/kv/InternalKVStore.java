@@ -1,33 +1,49 @@
 package io.kestra.core.storages.kv;
 
+import com.google.common.util.concurrent.Striped;
 import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.FileAttributes;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.StorageObject;
+import io.kestra.core.utils.IdUtils;
 import jakarta.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
 
 import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.time.Duration;
 import java.time.Instant;
-import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.locks.Lock;
 import java.util.regex.Pattern;
 
 import static io.kestra.core.utils.Rethrow.throwFunction;
 
 /**
  * The default {@link KVStore} implementation.
- *
+ * <p>
+ * The stored values are the source of truth. A {@link KVIndex} stored alongside them caches the metadata of each entry
+ * so a listing only needs the list of the values: it's updated on each put and delete, and reconciled with the values
+ * on each listing, as the updates of another process may have been lost.
  */
+@Slf4j
 public class InternalKVStore implements KVStore {
 
     private static final Pattern DURATION_PATTERN = Pattern.compile("^P(?=[^T]|T.)(?:\\d*D)?(?:T(?=.)(?:\\d*H)?(?:\\d*M)?(?:\\d*S)?)?$");
 
+    // index updates are read-modify-write, they are serialized per namespace inside this process only
+    private static final Striped<Lock> INDEX_LOCKS = Striped.lock(64);
+
+    // maximum number of expired entries removed from the index on each listing
+    private static final int EXPIRED_SWEEP_LIMIT = 100;
+
     private final String namespace;
     private final String tenant;
     private final StorageInterface storage;
@@ -60,17 +76,23 @@ public class InternalKVStore implements KVStore {
     public void put(String key, KVValueAndMetadata value, boolean overwrite) throws IOException {
         KVStore.validateKey(key);
 
-        if (!overwrite && exists(key)) {
+        byte[] serialized = JacksonMapper.ofIon().writeValueAsBytes(value.value());
+        Instant expirationDate = Optional.ofNullable(value.metadata()).map(KVMetadata::getExpirationDate).orElse(null);
+
+        if (!overwrite && this.exists(key)) {
             throw new KVStoreException(String.format(
                 "Cannot set value for key '%s'. Key already exists and `overwrite` is set to `false`.", key));
         }
 
-        byte[] serialized = JacksonMapper.ofIon().writeValueAsBytes(value.value());
+        this.updateIndex(index -> {
+            this.storage.put(this.tenant, this.namespace, this.storageUri(key), new StorageObject(
+                value.metadataAsMap(),
+                new ByteArrayInputStream(serialized)
+            ));
 
-        this.storage.put(this.tenant, this.namespace, this.storageUri(key), new StorageObject(
-            value.metadataAsMap(),
-            new ByteArrayInputStream(serialized)
-        ));
+            index.put(key, serialized.length, expirationDate, Instant.now());
+            return null;
+        });
     }
 
     /**
@@ -112,7 +134,11 @@ public class InternalKVStore implements KVStore {
     @Override
     public boolean delete(String key) throws IOException {
         KVStore.validateKey(key);
-        return this.storage.delete(this.tenant, this.namespace, this.storageUri(key));
+
+        return this.updateIndex(index -> {
+            index.remove(key);
+            return this.storage.delete(this.tenant, this.namespace, this.storageUri(key));
+        });
     }
 
     /**
@@ -120,16 +146,54 @@ public class InternalKVStore implements KVStore {
      */
     @Override
     public List<KVEntry> list() throws IOException {
-        List<FileAttributes> list;
+        return this.list(null, 1, Integer.MAX_VALUE);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public ArrayListTotal<KVEntry> list(@Nullable String prefix, int page, int size) throws IOException {
+        List<FileAttributes> files;
         try {
-            list = this.storage.list(this.tenant, this.namespace, this.storageUri(null));
+            files = this.storage.list(this.tenant, this.namespace, this.storageUri(null));
         } catch (FileNotFoundException e) {
-            return Collections.emptyList();
+            return new ArrayListTotal<>(0);
         }
-        return list.stream()
-            .map(throwFunction(KVEntry::from))
-            .filter(kvEntry -> Optional.ofNullable(kvEntry.expirationDate()).map(expirationDate -> Instant.now().isBefore(expirationDate)).orElse(true))
-            .toList();
+
+        Lock lock = this.indexLock();
+        lock.lock();
+        try {
+            Optional<KVIndex> stored = this.findIndex();
+            KVIndex index = stored.orElseGet(KVIndex::new);
+            boolean changed = index.reconcile(files) || stored.isEmpty();
+
+            Instant now = Instant.now();
+            List<String> expired = index.sweepExpired(now, EXPIRED_SWEEP_LIMIT);
+            for (String key : expired) {
+                this.storage.delete(this.tenant, this.namespace, this.storageUri(key));
+            }
+
+            // a listing only writes the index when it's missing, out of date, or when entries were swept
+            if (changed || !expired.isEmpty()) {
+                this.writeIndexOrDelete(index);
+            }
+
+            return index.list(prefix, page, size, now);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean exists(String key) throws IOException {
+        KVStore.validateKey(key);
+
+        // the stored value is checked, the index may miss the entries written by another process
+        return this.get(key).isPresent();
     }
 
     /**
@@ -150,4 +214,82 @@ public class InternalKVStore implements KVStore {
             return Optional.empty();
         }
     }
+
+    private URI indexUri() {
+        return URI.create(this.storageUri(null) + "/" + KVIndex.INDEX_FILE_NAME);
+    }
+
+    private KVIndex readIndex() throws IOException {
+        Optional<KVIndex> index = this.findIndex();
+
+        return index.isPresent() ? index.get() : this.rebuildIndex();
+    }
+
+    private Optional<KVIndex> findIndex() throws IOException {
+        try (InputStream inputStream = this.storage.get(this.tenant, this.namespace, this.indexUri())) {
+            return Optional.of(KVIndex.from(inputStream));
+        } catch (FileNotFoundException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Rebuilds the index from the stored values, this is only needed for K/V stores created before the index existed.
+     */
+    private KVIndex rebuildIndex() throws IOException {
+        List<FileAttributes> list;
+        try {
+            list = this.storage.list(this.tenant, this.namespace, this.storageUri(null));
+        } catch (FileNotFoundException e) {
+            return new KVIndex();
+        }
+
+        return new KVIndex(list.stream()
+            .filter(fileAttributes -> fileAttributes.getType() == FileAttributes.FileType.File)
+            .filter(fileAttributes -> fileAttributes.getFileName().endsWith(".ion"))
+            .map(throwFunction(KVIndex.Entry::from))
+            .toList()
+        );
+    }
+
+    /**
+     * Writes the index to a temporary file then moves it over the current one, so readers never see a partial index.
+     */
+    private void writeIndex(KVIndex index) throws IOException {
+        URI temporary = URI.create(this.indexUri() + "." + IdUtils.create() + ".tmp");
+        this.storage.put(this.tenant, this.namespace, temporary, new ByteArrayInputStream(index.toBytes()));
+        this.storage.move(this.tenant, this.namespace, temporary, this.indexUri());
+    }
+
+    private void writeIndexOrDelete(KVIndex index) throws IOException {
+        try {
+            this.writeIndex(index);
+        } catch (IOException e) {
+            // the index is now out of sync, remove it so it will be rebuilt from the values on next access
+            log.warn("Unable to write the K/V index for namespace '{}', it will be rebuilt", this.namespace, e);
+            this.storage.delete(this.tenant, this.namespace, this.indexUri());
+        }
+    }
+
+    private Lock indexLock() {
+        return INDEX_LOCKS.get(this.tenant + "/" + this.namespace);
+    }
+
+    private <T> T updateIndex(IndexUpdate<T> update) throws IOException {
+        Lock lock = this.indexLock();
+        lock.lock();
+        try {
+            KVIndex index = this.readIndex();
+            T result = update.apply(index);
+            this.writeIndexOrDelete(index);
+            return result;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @FunctionalInterface
+    private interface IndexUpdate<T> {
+        T apply(KVIndex index) throws IOException;
+    }
 }
@@ -0,0 +1,194 @@
+package io.kestra.core.storages.kv;
+
+import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.FileAttributes;
+import jakarta.annotation.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * A per-namespace index of the K/V entries, persisted alongside the values.
+ * <p>
+ * The index holds the key, size, creation, update and expiration dates of each entry, sorted by key,
+ * so listing a K/V store doesn't need to read the metadata of every single value.
+ */
+public class KVIndex {
+    /**
+     * The name of the index file, stored in the K/V directory of the namespace.
+     * It doesn't end with {@code .ion} so it's never mistaken for a K/V entry.
+     */
+    static final String INDEX_FILE_NAME = ".index";
+
+    private final TreeMap<String, Entry> entries = new TreeMap<>();
+
+    public KVIndex() {
+    }
+
+    public KVIndex(Collection<Entry> entries) {
+        entries.forEach(entry -> this.entries.put(entry.key(), entry));
+    }
+
+    public static KVIndex from(InputStream inputStream) throws IOException {
+        Entry[] entries = JacksonMapper.ofIon().readValue(inputStream, Entry[].class);
+        return new KVIndex(Arrays.asList(entries));
+    }
+
+    public byte[] toBytes() throws IOException {
+        return JacksonMapper.ofIon().writeValueAsBytes(this.entries.values());
+    }
+
+    public Optional<Entry> get(String key) {
+        return Optional.ofNullable(this.entries.get(key));
+    }
+
+    /**
+     * Adds or replaces the entry for the given key, keeping the original creation date on replacement.
+     */
+    public Entry put(String key, long size, @Nullable Instant expirationDate, Instant now) {
+        Instant creationDate = Optional.ofNullable(this.entries.get(key)).map(Entry::creationDate).orElse(now);
+        Entry entry = new Entry(key, size, creationDate, now, expirationDate);
+        this.entries.put(key, entry);
+
+        return entry;
+    }
+
+    public boolean remove(String key) {
+        return this.entries.remove(key) != null;
+    }
+
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Lists the non-expired entries whose key starts with the given prefix, ordered by key.
+     *
+     * @param prefix The key prefix, {@code null} to list all the entries.
+     * @param page   The page number, starting at 1.
+     * @param size   The page size.
+     * @param now    The instant used to check the expiration.
+     * @return The requested page with the total number of non-expired matching entries.
+     */
+    public ArrayListTotal<KVEntry> list(@Nullable String prefix, int page, int size, Instant now) {
+        long from = (long) (page - 1) * size;
+        long to = from + size;
+
+        List<KVEntry> results = new ArrayList<>(Math.max(0, Math.min(size, this.entries.size())));
+        long total = 0;
+        for (Entry entry : this.matching(prefix)) {
+            if (entry.isExpired(now)) {
+                continue;
+            }
+
+            if (total >= from && total < to) {
+                results.add(entry.toKVEntry());
+            }
+            total++;
+        }
+
+        return new ArrayListTotal<>(results, total);
+    }
+
+    /**
+     * Reconciles the index with the listing of the stored values, which is the source of truth: entries without
+     * a stored value are removed, and values missing from the index or updated after their indexed entry,
+     * for example by another process whose index update was lost, are indexed again from their attributes.
+     *
+     * @param files The attributes of the stored values.
+     * @return {@code true} if the index changed.
+     */
+    public boolean reconcile(List<FileAttributes> files) throws IOException {
+        Map<String, FileAttributes> stored = new TreeMap<>();
+        files.stream()
+            .filter(fileAttributes -> fileAttributes.getType() == FileAttributes.FileType.File)
+            .filter(fileAttributes -> fileAttributes.getFileName().endsWith(".ion"))
+            .forEach(fileAttributes -> stored.put(fileAttributes.getFileName().replace(".ion", ""), fileAttributes));
+
+        boolean changed = this.entries.keySet().retainAll(stored.keySet());
+
+        for (Map.Entry<String, FileAttributes> file : stored.entrySet()) {
+            Entry indexed = this.entries.get(file.getKey());
+            if (indexed == null || Instant.ofEpochMilli(file.getValue().getLastModifiedTime()).isAfter(indexed.updateDate())) {
+                this.entries.put(file.getKey(), Entry.from(file.getValue()));
+                changed = true;
+            }
+        }
+
+        return changed;
+    }
+
+    /**
+     * Removes up to {@code limit} expired entries from the index.
+     *
+     * @return The keys of the removed entries, so their values can be deleted.
+     */
+    public List<String> sweepExpired(Instant now, int limit) {
+        List<String> removed = new ArrayList<>();
+        Iterator<Entry> iterator = this.entries.values().iterator();
+        while (iterator.hasNext() && removed.size() < limit) {
+            Entry entry = iterator.next();
+            if (entry.isExpired(now)) {
+                iterator.remove();
+                removed.add(entry.key());
+            }
+        }
+
+        return removed;
+    }
+
+    private Collection<Entry> matching(@Nullable String prefix) {
+        if (prefix == null || prefix.isEmpty()) {
+            return this.entries.values();
+        }
+
+        // all the keys starting with the prefix are between the prefix and the prefix followed by the highest char
+        Map<String, Entry> range = this.entries.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        return range.values();
+    }
+
+    /**
+     * An indexed K/V entry.
+     *
+     * @param key            The entry key.
+     * @param size           The size in bytes of the serialized value.
+     * @param creationDate   The creation date.
+     * @param updateDate     The last update date.
+     * @param expirationDate The expiration date, {@code null} if the entry never expires.
+     */
+    public record Entry(String key, long size, Instant creationDate, Instant updateDate, @Nullable Instant expirationDate) {
+        public static Entry from(FileAttributes fileAttributes) throws IOException {
+            return new Entry(
+                fileAttributes.getFileName().replace(".ion", ""),
+                fileAttributes.getSize(),
+                Instant.ofEpochMilli(fileAttributes.getCreationTime()),
+                Instant.ofEpochMilli(fileAttributes.getLastModifiedTime()),
+                new KVMetadata(fileAttributes.getMetadata()).getExpirationDate()
+            );
+        }
+
+        public boolean isExpired(Instant now) {
+            return this.expirationDate != null && now.isAfter(this.expirationDate);
+        }
+
+        public KVEntry toKVEntry() {
+            return new KVEntry(
+                this.key,
+                this.creationDate.truncatedTo(ChronoUnit.MILLIS),
+                this.updateDate.truncatedTo(ChronoUnit.MILLIS),
+                Optional.ofNullable(this.expirationDate).map(date -> date.truncatedTo(ChronoUnit.MILLIS)).orElse(null)
+            );
+        }
+    }
+}
@@ -1,12 +1,14 @@
 package io.kestra.core.storages.kv;
 
 import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.runners.RunContext;
 import io.kestra.core.storages.StorageContext;
 import jakarta.annotation.Nullable;
 
 import java.io.IOException;
 import java.net.URI;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.regex.Pattern;
@@ -80,6 +82,26 @@ public interface KVStore {
      */
     List<KVEntry> list() throws IOException;
 
+    /**
+     * Lists the K/V store entries whose key starts with the given prefix, ordered by key.
+     *
+     * @param prefix The key prefix, {@code null} to list all the entries.
+     * @param page   The page number, starting at 1.
+     * @param size   The page size.
+     * @return  The requested page of {@link KVEntry} with the total number of matching entries.
+     * @throws IOException if an error occurred while executing the operation on the K/V store.
+     */
+    default ArrayListTotal<KVEntry> list(@Nullable String prefix, int page, int size) throws IOException {
+        List<KVEntry> entries = list().stream()
+            .filter(kvEntry -> prefix == null || kvEntry.key().startsWith(prefix))
+            .sorted(Comparator.comparing(KVEntry::key))
+            .toList();
+
+        int from = Math.min((page - 1) * size, entries.size());
+        int to = (int) Math.min((long) from + size, entries.size());
+        return new ArrayListTotal<>(entries.subList(from, to), entries.size());
+    }
+
     /**
      * Finds the K/V store entry for the given key.
      *
@@ -0,0 +1,246 @@
+package io.kestra.core.topologies;
+
+import io.kestra.core.models.conditions.Condition;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.tasks.ExecutableTask;
+import io.kestra.core.models.triggers.multipleflows.MultipleCondition;
+import io.kestra.core.utils.ListUtils;
+import io.kestra.plugin.core.condition.*;
+import io.kestra.plugin.core.trigger.Flow;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * An index of the flows by the flows they reference, to find the flows that may be linked to a given flow
+ * in the topology without comparing it with all the flows.
+ * <p>
+ * A flow is indexed by the namespace and id of the subflows it starts, and, if it has flow triggers, by the upstream
+ * flows its trigger conditions are restricted to. Flow triggers without such a restriction are candidates for any flow.
+ * <p>
+ * It is updated incrementally each time a flow changes, and only returns candidates: the relation still needs
+ * to be checked with {@link FlowTopologyService#isChild(FlowWithSource, FlowWithSource)}.
+ */
+@Slf4j
+public class FlowTopologyIndex {
+    private static final String SEPARATOR = "|";
+
+    private final Map<String, FlowWithSource> flows = new HashMap<>();
+    private final Map<String, Set<String>> flowsByKey = new HashMap<>();
+
+    private final Map<String, Set<String>> subflowKeysByFlow = new HashMap<>();
+    private final Map<String, Set<String>> parentsBySubflowKey = new HashMap<>();
+
+    // a null value means that the flow triggers may be triggered by any flow
+    private final Map<String, Set<String>> upstreamKeysByFlow = new HashMap<>();
+    private final Map<String, Set<String>> listenersByUpstreamKey = new HashMap<>();
+    private final Set<String> listenersOfAll = new HashSet<>();
+
+    FlowTopologyIndex(List<FlowWithSource> flows) {
+        flows.forEach(this::put);
+    }
+
+    /**
+     * @return the number of indexed flows.
+     */
+    public synchronized int size() {
+        return flows.size();
+    }
+
+    /**
+     * Indexes a flow, replacing its previous revision, unless the indexed revision is more recent.
+     */
+    public synchronized void put(FlowWithSource flow) {
+        String uid = flow.uidWithoutRevision();
+        if (this.isOutdated(uid, flow)) {
+            return;
+        }
+
+        this.unindex(uid);
+
+        flows.put(uid, flow);
+        flowsByKey.computeIfAbsent(key(flow.getNamespace(), flow.getId()), k -> new HashSet<>()).add(uid);
+
+        Set<String> subflowKeys = subflowKeys(flow);
+        subflowKeysByFlow.put(uid, subflowKeys);
+        subflowKeys.forEach(key -> parentsBySubflowKey.computeIfAbsent(key, k -> new HashSet<>()).add(uid));
+
+        List<Flow> flowTriggers = flowTriggers(flow);
+        if (!flowTriggers.isEmpty()) {
+            Set<String> upstreamKeys = upstreamKeys(flowTriggers);
+            upstreamKeysByFlow.put(uid, upstreamKeys);
+
+            if (upstreamKeys == null) {
+                listenersOfAll.add(uid);
+            } else {
+                upstreamKeys.forEach(key -> listenersByUpstreamKey.computeIfAbsent(key, k -> new HashSet<>()).add(uid));
+            }
+        }
+    }
+
+    /**
+     * Removes a deleted flow, unless the indexed revision is more recent.
+     */
+    public synchronized void remove(FlowWithSource flow) {
+        String uid = flow.uidWithoutRevision();
+        if (this.isOutdated(uid, flow)) {
+            return;
+        }
+
+        this.unindex(uid);
+    }
+
+    /**
+     * @return the flows that may be a parent of the given flow: the ones starting it as a subflow, and the ones
+     * its flow triggers may listen to.
+     */
+    public synchronized List<FlowWithSource> parentCandidates(FlowWithSource flow) {
+        Set<String> uids = new HashSet<>(parentsBySubflowKey.getOrDefault(key(flow.getNamespace(), flow.getId()), Collections.emptySet()));
+
+        List<Flow> flowTriggers = flowTriggers(flow);
+        if (!flowTriggers.isEmpty()) {
+            Set<String> upstreamKeys = upstreamKeys(flowTriggers);
+            if (upstreamKeys == null) {
+                return new ArrayList<>(flows.values());
+            }
+
+            upstreamKeys.forEach(key -> uids.addAll(flowsByKey.getOrDefault(key, Collections.emptySet())));
+        }
+
+        return this.flows(uids);
+    }
+
+    /**
+     * @return the flows that may be a child of the given flow: the subflows it starts, and the ones whose flow
+     * triggers may listen to it.
+     */
+    public synchronized List<FlowWithSource> childCandidates(FlowWithSource flow) {
+        Set<String> uids = new HashSet<>(listenersOfAll);
+        uids.addAll(listenersByUpstreamKey.getOrDefault(key(flow.getNamespace(), flow.getId()), Collections.emptySet()));
+        subflowKeys(flow).forEach(key -> uids.addAll(flowsByKey.getOrDefault(key, Collections.emptySet())));
+
+        return this.flows(uids);
+    }
+
+    private List<FlowWithSource> flows(Set<String> uids) {
+        return uids.stream()
+            .map(flows::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private boolean isOutdated(String uid, FlowWithSource flow) {
+        FlowWithSource indexed = flows.get(uid);
+
+        return indexed != null && indexed.getRevision() != null && flow.getRevision() != null && indexed.getRevision() > flow.getRevision();
+    }
+
+    private void unindex(String uid) {
+        FlowWithSource previous = flows.remove(uid);
+        if (previous == null) {
+            return;
+        }
+
+        removeFrom(flowsByKey, key(previous.getNamespace(), previous.getId()), uid);
+
+        Optional.ofNullable(subflowKeysByFlow.remove(uid))
+            .ifPresent(keys -> keys.forEach(key -> removeFrom(parentsBySubflowKey, key, uid)));
+
+        if (upstreamKeysByFlow.containsKey(uid)) {
+            Set<String> upstreamKeys = upstreamKeysByFlow.remove(uid);
+            if (upstreamKeys == null) {
+                listenersOfAll.remove(uid);
+            } else {
+                upstreamKeys.forEach(key -> removeFrom(listenersByUpstreamKey, key, uid));
+            }
+        }
+    }
+
+    private static void removeFrom(Map<String, Set<String>> index, String key, String uid) {
+        Set<String> uids = index.get(key);
+        if (uids != null) {
+            uids.remove(uid);
+            if (uids.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> subflowKeys(FlowWithSource flow) {
+        try {
+            Set<String> keys = new HashSet<>();
+            flow.allTasksWithChilds()
+                .stream()
+                .filter(ExecutableTask.class::isInstance)
+                .map(task -> ((ExecutableTask<?>) task).subflowId())
+                .filter(Objects::nonNull)
+                .forEach(subflowId -> keys.add(key(subflowId.namespace(), subflowId.flowId())));
+
+            return keys;
+        } catch (Exception e) {
+            log.warn("Failed to detect flow task on namespace:'" + flow.getNamespace() + "', flowId:'" + flow.getId() + "'", e);
+            return Collections.emptySet();
+        }
+    }
+
+    private static List<Flow> flowTriggers(FlowWithSource flow) {
+        return ListUtils.emptyOnNull(flow.getTriggers())
+            .stream()
+            .filter(Flow.class::isInstance)
+            .map(Flow.class::cast)
+            .toList();
+    }
+
+    /**
+     * Returns the upstream flow keys the flow triggers are restricted to by their conditions, or null if they may
+     * be triggered by any flow.
+     * <p>
+     * As all the conditions must be valid, the first condition that restricts the upstream flows is enough.
+     */
+    private static Set<String> upstreamKeys(List<Flow> flowTriggers) {
+        return flowTriggers
+            .stream()
+            .flatMap(trigger -> ListUtils.emptyOnNull(trigger.getConditions()).stream())
+            .map(FlowTopologyIndex::upstreamKeys)
+            .filter(Objects::nonNull)
+            .findFirst()
+            .orElse(null);
+    }
+
+    private static Set<String> upstreamKeys(Condition condition) {
+        if (condition instanceof ExecutionFlow executionFlow) {
+            return Set.of(key(executionFlow.getNamespace(), executionFlow.getFlowId()));
+        }
+
+        // one of the upstream flows of a multiple condition must be valid, the other conditions can't restrict them
+        if (condition instanceof MultipleCondition multipleCondition && multipleCondition.getConditions() != null) {
+            List<Condition> conditions = multipleCondition.getConditions().values().stream().toList();
+            if (!conditions.isEmpty() && conditions.stream().allMatch(Predicate.not(FlowTopologyIndex::isRestrictive).or(ExecutionFlow.class::isInstance))) {
+                Set<String> keys = new HashSet<>();
+                conditions.stream()
+                    .filter(ExecutionFlow.class::isInstance)
+                    .map(ExecutionFlow.class::cast)
+                    .forEach(executionFlow -> keys.add(key(executionFlow.getNamespace(), executionFlow.getFlowId())));
+
+                return keys.isEmpty() ? null : keys;
+            }
+        }
+
+        return null;
+    }
+
+    // the conditions that are not evaluated on the upstream flow, see FlowTopologyService#validateCondition
+    private static boolean isRestrictive(Condition condition) {
+        return !(condition instanceof ExecutionStatus ||
+            condition instanceof DateTimeBetween ||
+            condition instanceof DayWeek ||
+            condition instanceof HasRetryAttempt ||
+            condition instanceof Weekend ||
+            condition instanceof Expression);
+    }
+
+    private static String key(String namespace, String flowId) {
+        return namespace + SEPARATOR + flowId;
+    }
+}
@@ -118,6 +118,25 @@ public class FlowTopologyService {
             .filter(Objects::nonNull);
     }
 
+    /**
+     * Builds an index of the given flows, to compute the topology of a flow without comparing it with all of them.
+     * It must then be kept up to date with each flow change.
+     */
+    public FlowTopologyIndex index(List<FlowWithSource> allFlows) {
+        return new FlowTopologyIndex(allFlows);
+    }
+
+    /**
+     * Same as {@link #topology(FlowWithSource, List)}, but only compares the flow with the flows of the index that may be linked to it.
+     */
+    public Stream<FlowTopology> topology(FlowWithSource flow, FlowTopologyIndex index) {
+        return Stream.concat(
+                index.parentCandidates(flow).stream().map(parent -> this.map(parent, flow)),
+                index.childCandidates(flow).stream().map(child -> this.map(flow, child))
+            )
+            .filter(Objects::nonNull);
+    }
+
     protected FlowTopology map(FlowWithSource parent, FlowWithSource child) {
         // we don't allow self link
         if (child.uidWithoutRevision().equals(parent.uidWithoutRevision())) {
@@ -14,7 +14,9 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
 import java.time.temporal.TemporalAdjusters;
+import java.util.Optional;
 import jakarta.validation.constraints.NotNull;
 
 @SuperBuilder
@@ -63,6 +65,20 @@ public class DayWeekInMonth extends Condition implements ScheduleCondition {
     public boolean test(ConditionContext conditionContext) throws InternalException {
         String render = conditionContext.getRunContext().render(date, conditionContext.getVariables());
         LocalDate currentDate = DateUtils.parseLocalDate(render);
+
+        return this.test(currentDate);
+    }
+
+    @Override
+    public Optional<Boolean> testDate(ZonedDateTime date) {
+        if (!TRIGGER_DATE.equals(this.date)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.test(date.toLocalDate()));
+    }
+
+    private boolean test(LocalDate currentDate) {
         LocalDate computed;
 
         if (dayInMonth.equals(DayInMonth.FIRST)) {
@@ -16,6 +16,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Optional;
 
 @SuperBuilder
 @ToString
@@ -84,8 +86,25 @@ public class PublicHoliday extends Condition implements ScheduleCondition {
         var renderedCountry = conditionContext.getRunContext().render(this.country);
         var renderedSubDivision = conditionContext.getRunContext().render(this.subDivision);
 
-        HolidayManager holidayManager = renderedCountry != null ? HolidayManager.getInstance(ManagerParameters.create(renderedCountry)) : HolidayManager.getInstance();
         LocalDate currentDate = DateUtils.parseLocalDate(conditionContext.getRunContext().render(date));
-        return renderedSubDivision == null ? holidayManager.isHoliday(currentDate) : holidayManager.isHoliday(currentDate, renderedSubDivision);
+        return this.test(currentDate, renderedCountry, renderedSubDivision);
+    }
+
+    @Override
+    public Optional<Boolean> testDate(ZonedDateTime date) {
+        if (!TRIGGER_DATE.equals(this.date) || isDynamic(this.country) || isDynamic(this.subDivision)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.test(date.toLocalDate(), this.country, this.subDivision));
+    }
+
+    private boolean test(LocalDate currentDate, String country, String subDivision) {
+        HolidayManager holidayManager = country != null ? HolidayManager.getInstance(ManagerParameters.create(country)) : HolidayManager.getInstance();
+        return subDivision == null ? holidayManager.isHoliday(currentDate) : holidayManager.isHoliday(currentDate, subDivision);
+    }
+
+    private static boolean isDynamic(String value) {
+        return value != null && (value.contains("{{") || value.contains("{%"));
     }
 }
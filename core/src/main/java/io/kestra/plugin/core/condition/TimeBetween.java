@@ -15,6 +15,8 @@ import lombok.*;
 import lombok.experimental.SuperBuilder;
 
 import java.time.OffsetTime;
+import java.time.ZonedDateTime;
+import java.util.Optional;
 
 @SuperBuilder
 @ToString
@@ -63,17 +65,32 @@ public class TimeBetween extends Condition implements ScheduleCondition {
 
     @Override
     public boolean test(ConditionContext conditionContext) throws InternalException {
+        if (this.before == null && this.after == null) {
+            throw new IllegalConditionEvaluation("Invalid condition with no before nor after");
+        }
+
         String render = conditionContext.getRunContext().render(date, conditionContext.getVariables());
         OffsetTime currentDate = DateUtils.parseZonedDateTime(render).toOffsetDateTime().toOffsetTime();
 
+        return this.test(currentDate);
+    }
+
+    @Override
+    public Optional<Boolean> testDate(ZonedDateTime date) {
+        if (!TRIGGER_DATE.equals(this.date) || (this.before == null && this.after == null)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.test(date.toOffsetDateTime().toOffsetTime()));
+    }
+
+    private boolean test(OffsetTime currentDate) {
         if (this.before != null && this.after != null) {
             return currentDate.isAfter(after) && currentDate.isBefore(before);
         } else if (this.before != null) {
             return currentDate.isBefore(before);
-        } else if (this.after != null) {
-            return currentDate.isAfter(after);
         } else {
-            throw new IllegalConditionEvaluation("Invalid condition with no before nor after");
+            return currentDate.isAfter(after);
         }
     }
 }
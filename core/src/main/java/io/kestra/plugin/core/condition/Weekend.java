@@ -14,6 +14,8 @@ import lombok.experimental.SuperBuilder;
 
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.ZonedDateTime;
+import java.util.Optional;
 import jakarta.validation.constraints.NotNull;
 
 @SuperBuilder
@@ -51,6 +53,19 @@ public class Weekend extends Condition implements ScheduleCondition {
         String render = conditionContext.getRunContext().render(date, conditionContext.getVariables());
         LocalDate currentDate = DateUtils.parseLocalDate(render);
 
+        return this.test(currentDate);
+    }
+
+    @Override
+    public Optional<Boolean> testDate(ZonedDateTime date) {
+        if (!TRIGGER_DATE.equals(this.date)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(this.test(date.toLocalDate()));
+    }
+
+    private boolean test(LocalDate currentDate) {
         return currentDate.getDayOfWeek().equals(DayOfWeek.SATURDAY) ||
             currentDate.getDayOfWeek().equals(DayOfWeek.SUNDAY);
     }
@@ -18,8 +18,6 @@ import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.*;
-import java.util.function.Function;
-import java.util.function.Predicate;
 
 @Slf4j
 @SuperBuilder(toBuilder = true)
@@ -70,11 +68,9 @@ public class GetKeys extends Task implements RunnableTask<GetKeys.Output> {
         flowService.checkAllowedNamespace(runContext.flowInfo().tenantId(), renderedNamespace, runContext.flowInfo().tenantId(), runContext.flowInfo().namespace());
 
         String renderedPrefix = runContext.render(this.prefix);
-        Predicate<String> filter = renderedPrefix == null ? key -> true : key -> key.startsWith(renderedPrefix);
 
-        List<String> keys = runContext.namespaceKv(renderedNamespace).list().stream()
+        List<String> keys = runContext.namespaceKv(renderedNamespace).list(renderedPrefix, 1, Integer.MAX_VALUE).stream()
             .map(KVEntry::key)
-            .filter(filter)
             .toList();
 
         return Output.builder()
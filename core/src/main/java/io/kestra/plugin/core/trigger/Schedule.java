@@ -219,6 +219,9 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
     @Getter(AccessLevel.NONE)
     private transient ExecutionTime executionTime;
 
+    @Getter(AccessLevel.NONE)
+    private transient ScheduleFireTimes fireTimes;
+
     @Schema(
         title = "(Deprecated) Backfill",
         description = "This property is deprecated and will be removed in the future. Instead, you can now go to the Triggers tab and start a highly customizable backfill process directly from the UI. This will allow you to backfill missed scheduled executions by providing a specific date range and custom labels. Read more about it in the [Backfill](https://kestra.io/docs/concepts/backfill) documentation."
@@ -369,7 +372,8 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
         // control conditions
         if (this.getConditions() != null) {
             try {
-                boolean conditionResults = this.validateScheduleCondition(conditionContext);
+                Optional<Boolean> dateResults = this.validateScheduleDate(scheduleDates.getDate());
+                boolean conditionResults = dateResults.isPresent() ? dateResults.get() : this.validateScheduleCondition(conditionContext);
                 if (!conditionResults) {
                     return Optional.empty();
                 }
@@ -454,7 +458,7 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
         return inputs;
     }
     private Optional<Output> scheduleDates(ExecutionTime executionTime, ZonedDateTime date) {
-        Optional<ZonedDateTime> next = executionTime.nextExecution(date.minus(Duration.ofSeconds(1)));
+        Optional<ZonedDateTime> next = this.fireTimes().next(date.minus(Duration.ofSeconds(1)));
 
         if (next.isEmpty()) {
             return Optional.empty();
@@ -492,6 +496,14 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
         return this.executionTime;
     }
 
+    private synchronized ScheduleFireTimes fireTimes() {
+        if (this.fireTimes == null) {
+            this.fireTimes = new ScheduleFireTimes(this.executionTime());
+        }
+
+        return this.fireTimes;
+    }
+
     private ZonedDateTime convertDateTime(ZonedDateTime date) {
         if (this.timezone == null) {
             return date;
@@ -501,7 +513,7 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
     }
 
     private Optional<ZonedDateTime> computeNextEvaluationDate(ExecutionTime executionTime, ZonedDateTime date) {
-        return executionTime.nextExecution(date).map(zonedDateTime -> zonedDateTime.truncatedTo(ChronoUnit.SECONDS));
+        return this.fireTimes().next(date).map(zonedDateTime -> zonedDateTime.truncatedTo(ChronoUnit.SECONDS));
     }
 
     private Optional<ZonedDateTime> computePreviousEvaluationDate(ExecutionTime executionTime, ZonedDateTime date) {
@@ -527,13 +539,24 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
                 (!next && toTestDate.getYear() > ZonedDateTime.now().getYear() - 10)
         ) {
             Optional<ZonedDateTime> currentDate = next ?
-                executionTime.nextExecution(toTestDate) :
+                this.fireTimes().next(toTestDate) :
                 executionTime.lastExecution(toTestDate);
 
             if (currentDate.isEmpty()) {
                 return currentDate;
             }
 
+            // the conditions on the date alone are checked first, so the slots they reject are skipped without rendering
+            Optional<Boolean> dateResults = this.validateScheduleDate(currentDate.get());
+            if (dateResults.isPresent()) {
+                if (dateResults.get()) {
+                    return currentDate;
+                }
+
+                toTestDate = currentDate.get();
+                continue;
+            }
+
             Optional<Output> currentOutput = this.scheduleDates(executionTime, currentDate.get());
 
             if (currentOutput.isEmpty()) {
@@ -579,6 +602,30 @@ public class Schedule extends AbstractTrigger implements Schedulable, TriggerOut
         return output;
     }
 
+    /**
+     * Evaluates the schedule conditions on the date alone.
+     *
+     * @return the result, or empty when some conditions need to be rendered to decide.
+     */
+    private Optional<Boolean> validateScheduleDate(ZonedDateTime date) {
+        if (conditions == null) {
+            return Optional.of(true);
+        }
+
+        ZonedDateTime scheduleDate = convertDateTime(date);
+        boolean undecided = false;
+        for (ScheduleCondition condition : conditions.stream().filter(c -> c instanceof ScheduleCondition).map(c -> (ScheduleCondition) c).toList()) {
+            Optional<Boolean> result = condition.testDate(scheduleDate);
+            if (result.isEmpty()) {
+                undecided = true;
+            } else if (!result.get()) {
+                return Optional.of(false);
+            }
+        }
+
+        return undecided ? Optional.empty() : Optional.of(true);
+    }
+
     private boolean validateScheduleCondition(ConditionContext conditionContext) throws InternalException {
         if (conditions != null) {
             ConditionService conditionService = ((DefaultRunContext)conditionContext.getRunContext()).getApplicationContext().getBean(ConditionService.class);
@@ -0,0 +1,74 @@
+package io.kestra.plugin.core.trigger;
+
+import com.cronutils.model.time.ExecutionTime;
+
+import java.time.ZonedDateTime;
+import java.time.chrono.ChronoZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Plans the fire times of a cron by windows of consecutive dates, so walking a schedule slot by slot, as backfills and
+ * schedule conditions do, reads the next date from the window instead of computing it again with cron-utils.
+ */
+class ScheduleFireTimes {
+    static final int WINDOW_SIZE = 256;
+
+    private final ExecutionTime executionTime;
+    private final int windowSize;
+
+    private ZonedDateTime from;
+    private List<ZonedDateTime> dates = Collections.emptyList();
+
+    ScheduleFireTimes(ExecutionTime executionTime) {
+        this(executionTime, WINDOW_SIZE);
+    }
+
+    ScheduleFireTimes(ExecutionTime executionTime, int windowSize) {
+        this.executionTime = executionTime;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * @return the first fire time strictly after the given date, like {@link ExecutionTime#nextExecution(ZonedDateTime)}.
+     */
+    synchronized Optional<ZonedDateTime> next(ZonedDateTime date) {
+        if (!this.covers(date)) {
+            this.plan(date);
+        }
+
+        int index = Collections.binarySearch(this.dates, date, ChronoZonedDateTime.timeLineOrder());
+        index = index >= 0 ? index + 1 : -index - 1;
+
+        return index < this.dates.size() ? Optional.of(this.dates.get(index)) : Optional.empty();
+    }
+
+    private boolean covers(ZonedDateTime date) {
+        // cron-utils evaluates the cron in the zone of the given date, so a window is only valid for its own zone
+        return this.from != null &&
+            !this.dates.isEmpty() &&
+            this.from.getZone().equals(date.getZone()) &&
+            !date.isBefore(this.from) &&
+            date.isBefore(this.dates.getLast());
+    }
+
+    private void plan(ZonedDateTime date) {
+        List<ZonedDateTime> planned = new ArrayList<>(this.windowSize);
+        ZonedDateTime current = date;
+
+        while (planned.size() < this.windowSize) {
+            Optional<ZonedDateTime> next = this.executionTime.nextExecution(current);
+            if (next.isEmpty()) {
+                break;
+            }
+
+            planned.add(next.get());
+            current = next.get();
+        }
+
+        this.from = date;
+        this.dates = planned;
+    }
+}
@@ -0,0 +1,45 @@
+package io.kestra.core.metrics;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.micrometer.core.instrument.Counter;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+@KestraTest
+@Property(name = "kestra.metrics.cardinality-limit", value = "2")
+class MetricRegistryTest {
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Test
+    void counterIsCached() {
+        Counter counter = metricRegistry.counter("test.cached", MetricRegistry.TAG_FLOW_ID, "flow");
+
+        assertThat(metricRegistry.counter("test.cached", MetricRegistry.TAG_FLOW_ID, "flow"), sameInstance(counter));
+    }
+
+    @Test
+    void cardinalityLimit() {
+        metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "first", MetricRegistry.TAG_STATE, "SUCCESS").increment();
+        metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "second", MetricRegistry.TAG_STATE, "SUCCESS").increment();
+        metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "third", MetricRegistry.TAG_STATE, "SUCCESS").increment();
+        metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "fourth", MetricRegistry.TAG_STATE, "SUCCESS").increment();
+
+        // known values are kept, new values beyond the limit are collapsed
+        assertThat(metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "first", MetricRegistry.TAG_STATE, "SUCCESS").count(), is(1.0));
+        assertThat(metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "fourth", MetricRegistry.TAG_STATE, "SUCCESS").count(), is(2.0));
+        assertThat(
+            metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "fourth", MetricRegistry.TAG_STATE, "SUCCESS"),
+            sameInstance(metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "third", MetricRegistry.TAG_STATE, "SUCCESS"))
+        );
+
+        // the overflow is counted once for each distinct collapsed value, third and fourth
+        metricRegistry.counter("test.cardinality", MetricRegistry.TAG_FLOW_ID, "fourth", MetricRegistry.TAG_STATE, "FAILED").increment();
+        assertThat(metricRegistry.counter(MetricRegistry.METRIC_CARDINALITY_OVERFLOW_COUNT, MetricRegistry.TAG_METRIC_NAME, "test.cardinality", MetricRegistry.TAG_KEY, MetricRegistry.TAG_FLOW_ID).count(), is(2.0));
+    }
+}
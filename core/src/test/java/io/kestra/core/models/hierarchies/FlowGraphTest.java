@@ -232,6 +232,32 @@ class FlowGraphTest extends AbstractMemoryRunnerTest {
         assertThat(((GraphTrigger) triggerGraph).getTrigger().getDisabled(), is(true));
     }
 
+    @Test
+    void cachedWithCurrentTriggers() throws IllegalVariableEvaluationException, IOException {
+        FlowWithSource flow = this.parse("flows/valids/trigger-flow-listener.yaml");
+        triggerRepositoryInterface.save(
+            Trigger.of(flow, flow.getTriggers().getFirst()).toBuilder().disabled(false).build()
+        );
+
+        FlowGraph flowGraph = graphService.flowGraph(flow, null);
+        AbstractGraph triggerGraph = flowGraph.getNodes().stream().filter(e -> e instanceof GraphTrigger).findFirst().orElseThrow();
+        assertThat(((GraphTrigger) triggerGraph).getTrigger().getDisabled(), is(false));
+
+        triggerRepositoryInterface.save(
+            Trigger.of(flow, flow.getTriggers().getFirst()).toBuilder().disabled(true).build()
+        );
+
+        FlowGraph cached = graphService.flowGraph(flow, null);
+        assertThat(cached.getNodes().size(), is(flowGraph.getNodes().size()));
+        assertThat(cached.getEdges(), is(flowGraph.getEdges()));
+        AbstractGraph taskGraph = flowGraph.getNodes().stream().filter(e -> e instanceof GraphTask).findFirst().orElseThrow();
+        assertThat(nodeByUid(cached, taskGraph.getUid()), sameInstance(taskGraph));
+
+        triggerGraph = cached.getNodes().stream().filter(e -> e instanceof GraphTrigger).findFirst().orElseThrow();
+        assertThat(triggerGraph.getUid(), is(flow.getTriggers().getFirst().getId()));
+        assertThat(((GraphTrigger) triggerGraph).getTrigger().getDisabled(), is(true));
+    }
+
     @Test
     void multipleTriggers() throws IllegalVariableEvaluationException, IOException {
         FlowWithSource flow = this.parse("flows/valids/trigger-flow-listener-no-inputs.yaml");
@@ -1,14 +1,18 @@
 package io.kestra.core.plugins;
 
+import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.net.URISyntaxException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 import java.util.Objects;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
 
 class PluginScannerTest {
@@ -23,6 +27,26 @@ class PluginScannerTest {
         assertThat(scan.getFirst().getManifest().getMainAttributes().getValue("X-Kestra-Group"), is("io.kestra.plugin.templates"));
     }
 
+    @Test
+    void scanPluginsFromIndex() throws URISyntaxException, IOException {
+        Path source = Paths.get(Objects.requireNonNull(PluginScannerTest.class.getClassLoader().getResource("plugins")).toURI());
+        Path plugins = Files.createTempDirectory("plugins");
+        FileUtils.copyDirectory(source.toFile(), plugins.toFile());
+
+        PluginScanner pluginScanner = new PluginScanner(PluginScannerTest.class.getClassLoader());
+        List<RegisteredPlugin> scanned = pluginScanner.scan(plugins);
+        assertThat(Files.exists(plugins.resolve(PluginScanIndex.INDEX_FILE_NAME)), is(true));
+
+        List<RegisteredPlugin> indexed = pluginScanner.scan(plugins);
+        assertThat(indexed.size(), is(1));
+        assertThat(indexed.getFirst().getManifest().getMainAttributes().getValue("X-Kestra-Group"), is("io.kestra.plugin.templates"));
+        assertThat(
+            indexed.getFirst().allClass().stream().map(Class::getName).toList(),
+            containsInAnyOrder(scanned.getFirst().allClass().stream().map(Class::getName).toArray())
+        );
+        assertThat(indexed.getFirst().getAliases().keySet(), is(scanned.getFirst().getAliases().keySet()));
+    }
+
     @Test
     void scanCore() {
         PluginScanner pluginScanner = new PluginScanner(PluginScannerTest.class.getClassLoader());
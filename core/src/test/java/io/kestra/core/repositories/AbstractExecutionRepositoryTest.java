@@ -161,6 +161,35 @@ public abstract class AbstractExecutionRepositoryTest {
         assertThat(executions.getTotal(), is(28L));
     }
 
+    @Test
+    protected void findWithCursor() {
+        inject();
+
+        ArrayListCursor<Execution> page = executionRepository.findWithCursor(null, 10, true, null, null, null, null, null, null, null, null, null, null, null);
+        assertThat(page.size(), is(10));
+        assertThat(page.getTotal(), is(28L));
+
+        Set<String> ids = new HashSet<>();
+        page.forEach(execution -> ids.add(execution.getId()));
+
+        int pages = 1;
+        while (page.getNext() != null) {
+            page = executionRepository.findWithCursor(page.getNext(), 10, false, null, null, null, null, null, null, null, null, null, null, null);
+            assertThat(page.getTotal(), nullValue());
+            page.forEach(execution -> ids.add(execution.getId()));
+            pages++;
+        }
+
+        assertThat(pages, is(3));
+        assertThat(page.size(), is(8));
+        assertThat(ids.size(), is(28));
+
+        page = executionRepository.findWithCursor(null, 10, false, null, null, null, null, "second", null, null, null, null, null, null);
+        assertThat(page.size(), is(10));
+        assertThat(page.getNext(), notNullValue());
+        assertThat(page.getTotal(), nullValue());
+    }
+
     @Test
     protected void findTriggerExecutionId() {
         String executionTriggerId = IdUtils.create();
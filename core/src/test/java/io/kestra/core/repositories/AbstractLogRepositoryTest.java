@@ -12,10 +12,13 @@ import org.slf4j.event.Level;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
 
 @KestraTest
 public abstract class AbstractLogRepositoryTest {
@@ -91,6 +94,34 @@ public abstract class AbstractLogRepositoryTest {
         assertThat(list.size(), is(0));
     }
 
+    @Test
+    void findWithCursor() {
+        // all the logs have the same timestamp, so the pages rely on the key to be stable
+        Instant timestamp = Instant.now();
+        for (int i = 0; i < 25; i++) {
+            logRepository.save(logEntry(Level.INFO).flowId("cursor").timestamp(timestamp).build());
+        }
+
+        ArrayListCursor<LogEntry> page = logRepository.findWithCursor(null, 10, true, null, null, null, "cursor", null, null, null, null);
+        assertThat(page.size(), is(10));
+        assertThat(page.getTotal(), is(25L));
+
+        Set<String> executionIds = new HashSet<>();
+        page.forEach(log -> executionIds.add(log.getExecutionId()));
+
+        int pages = 1;
+        while (page.getNext() != null) {
+            page = logRepository.findWithCursor(page.getNext(), 10, false, null, null, null, "cursor", null, null, null, null);
+            assertThat(page.getTotal(), nullValue());
+            page.forEach(log -> executionIds.add(log.getExecutionId()));
+            pages++;
+        }
+
+        assertThat(pages, is(3));
+        assertThat(page.size(), is(5));
+        assertThat(executionIds.size(), is(25));
+    }
+
     @Test
     void pageable() {
         String executionId = "123";
@@ -0,0 +1,56 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.services.FlowListenersInterface;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class DefaultFlowExecutorTest {
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Test
+    void findById() {
+        FlowRepositoryInterface flowRepository = Mockito.mock(FlowRepositoryInterface.class);
+        DefaultFlowExecutor flowExecutor = new DefaultFlowExecutor(Mockito.mock(FlowListenersInterface.class), flowRepository, metricRegistry, 10);
+
+        String id = IdUtils.create();
+        FlowWithSource first = flow(id, 1);
+        FlowWithSource second = flow(id, 2);
+        Mockito.when(flowRepository.findByIdWithSource(null, "io.kestra.tests", id, Optional.of(3))).thenReturn(Optional.of(flow(id, 3)));
+
+        flowExecutor.setAllFlows(List.of(first));
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.empty()).orElseThrow(), is(first));
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.of(1)).orElseThrow(), is(first));
+
+        // the previous last version is kept as an older revision
+        flowExecutor.setAllFlows(List.of(second));
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.of(1)).orElseThrow(), is(first));
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.of(2)).orElseThrow(), is(second));
+
+        // revisions loaded from the repository are cached
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.of(3)).orElseThrow().getRevision(), is(3));
+        assertThat(flowExecutor.findById(null, "io.kestra.tests", id, Optional.of(3)).orElseThrow().getRevision(), is(3));
+        Mockito.verify(flowRepository, Mockito.times(1)).findByIdWithSource(null, "io.kestra.tests", id, Optional.of(3));
+    }
+
+    private static FlowWithSource flow(String id, int revision) {
+        return FlowWithSource.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .revision(revision)
+            .build();
+    }
+}
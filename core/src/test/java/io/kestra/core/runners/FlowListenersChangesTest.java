@@ -0,0 +1,92 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.exceptions.DeserializationException;
+import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.FlowRepositoryInterface;
+import io.kestra.core.services.FlowListenersInterface.FlowChanges;
+import io.kestra.core.utils.Either;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FlowListenersChangesTest {
+    @SuppressWarnings("unchecked")
+    @Test
+    void changesAreMerged() throws InterruptedException {
+        FlowWithSource existing = flow("existing", 1);
+        FlowWithSource removed = flow("removed", 1);
+
+        FlowRepositoryInterface flowRepository = Mockito.mock(FlowRepositoryInterface.class);
+        Mockito.when(flowRepository.findAllWithSourceForAllTenants()).thenReturn(List.of(existing, removed));
+        QueueInterface<FlowWithSource> flowQueue = Mockito.mock(QueueInterface.class);
+
+        FlowListeners flowListeners = new FlowListeners(flowRepository, flowQueue);
+        flowListeners.run();
+
+        ArgumentCaptor<Consumer<Either<FlowWithSource, DeserializationException>>> receive = ArgumentCaptor.forClass(Consumer.class);
+        Mockito.verify(flowQueue).receive(receive.capture());
+
+        BlockingQueue<FlowChanges> received = new LinkedBlockingQueue<>();
+        CountDownLatch blocked = new CountDownLatch(1);
+        flowListeners.listenChanges(changes -> {
+            received.add(changes);
+            if (changes.version() == 1) {
+                try {
+                    blocked.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+        });
+
+        // the current flows are delivered on listen
+        FlowChanges initial = received.poll();
+        assertThat(initial, notNullValue());
+        assertThat(initial.version(), is(0L));
+        assertThat(initial.added(), hasSize(2));
+
+        // the consumer is busy with the first change while the others are received
+        receive.getValue().accept(Either.left(flow("created", 1)));
+        assertThat(received.poll(10, TimeUnit.SECONDS).added(), hasSize(1));
+
+        FlowWithSource updated = flow("existing", 2);
+        receive.getValue().accept(Either.left(updated));
+        receive.getValue().accept(Either.left(flow("other", 1)));
+        receive.getValue().accept(Either.left(flow("other", 2)));
+        receive.getValue().accept(Either.left(removed.toDeleted()));
+        receive.getValue().accept(Either.left(flow("transient", 1)));
+        receive.getValue().accept(Either.left(flow("transient", 1).toDeleted()));
+        blocked.countDown();
+
+        FlowChanges merged = received.poll(10, TimeUnit.SECONDS);
+        assertThat(merged, notNullValue());
+        assertThat(merged.version(), is(7L));
+        assertThat(merged.added().stream().map(FlowWithSource::getId).toList(), contains("other"));
+        assertThat(merged.added().getFirst().getRevision(), is(2));
+        assertThat(merged.updated(), contains(updated));
+        assertThat(merged.removed(), contains(removed));
+        assertThat(merged.flows(), hasSize(3));
+        assertThat(merged.flows(), sameInstance(flowListeners.flows()));
+
+        assertThat(received.poll(100, TimeUnit.MILLISECONDS), nullValue());
+    }
+
+    private static FlowWithSource flow(String id, int revision) {
+        return FlowWithSource.builder()
+            .id(id)
+            .namespace("io.kestra.tests")
+            .revision(revision)
+            .build();
+    }
+}
@@ -0,0 +1,87 @@
+package io.kestra.core.runners;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.tasks.NamespaceFiles;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.core.utils.TestsUtils;
+import io.kestra.plugin.core.log.Log;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+class NamespaceFilesCacheTest {
+    @Inject
+    private RunContextFactory runContextFactory;
+
+    @Inject
+    private NamespaceFilesCache namespaceFilesCache;
+
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Test
+    void shouldOnlyDownloadNewOrUpdatedFiles() throws Exception {
+        String directory = IdUtils.create();
+        NamespaceFiles namespaceFiles = NamespaceFiles.builder().include(List.of(directory + "/**")).build();
+
+        RunContext first = runContext();
+        first.storage().namespace().putFile(Path.of(directory, "a.txt"), new ByteArrayInputStream("a".getBytes()));
+        first.storage().namespace().putFile(Path.of(directory, "b.txt"), new ByteArrayInputStream("b".getBytes()));
+
+        double hits = count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_HIT_COUNT);
+        double misses = count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_MISS_COUNT);
+
+        namespaceFilesCache.populate(first, namespaceFiles);
+        assertThat(count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_MISS_COUNT) - misses, is(2.0));
+        assertThat(Files.readString(first.workingDir().resolve(Path.of(directory, "a.txt"))), is("a"));
+
+        RunContext second = runContext();
+        namespaceFilesCache.populate(second, namespaceFiles);
+        assertThat(count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_HIT_COUNT) - hits, is(2.0));
+        assertThat(Files.readString(second.workingDir().resolve(Path.of(directory, "a.txt"))), is("a"));
+        assertThat(Files.readString(second.workingDir().resolve(Path.of(directory, "b.txt"))), is("b"));
+
+        second.storage().namespace().putFile(Path.of(directory, "b.txt"), new ByteArrayInputStream("updated".getBytes()));
+
+        RunContext third = runContext();
+        namespaceFilesCache.populate(third, namespaceFiles);
+        assertThat(count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_HIT_COUNT) - hits, is(3.0));
+        assertThat(count(MetricRegistry.METRIC_WORKER_NAMESPACE_FILES_CACHE_MISS_COUNT) - misses, is(3.0));
+        assertThat(Files.readString(third.workingDir().resolve(Path.of(directory, "b.txt"))), is("updated"));
+    }
+
+    @Test
+    void shouldNotShareFilesBetweenTasks() throws Exception {
+        String directory = IdUtils.create();
+        NamespaceFiles namespaceFiles = NamespaceFiles.builder().include(List.of(directory + "/**")).build();
+
+        RunContext first = runContext();
+        first.storage().namespace().putFile(Path.of(directory, "a.txt"), new ByteArrayInputStream("a".getBytes()));
+        namespaceFilesCache.populate(first, namespaceFiles);
+
+        // a task modifying its file in place must not change the file of other tasks
+        Files.writeString(first.workingDir().resolve(Path.of(directory, "a.txt")), "modified");
+
+        RunContext second = runContext();
+        namespaceFilesCache.populate(second, namespaceFiles);
+        assertThat(Files.readString(second.workingDir().resolve(Path.of(directory, "a.txt"))), is("a"));
+    }
+
+    private RunContext runContext() {
+        return TestsUtils.mockRunContext(runContextFactory, Log.builder().id("log").type(Log.class.getName()).message("logging").build(), Map.of());
+    }
+
+    private double count(String name) {
+        return metricRegistry.counter(name).count();
+    }
+}
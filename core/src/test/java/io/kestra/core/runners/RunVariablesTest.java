@@ -1,11 +1,16 @@
 package io.kestra.core.runners;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.models.tasks.Task;
 import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.utils.IdUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
 import java.util.Map;
 
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -97,4 +102,45 @@ class RunVariablesTest {
             .build(new RunContextLogger());
         Assertions.assertEquals(Map.of("id", "id-value", "type", "type-value"), variables.get("trigger"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldGetLazyVariablesGivenExecution() {
+        Execution execution = Execution.builder()
+            .id("execution-id")
+            .namespace("namespace-value")
+            .flowId("flow-id")
+            .state(new State())
+            .taskRunList(List.of(
+                taskRun("first", null, Map.of("value", "one")),
+                taskRun("each", null, null),
+                taskRun("each", "a", null),
+                taskRun("each", "b", null)
+            ))
+            .build();
+
+        Map<String, Object> variables = new RunVariables.DefaultBuilder()
+            .withExecution(execution)
+            .withDecryptVariables(false)
+            .build(new RunContextLogger());
+
+        assertThat(variables.get("outputs"), is(Map.of("first", Map.of("value", "one"))));
+        assertThat(variables.get("tasks"), is(Map.of(
+            "first", Map.of("state", State.Type.SUCCESS),
+            "each", Map.of(
+                "state", State.Type.SUCCESS,
+                "a", Map.of("state", State.Type.SUCCESS),
+                "b", Map.of("state", State.Type.SUCCESS)
+            )
+        )));
+    }
+
+    private static TaskRun taskRun(String taskId, String value, Map<String, Object> outputs) {
+        return TaskRun.builder()
+            .id(IdUtils.create())
+            .taskId(taskId)
+            .value(value)
+            .outputs(outputs)
+            .state(new State().withState(State.Type.SUCCESS))
+            .build();
+    }
+}
@@ -2,12 +2,14 @@ package io.kestra.core.runners;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.plugin.core.log.Log;
 import org.junit.jupiter.api.Test;
 
 import static org.hamcrest.MatcherAssert.assertThat;
-import static org.hamcrest.Matchers.instanceOf;
-import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.*;
 
 class WorkerTaskRunningTest {
     protected static final ObjectMapper MAPPER = JacksonMapper.ofJson();
@@ -100,6 +102,26 @@ class WorkerTaskRunningTest {
 
         assertThat(workerTaskRunning, notNullValue());
         assertThat(workerTaskRunning, instanceOf(WorkerTaskRunning.class));
+        assertThat(((WorkerTaskRunning) workerTaskRunning).getTask(), notNullValue());
     }
 
+    @Test
+    void serializeWithoutTask() throws JsonProcessingException {
+        WorkerTaskRunning workerTaskRunning = WorkerTaskRunning.of(
+            WorkerTask.builder()
+                .taskRun(TaskRun.builder().id(IdUtils.create()).executionId(IdUtils.create()).taskId("log").build())
+                .task(Log.builder().id("log").type(Log.class.getName()).message("hello").build())
+                .build(),
+            new WorkerInstance(IdUtils.create(), null),
+            0
+        );
+
+        String json = MAPPER.writeValueAsString(workerTaskRunning);
+        assertThat(json, not(containsString("\"task\"")));
+        assertThat(json, not(containsString("\"runContext\"")));
+
+        WorkerJobRunning deserialized = MAPPER.readValue(json, WorkerJobRunning.class);
+        assertThat(deserialized.uid(), is(workerTaskRunning.uid()));
+        assertThat(((WorkerTaskRunning) deserialized).getTask(), nullValue());
+    }
 }
\ No newline at end of file
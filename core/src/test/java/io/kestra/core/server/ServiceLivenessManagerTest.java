@@ -159,7 +159,40 @@ public class ServiceLivenessManagerTest {
             .execute(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(true));
     }
 
+    @Test
+    void shouldUpdateAllStatesAtOnceOnSchedule() {
+        // Given
+        Service worker = newServiceForState(Service.ServiceState.RUNNING);
+        serviceLivenessManager.updateServiceInstance(worker, serviceInstanceFor(worker));
+
+        Service executor = newServiceForState(Service.ServiceState.RUNNING, Service.ServiceType.EXECUTOR);
+        serviceLivenessManager.updateServiceInstance(executor, serviceInstanceFor(executor));
+
+        // mock the state transition results
+        Mockito
+            .when(serviceLivenessUpdater.updateAll(Mockito.anyList()))
+            .thenAnswer(invocation -> invocation.<List<ServiceInstance>>getArgument(0).stream()
+                .map(instance -> new ServiceStateTransition.Response(SUCCEEDED, instance))
+                .toList()
+            );
+
+        // When
+        serviceLivenessManager.onSchedule(Instant.now());
+
+        // Then
+        Mockito.verify(serviceLivenessUpdater, Mockito.times(1)).updateAll(Mockito.anyList());
+        Mockito.verify(serviceLivenessUpdater, Mockito.never())
+            .update(Mockito.any(ServiceInstance.class), Mockito.any(Service.ServiceState.class));
+        Assertions.assertEquals(2, serviceLivenessManager.allServiceInstances().size());
+        Mockito.verify(onStateTransitionFailureCallback, Mockito.never())
+            .execute(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.eq(true));
+    }
+
     public static Service newServiceForState(final Service.ServiceState state) {
+        return newServiceForState(state, Service.ServiceType.WORKER);
+    }
+
+    public static Service newServiceForState(final Service.ServiceState state, final Service.ServiceType type) {
         return new Service() {
 
             private final String id = IdUtils.create();
@@ -170,7 +203,7 @@ public class ServiceLivenessManagerTest {
 
             @Override
             public ServiceType getType() {
-                return ServiceType.WORKER;
+                return type;
             }
 
             @Override
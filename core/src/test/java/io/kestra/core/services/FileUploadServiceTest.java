@@ -0,0 +1,67 @@
+package io.kestra.core.services;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.NoSuchElementException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@KestraTest
+class FileUploadServiceTest {
+    @Inject
+    private FileUploadService fileUploadService;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Test
+    void chunkedUpload() throws Exception {
+        String id = fileUploadService.createSession(null);
+
+        // parts can be uploaded in any order and retried
+        fileUploadService.putPart(null, id, 2, new ByteArrayInputStream("world".getBytes()));
+        fileUploadService.putPart(null, id, 1, new ByteArrayInputStream("hi ".getBytes()));
+        fileUploadService.putPart(null, id, 1, new ByteArrayInputStream("hello ".getBytes()));
+
+        assertThat(fileUploadService.parts(null, id), contains(
+            new FileUploadService.Part(1, 6),
+            new FileUploadService.Part(2, 5)
+        ));
+
+        URI upload = fileUploadService.complete(null, id, "../file.txt");
+        assertThat(FileUploadService.isUpload(upload), is(true));
+        assertThat(upload.getPath(), endsWith("/" + id + "/file.txt"));
+
+        Execution execution = Execution.builder()
+            .id(IdUtils.create())
+            .flowId(IdUtils.create())
+            .flowRevision(1)
+            .namespace("io.kestra.test")
+            .build();
+        URI uri = fileUploadService.moveToExecution(execution, "file", upload);
+        assertThat(uri.getPath(), containsString(execution.getId()));
+
+        try (InputStream inputStream = storageInterface.get(null, null, uri)) {
+            assertThat(new String(inputStream.readAllBytes()), is("hello world"));
+        }
+
+        // the session is kept until it expires so the upload can be used again if the execution fails to be created
+        assertThat(storageInterface.exists(null, null, upload), is(true));
+        assertThat(fileUploadService.parts(null, id), empty());
+    }
+
+    @Test
+    void unknownSession() {
+        assertThrows(NoSuchElementException.class, () -> fileUploadService.putPart(null, IdUtils.create(), 1, new ByteArrayInputStream(new byte[1])));
+    }
+}
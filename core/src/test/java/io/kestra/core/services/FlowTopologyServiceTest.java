@@ -8,10 +8,12 @@ import io.kestra.plugin.core.condition.Expression;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.models.topologies.FlowRelation;
+import io.kestra.core.models.topologies.FlowTopology;
 import io.kestra.core.serializers.YamlParser;
 import io.kestra.plugin.core.debug.Return;
 import io.kestra.plugin.core.flow.Parallel;
 import io.kestra.plugin.core.flow.Subflow;
+import io.kestra.core.topologies.FlowTopologyIndex;
 import io.kestra.core.topologies.FlowTopologyService;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.core.junit.annotations.KestraTest;
@@ -22,8 +24,11 @@ import java.io.File;
 import java.net.URL;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.nullValue;
 
@@ -196,6 +201,110 @@ class FlowTopologyServiceTest {
         assertThat(flowTopologyService.isChild(flow, flow), nullValue());
     }
 
+    @Test
+    public void index() {
+        FlowWithSource parent = subflowParent("parent", "child");
+        FlowWithSource child = Flow.builder()
+            .namespace("io.kestra.ee")
+            .id("child")
+            .revision(1)
+            .tasks(List.of(returnTask()))
+            .build()
+            .withSource(null);
+        FlowWithSource listener = Flow.builder()
+            .namespace("io.kestra.ee")
+            .id("listener")
+            .revision(1)
+            .tasks(List.of(returnTask()))
+            .triggers(List.of(
+                io.kestra.plugin.core.trigger.Flow.builder()
+                    .conditions(List.of(
+                        ExecutionFlow.builder()
+                            .namespace("io.kestra.ee")
+                            .flowId("child")
+                            .build()
+                    ))
+                    .build()
+            ))
+            .build()
+            .withSource(null);
+        FlowWithSource listenerOfAll = Flow.builder()
+            .namespace("io.kestra.others")
+            .id("all")
+            .revision(1)
+            .tasks(List.of(returnTask()))
+            .triggers(List.of(
+                io.kestra.plugin.core.trigger.Flow.builder()
+                    .conditions(List.of(
+                        ExecutionStatus.builder()
+                            .in(List.of(State.Type.FAILED))
+                            .build()
+                    ))
+                    .build()
+            ))
+            .build()
+            .withSource(null);
+        FlowWithSource unrelated = subflowParent("unrelated", "unknown");
+
+        List<FlowWithSource> allFlows = List.of(parent, child, listener, listenerOfAll, unrelated);
+        FlowTopologyIndex index = flowTopologyService.index(allFlows);
+
+        // the index gives the same topology as the comparison with all the flows
+        allFlows.forEach(flow -> assertThat(
+            Set.copyOf(flowTopologyService.topology(flow, index).toList()),
+            is(Set.copyOf(flowTopologyService.topology(flow, allFlows).toList()))
+        ));
+
+        List<FlowTopology> topologies = flowTopologyService.topology(child, index).toList();
+        assertThat(topologies.stream().filter(t -> t.getRelation() == FlowRelation.FLOW_TASK).map(t -> t.getSource().getId()).toList(), is(List.of("parent")));
+        assertThat(topologies.stream().filter(t -> t.getRelation() == FlowRelation.FLOW_TRIGGER).map(t -> t.getDestination().getId()).sorted().toList(), is(List.of("all", "listener")));
+
+        // a new revision without the subflow removes the link
+        index.put(parent.toBuilder().revision(2).tasks(List.of(returnTask())).build().withSource(null));
+        assertThat(flowTopologyService.topology(child, index).filter(t -> t.getRelation() == FlowRelation.FLOW_TASK).toList(), is(empty()));
+
+        // an older revision is ignored
+        index.put(parent);
+        assertThat(flowTopologyService.topology(child, index).filter(t -> t.getRelation() == FlowRelation.FLOW_TASK).toList(), is(empty()));
+
+        index.remove(listener.toBuilder().revision(2).deleted(true).build().withSource(null));
+        assertThat(index.size(), is(4));
+        assertThat(flowTopologyService.topology(child, index).map(t -> t.getDestination().getId()).toList(), is(List.of("all")));
+    }
+
+    @Test
+    public void indexManyFlows() {
+        // a flow is only compared with the flows linked to it, whatever the number of indexed flows
+        List<FlowWithSource> allFlows = IntStream.range(0, 20_000)
+            .mapToObj(i -> subflowParent("flow-" + i, "flow-" + (i + 1)))
+            .toList();
+        FlowTopologyIndex index = flowTopologyService.index(allFlows);
+
+        assertThat(index.size(), is(20_000));
+        assertThat(index.parentCandidates(allFlows.get(10)).size(), is(1));
+        assertThat(index.childCandidates(allFlows.get(10)).size(), is(1));
+
+        List<FlowTopology> topologies = flowTopologyService.topology(allFlows.get(10), index).toList();
+        assertThat(topologies.size(), is(2));
+        assertThat(topologies.stream().map(t -> t.getSource().getId() + ">" + t.getDestination().getId()).sorted().toList(), is(List.of("flow-10>flow-11", "flow-9>flow-10")));
+    }
+
+    private FlowWithSource subflowParent(String id, String subflowId) {
+        return Flow.builder()
+            .namespace("io.kestra.ee")
+            .id(id)
+            .revision(1)
+            .tasks(List.of(Subflow.builder()
+                .id("launch")
+                .type(Subflow.class.getName())
+                .namespace("io.kestra.ee")
+                .flowId(subflowId)
+                .build()
+            ))
+            .build()
+            .withSource(null);
+    }
+
     private Return returnTask() {
         return Return.builder()
             .id("return")
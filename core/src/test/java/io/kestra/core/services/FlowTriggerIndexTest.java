@@ -0,0 +1,66 @@
+package io.kestra.core.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.services.FlowTriggerService.FlowWithFlowTrigger;
+import io.kestra.core.utils.IdUtils;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class FlowTriggerIndexTest {
+    @Test
+    void candidates() {
+        FlowWithFlowTrigger any = flowTrigger(null, List.of(State.Type.SUCCESS));
+        FlowWithFlowTrigger upstreamFlow = flowTrigger(preconditions(true, "io.kestra.upstream", "upstream"), List.of(State.Type.SUCCESS));
+        FlowWithFlowTrigger upstreamNamespace = flowTrigger(preconditions(true, "io.kestra.upstream", null), List.of(State.Type.SUCCESS, State.Type.FAILED));
+        FlowWithFlowTrigger noReset = flowTrigger(preconditions(false, "io.kestra.other", "other"), List.of(State.Type.SUCCESS));
+
+        FlowTriggerIndex index = new FlowTriggerIndex(List.of(any, upstreamFlow, upstreamNamespace, noReset));
+        assertThat(index.size(), is(4));
+
+        assertThat(index.candidates(execution("io.kestra.upstream", "upstream", State.Type.SUCCESS)), containsInAnyOrder(any, upstreamFlow, upstreamNamespace, noReset));
+        assertThat(index.candidates(execution("io.kestra.upstream", "another", State.Type.SUCCESS)), containsInAnyOrder(any, upstreamNamespace, noReset));
+        assertThat(index.candidates(execution("io.kestra.unrelated", "upstream", State.Type.SUCCESS)), containsInAnyOrder(any, noReset));
+        assertThat(index.candidates(execution("io.kestra.upstream", "upstream", State.Type.FAILED)), contains(upstreamNamespace));
+        assertThat(index.candidates(execution("io.kestra.upstream", "upstream", State.Type.RUNNING)), empty());
+    }
+
+    private static FlowWithFlowTrigger flowTrigger(io.kestra.plugin.core.trigger.Flow.Preconditions preconditions, List<State.Type> states) {
+        io.kestra.plugin.core.trigger.Flow trigger = io.kestra.plugin.core.trigger.Flow.builder()
+            .id("flow")
+            .type(io.kestra.plugin.core.trigger.Flow.class.getName())
+            .states(states)
+            .preconditions(preconditions)
+            .build();
+
+        Flow flow = Flow.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.downstream")
+            .triggers(List.of(trigger))
+            .build();
+
+        return new FlowWithFlowTrigger(flow, trigger);
+    }
+
+    private static io.kestra.plugin.core.trigger.Flow.Preconditions preconditions(boolean resetOnSuccess, String namespace, String flowId) {
+        return io.kestra.plugin.core.trigger.Flow.Preconditions.builder()
+            .id("preconditions")
+            .resetOnSuccess(resetOnSuccess)
+            .flows(List.of(io.kestra.plugin.core.trigger.Flow.UpstreamFlow.builder().namespace(namespace).flowId(flowId).build()))
+            .build();
+    }
+
+    private static Execution execution(String namespace, String flowId, State.Type state) {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace(namespace)
+            .flowId(flowId)
+            .state(new State().withState(state))
+            .build();
+    }
+}
@@ -1,11 +1,13 @@
 package io.kestra.core.storages;
 
 import io.kestra.core.exceptions.ResourceExpiredException;
+import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.kv.InternalKVStore;
 import io.kestra.core.storages.kv.KVEntry;
 import io.kestra.core.storages.kv.KVMetadata;
 import io.kestra.core.storages.kv.KVStore;
+import io.kestra.core.storages.kv.KVStoreException;
 import io.kestra.core.storages.kv.KVValueAndMetadata;
 import io.kestra.core.storages.kv.KVValue;
 import io.kestra.core.utils.IdUtils;
@@ -13,7 +15,9 @@ import io.kestra.storage.local.LocalStorage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.file.Files;
@@ -84,6 +88,74 @@ class InternalKVStoreTest {
         );
     }
 
+    @Test
+    void listWithPrefixAndPagination() throws IOException {
+        InternalKVStore kv = kv();
+        kv.put("key-c", new KVValueAndMetadata(null, "c"));
+        kv.put("key-a", new KVValueAndMetadata(null, "a"));
+        kv.put("key-b", new KVValueAndMetadata(null, "b"));
+        kv.put("key-expired", new KVValueAndMetadata(new KVMetadata(Duration.ofMillis(1)), "expired"));
+        kv.put("other", new KVValueAndMetadata(null, "other"));
+
+        ArrayListTotal<KVEntry> firstPage = kv.list("key-", 1, 2);
+        assertThat(firstPage.getTotal(), is(3L));
+        assertThat(firstPage.stream().map(KVEntry::key).toList(), is(List.of("key-a", "key-b")));
+
+        ArrayListTotal<KVEntry> secondPage = kv.list("key-", 2, 2);
+        assertThat(secondPage.getTotal(), is(3L));
+        assertThat(secondPage.stream().map(KVEntry::key).toList(), is(List.of("key-c")));
+
+        // the expired entry has been swept by the listing
+        assertThat(storageInterface.exists(null, kv.namespace(), kv.storageUri("key-expired")), is(false));
+
+        kv.delete("key-b");
+        assertThat(kv.list("key-", 1, 10).stream().map(KVEntry::key).toList(), is(List.of("key-a", "key-c")));
+    }
+
+    @Test
+    void listShouldRebuildMissingIndex() throws IOException {
+        InternalKVStore kv = kv();
+        storageInterface.put(null, kv.namespace(), kv.storageUri(TEST_KV_KEY), new StorageObject(
+            new KVMetadata(Duration.ofMinutes(5)).toMap(),
+            new ByteArrayInputStream(JacksonMapper.ofIon().writeValueAsBytes("value"))
+        ));
+
+        List<KVEntry> list = kv.list();
+        assertThat(list.size(), is(1));
+        assertThat(list.getFirst().key(), is(TEST_KV_KEY));
+        assertThat(kv.exists(TEST_KV_KEY), is(true));
+    }
+
+    @Test
+    void listShouldReconcileOutdatedIndex() throws IOException {
+        InternalKVStore kv = kv();
+        kv.put("indexed", new KVValueAndMetadata(null, "value"));
+        URI index = URI.create(kv.storageUri(null) + "/.index");
+        byte[] outdated = storageInterface.get(null, kv.namespace(), index).readAllBytes();
+
+        // another process adds an entry, then its index update is lost
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "value"));
+        storageInterface.put(null, kv.namespace(), index, new ByteArrayInputStream(outdated));
+
+        assertThat(kv.exists(TEST_KV_KEY), is(true));
+        Assertions.assertThrows(KVStoreException.class, () -> kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "other"), false));
+        assertThat(kv.list().stream().map(KVEntry::key).toList(), is(List.of("indexed", TEST_KV_KEY)));
+
+        // an up-to-date index is not written again by a listing
+        StorageInterface storage = Mockito.spy(storageInterface);
+        InternalKVStore spied = new InternalKVStore(null, kv.namespace(), storage);
+        assertThat(spied.list().size(), is(2));
+        Mockito.verify(storage, Mockito.never()).move(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    void putShouldNotOverwrite() throws IOException {
+        InternalKVStore kv = kv();
+        kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "value"));
+
+        Assertions.assertThrows(KVStoreException.class, () -> kv.put(TEST_KV_KEY, new KVValueAndMetadata(null, "other"), false));
+    }
+
     @Test
     void put() throws IOException {
         // Given
@@ -0,0 +1,38 @@
+package io.kestra.plugin.core.trigger;
+
+import com.cronutils.model.time.ExecutionTime;
+import org.junit.jupiter.api.Test;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+class ScheduleFireTimesTest {
+    @Test
+    void sameAsExecutionTime() {
+        Schedule schedule = Schedule.builder().id("schedule").cron("*/7 * * * *").build();
+        ExecutionTime executionTime = ExecutionTime.forCron(schedule.parseCron());
+        ScheduleFireTimes fireTimes = new ScheduleFireTimes(executionTime, 16);
+
+        ZonedDateTime date = ZonedDateTime.parse("2024-03-30T23:00:00+01:00[Europe/Paris]");
+        for (int i = 0; i < 100; i++) {
+            Optional<ZonedDateTime> next = fireTimes.next(date);
+            assertThat(next, is(executionTime.nextExecution(date)));
+            date = next.orElseThrow();
+        }
+
+        // dates inside the planned window, on and between fire times
+        ZonedDateTime between = date.minusMinutes(30).plusSeconds(13);
+        assertThat(fireTimes.next(between), is(executionTime.nextExecution(between)));
+
+        // backward and other zones plan a new window
+        ZonedDateTime before = ZonedDateTime.parse("2024-01-01T00:00:00Z");
+        assertThat(fireTimes.next(before), is(executionTime.nextExecution(before)));
+
+        ZonedDateTime otherZone = before.withZoneSameInstant(ZoneId.of("Asia/Kolkata"));
+        assertThat(fireTimes.next(otherZone), is(executionTime.nextExecution(otherZone)));
+    }
+}
@@ -5,7 +5,9 @@ import io.kestra.core.models.conditions.ConditionContext;
 import io.kestra.core.runners.DefaultRunContext;
 import io.kestra.core.runners.RunContextInitializer;
 import io.kestra.plugin.core.condition.DateTimeBetween;
+import io.kestra.plugin.core.condition.DayWeek;
 import io.kestra.plugin.core.condition.DayWeekInMonth;
+import io.kestra.plugin.core.condition.TimeBetween;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.Type;
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.Test;
 
 import java.time.DayOfWeek;
 import java.time.Duration;
+import java.time.OffsetTime;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
@@ -293,6 +296,34 @@ class ScheduleTest {
         assertThat(dateFromVars(vars.get("previous"), previous), is(previous));
     }
 
+    @Test
+    void dateConditionsNextDate() {
+        Schedule trigger = Schedule.builder()
+            .id("schedule")
+            .cron("* * * * *")
+            .timezone("Europe/Paris")
+            .conditions(List.of(
+                DayWeek.builder()
+                    .dayOfWeek(DayOfWeek.MONDAY)
+                    .build(),
+                TimeBetween.builder()
+                    .after(OffsetTime.parse("08:59:00+02:00"))
+                    .build()
+            ))
+            .build();
+
+        ZonedDateTime last = ZonedDateTime.parse("2021-08-07T10:00:00+02:00");
+
+        ZonedDateTime next = trigger.nextEvaluationDate(conditionContext(trigger), Optional.of(triggerContext(last, trigger)));
+        assertThat(next.toOffsetDateTime(), is(ZonedDateTime.parse("2021-08-09T09:00:00+02:00").toOffsetDateTime()));
+
+        next = trigger.nextEvaluationDate(conditionContext(trigger), Optional.of(triggerContext(next, trigger)));
+        assertThat(next.toOffsetDateTime(), is(ZonedDateTime.parse("2021-08-09T09:01:00+02:00").toOffsetDateTime()));
+
+        next = trigger.nextEvaluationDate(conditionContext(trigger), Optional.of(triggerContext(ZonedDateTime.parse("2021-08-09T23:59:00+02:00"), trigger)));
+        assertThat(next.toOffsetDateTime(), is(ZonedDateTime.parse("2021-08-16T09:00:00+02:00").toOffsetDateTime()));
+    }
+
     @SuppressWarnings("unchecked")
     @Test
     void impossibleNextConditions() throws Exception {
@@ -18,6 +18,7 @@ import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.SelectConditionStep;
+import org.jooq.SortField;
 import org.jooq.impl.DSL;
 
 import java.util.Arrays;
@@ -66,14 +67,11 @@ public class H2Repository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
     }
 
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            return items.stream()
-                .map(item -> this.persistInternal(item, dslContext, this.persistFields(item)))
-                .mapToInt(i -> i)
-                .sum();
-        });
+    public int persistBatch(DSLContext dslContext, List<T> items, Function<T, Map<Field<Object>, Object>> fields) {
+        return items.stream()
+            .map(item -> this.persistInternal(item, dslContext, fields.apply(item)))
+            .mapToInt(i -> i)
+            .sum();
     }
 
     public Condition fullTextCondition(List<String> fields, String query) {
@@ -100,11 +98,11 @@ public class H2Repository<T> extends io.kestra.jdbc.AbstractJdbcRepository<T> {
     }
 
     @SuppressWarnings("unchecked")
-    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank, RecordMapper<R, E> mapper) {
         Result<Record> results = this.limit(
                 context.select(DSL.asterisk(), DSL.count().over().as("total_count"))
                     .from(this
-                        .sort(select, pageable)
+                        .sort(select, pageable, rank)
                         .asTable("page")
                     )
                     .where(DSL.trueCondition()),
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "value" TEXT NOT NULL,
+    "tenant_id" VARCHAR(250) GENERATED ALWAYS AS (JQ_STRING("value", '.tenantId')),
+    "namespace" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.namespace')),
+    "flow_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.flowId')),
+    "state_current" VARCHAR(50) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.state')),
+    "date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.date'), 'yyyy-MM-dd''T''HH:mm:ss.SSS''Z''')),
+    "count" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.count')),
+    "duration_min" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.durationMin')),
+    "duration_max" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.durationMax')),
+    "duration_sum" BIGINT NOT NULL GENERATED ALWAYS AS (JQ_LONG("value", '.durationSum'))
+);
+
+CREATE INDEX IF NOT EXISTS execution_statistics_tenant_date ON execution_statistics ("tenant_id", "date");
+CREATE INDEX IF NOT EXISTS execution_statistics_tenant_namespace_flow_date ON execution_statistics ("tenant_id", "namespace", "flow_id", "date");
+
+CREATE TABLE IF NOT EXISTS execution_statistics_dirty (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "value" TEXT NOT NULL,
+    "tenant_id" VARCHAR(250) GENERATED ALWAYS AS (JQ_STRING("value", '.tenantId')),
+    "namespace" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.namespace')),
+    "flow_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.flowId')),
+    "date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.date'), 'yyyy-MM-dd''T''HH:mm:ss.SSS''Z'''))
+);
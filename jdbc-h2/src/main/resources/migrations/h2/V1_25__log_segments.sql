@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS log_segments (
+    "key" VARCHAR(250) NOT NULL PRIMARY KEY,
+    "value" TEXT NOT NULL,
+    "deleted" BOOL NOT NULL GENERATED ALWAYS AS (JQ_BOOLEAN("value", '.deleted')),
+    "tenant_id" VARCHAR(250) GENERATED ALWAYS AS (JQ_STRING("value", '.tenantId')),
+    "namespace" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.namespace')),
+    "flow_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.flowId')),
+    "execution_id" VARCHAR(150) NOT NULL GENERATED ALWAYS AS (JQ_STRING("value", '.executionId')),
+    "task_id" VARCHAR(150) GENERATED ALWAYS AS (JQ_STRING("value", '.taskId')),
+    "taskrun_id" VARCHAR(150) GENERATED ALWAYS AS (JQ_STRING("value", '.taskRunId')),
+    "start_date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.startDate'), 'yyyy-MM-dd''T''HH:mm:ss.SSS''Z''')),
+    "end_date" TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.endDate'), 'yyyy-MM-dd''T''HH:mm:ss.SSS''Z'''))
+);
+
+CREATE INDEX IF NOT EXISTS log_segments_execution_id ON log_segments ("deleted", "tenant_id", "execution_id");
+CREATE INDEX IF NOT EXISTS log_segments_namespace_flow_end_date ON log_segments ("deleted", "tenant_id", "namespace", "flow_id", "end_date");
@@ -0,0 +1,3 @@
+ALTER TABLE service_instance ADD COLUMN IF NOT EXISTS "next_deadline" TIMESTAMP GENERATED ALWAYS AS (PARSEDATETIME(JQ_STRING("value", '.nextDeadline'), 'yyyy-MM-dd''T''HH:mm:ss.SSSXXX'));
+
+CREATE INDEX IF NOT EXISTS service_instance_state_next_deadline ON service_instance ("state", "next_deadline");
\ No newline at end of file
@@ -8,6 +8,7 @@ import io.kestra.jdbc.JooqDSLContextWrapper;
 import io.micronaut.context.annotation.EachBean;
 import io.micronaut.context.annotation.Parameter;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.Nullable;
 import jakarta.inject.Inject;
 import org.jooq.Condition;
 import org.jooq.DSLContext;
@@ -15,6 +16,7 @@ import org.jooq.Field;
 import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.SelectConditionStep;
+import org.jooq.SortField;
 import org.jooq.impl.DSL;
 
 import java.sql.Timestamp;
@@ -55,8 +57,8 @@ public class MysqlRepository<T> extends AbstractJdbcRepository<T> {
         return DSL.condition("MATCH (" + String.join(", ", fields) + ") AGAINST (? IN BOOLEAN MODE)", match);
     }
 
-    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
-        List<E> map = this.pageable(select, pageable)
+    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank, RecordMapper<R, E> mapper) {
+        List<E> map = this.pageable(select, pageable, rank)
             .fetch()
             .map(mapper);
 
@@ -0,0 +1,24 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `value` JSON NOT NULL,
+    `tenant_id` VARCHAR(250) GENERATED ALWAYS AS (value ->> '$.tenantId') STORED,
+    `namespace` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.namespace') STORED NOT NULL,
+    `flow_id` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.flowId') STORED NOT NULL,
+    `state_current` VARCHAR(50) GENERATED ALWAYS AS (value ->> '$.state') STORED NOT NULL,
+    `date` DATETIME(6) GENERATED ALWAYS AS (STR_TO_DATE(value ->> '$.date', '%Y-%m-%dT%H:%i:%s.%fZ')) STORED NOT NULL,
+    `count` BIGINT GENERATED ALWAYS AS (value ->> '$.count') STORED NOT NULL,
+    `duration_min` BIGINT GENERATED ALWAYS AS (value ->> '$.durationMin') STORED NOT NULL,
+    `duration_max` BIGINT GENERATED ALWAYS AS (value ->> '$.durationMax') STORED NOT NULL,
+    `duration_sum` BIGINT GENERATED ALWAYS AS (value ->> '$.durationSum') STORED NOT NULL,
+    INDEX ix_tenant_date (tenant_id, date),
+    INDEX ix_tenant_namespace_flow_date (tenant_id, namespace, flow_id, date)
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS execution_statistics_dirty (
+    `key` VARCHAR(250) NOT NULL PRIMARY KEY,
+    `value` JSON NOT NULL,
+    `tenant_id` VARCHAR(250) GENERATED ALWAYS AS (value ->> '$.tenantId') STORED,
+    `namespace` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.namespace') STORED NOT NULL,
+    `flow_id` VARCHAR(150) GENERATED ALWAYS AS (value ->> '$.flowId') STORED NOT NULL,
+    `date` DATETIME(6) GENERATED ALWAYS AS (STR_TO_DATE(value ->> '$.date', '%Y-%m-%dT%H:%i:%s.%fZ')) STORED NOT NULL
+) ENGINE INNODB CHARACTER SET utf8mb4 COLLATE utf8mb4_unicode_ci;
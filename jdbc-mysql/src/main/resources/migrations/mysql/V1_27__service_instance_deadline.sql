@@ -0,0 +1,3 @@
+ALTER TABLE service_instance ADD COLUMN `next_deadline` DATETIME(6) GENERATED ALWAYS AS (STR_TO_DATE(value ->> '$.nextDeadline' , '%Y-%m-%dT%H:%i:%s.%fZ')) STORED;
+
+CREATE INDEX ix_state_next_deadline ON service_instance (`state`, `next_deadline`);
\ No newline at end of file
@@ -0,0 +1,7 @@
+package io.kestra.repository.mysql;
+
+import io.kestra.jdbc.repository.AbstractJdbcLogSegmentStorageTest;
+
+public class MysqlLogSegmentStorageTest extends AbstractJdbcLogSegmentStorageTest {
+
+}
@@ -20,12 +20,14 @@ import org.jooq.Record;
 import org.jooq.RecordMapper;
 import org.jooq.Result;
 import org.jooq.SelectConditionStep;
+import org.jooq.SortField;
 import org.jooq.impl.DSL;
 
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import jakarta.annotation.Nullable;
 
 @PostgresRepositoryEnabled
@@ -52,6 +54,15 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
         return DSL.condition(fields.getFirst() + " @@ FULLTEXT_SEARCH(?)", query);
     }
 
+    @Override
+    public Field<?> fullTextRank(List<String> fields, String query) {
+        if (query == null || query.equals("*")) {
+            return null;
+        }
+
+        return DSL.field("TS_RANK(" + fields.getFirst() + ", FULLTEXT_SEARCH(?))", Float.class, query);
+    }
+
     @SneakyThrows
     @Override
     public Map<Field<Object>, Object> persistFields(T entity) {
@@ -77,33 +88,30 @@ public class PostgresRepository<T> extends io.kestra.jdbc.AbstractJdbcRepository
     }
 
     @Override
-    public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            var inserts = items.stream().map(item -> {
-                    Map<Field<Object>, Object> finalFields = this.persistFields(item);
-
-                    return dslContext
-                        .insertInto(table)
-                        .set(AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onConflict(AbstractJdbcRepository.field("key"))
-                        .doUpdate()
-                        .set(finalFields);
-                })
-                .toList();
-
-            return Arrays.stream(dslContext.batch(inserts).execute()).sum();
-        });
+    public int persistBatch(DSLContext dslContext, List<T> items, Function<T, Map<Field<Object>, Object>> fields) {
+        var inserts = items.stream().map(item -> {
+                Map<Field<Object>, Object> finalFields = fields.apply(item);
+
+                return dslContext
+                    .insertInto(table)
+                    .set(AbstractJdbcRepository.field("key"), key(item))
+                    .set(finalFields)
+                    .onConflict(AbstractJdbcRepository.field("key"))
+                    .doUpdate()
+                    .set(finalFields);
+            })
+            .toList();
+
+        return Arrays.stream(dslContext.batch(inserts).execute()).sum();
     }
 
     @SuppressWarnings("unchecked")
     @Override
-    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank, RecordMapper<R, E> mapper) {
         Result<Record> results = this.limit(
             context.select(DSL.asterisk(), DSL.count().over().as("total_count"))
                 .from(this
-                    .sort(select, pageable)
+                    .sort(select, pageable, rank)
                     .asTable("page")
                 )
                 .where(DSL.trueCondition()),
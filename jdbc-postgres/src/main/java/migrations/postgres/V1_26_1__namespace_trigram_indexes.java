@@ -0,0 +1,73 @@
+package migrations.postgres;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Creates the trigram indexes backing the namespace prefix filters ({@code namespace ILIKE 'io.kestra.%'}) of the
+ * executions and flows, which can't use a btree index.
+ * <p>
+ * The pg_trgm extension is only created if the role is allowed to, otherwise the namespace filters keep working
+ * without these indexes. The indexes are built concurrently so writes are not blocked during the build, which can't
+ * be done conditionally from a SQL migration. The logs have no trigram index: their namespace filters are bounded by
+ * date, and every log insert would pay for its maintenance.
+ */
+@Slf4j
+public class V1_26_1__namespace_trigram_indexes extends BaseJavaMigration {
+    private static final Map<String, String> INDEXES = Map.of(
+        "executions_namespace_trgm", "executions",
+        "flows_namespace_trgm", "flows"
+    );
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return false;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        if (!this.createExtension(connection)) {
+            return;
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+                // a failed concurrent build leaves an invalid index behind, that must be dropped to be built again
+                statement.execute("DROP INDEX CONCURRENTLY IF EXISTS " + index.getKey());
+                statement.execute("CREATE INDEX CONCURRENTLY " + index.getKey() + " ON " + index.getValue() + " USING GIN (namespace gin_trgm_ops)");
+            }
+        }
+    }
+
+    private boolean createExtension(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            try (ResultSet resultSet = statement.executeQuery("SELECT 1 FROM pg_extension WHERE extname = 'pg_trgm'")) {
+                if (resultSet.next()) {
+                    return true;
+                }
+            }
+
+            try {
+                statement.execute("CREATE EXTENSION pg_trgm");
+                return true;
+            } catch (SQLException e) {
+                // 42501: insufficient_privilege, 58P01: undefined_file when the extension is not installed
+                if ("42501".equals(e.getSQLState()) || "58P01".equals(e.getSQLState())) {
+                    log.warn("pg_trgm is not available, namespace filters will not use trigram indexes: {}", e.getMessage());
+                    return false;
+                }
+
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS execution_statistics (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    state_current VARCHAR(50) NOT NULL GENERATED ALWAYS AS (value ->> 'state') STORED,
+    date TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'date')) STORED,
+    count BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'count' AS BIGINT)) STORED,
+    duration_min BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'durationMin' AS BIGINT)) STORED,
+    duration_max BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'durationMax' AS BIGINT)) STORED,
+    duration_sum BIGINT NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'durationSum' AS BIGINT)) STORED
+);
+
+CREATE INDEX IF NOT EXISTS execution_statistics_tenant_date ON execution_statistics (tenant_id, date);
+CREATE INDEX IF NOT EXISTS execution_statistics_tenant_namespace_flow_date ON execution_statistics (tenant_id, namespace, flow_id, date);
+
+CREATE TABLE IF NOT EXISTS execution_statistics_dirty (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    date TIMESTAMP NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'date')) STORED
+);
@@ -0,0 +1,16 @@
+CREATE TABLE IF NOT EXISTS log_segments (
+    key VARCHAR(250) NOT NULL PRIMARY KEY,
+    value JSONB NOT NULL,
+    deleted BOOL NOT NULL GENERATED ALWAYS AS (CAST(value ->> 'deleted' AS bool)) STORED,
+    tenant_id VARCHAR(250) GENERATED ALWAYS AS (value ->> 'tenantId') STORED,
+    namespace VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'namespace') STORED,
+    flow_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'flowId') STORED,
+    execution_id VARCHAR(150) NOT NULL GENERATED ALWAYS AS (value ->> 'executionId') STORED,
+    task_id VARCHAR(150) GENERATED ALWAYS AS (value ->> 'taskId') STORED,
+    taskrun_id VARCHAR(150) GENERATED ALWAYS AS (value ->> 'taskRunId') STORED,
+    start_date TIMESTAMPTZ NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'startDate')) STORED,
+    end_date TIMESTAMPTZ NOT NULL GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'endDate')) STORED
+);
+
+CREATE INDEX IF NOT EXISTS log_segments_execution_id ON log_segments (deleted, tenant_id, execution_id);
+CREATE INDEX IF NOT EXISTS log_segments_namespace_flow_end_date ON log_segments (deleted, tenant_id, namespace, flow_id, end_date);
@@ -0,0 +1,7 @@
+-- logs_fulltext was dropped along with the fulltext column in V1_13 and never recreated.
+-- It's built concurrently so writes to the logs are not blocked during the build, and dropped first as a failed
+-- concurrent build leaves an invalid index behind.
+DROP INDEX CONCURRENTLY IF EXISTS logs_fulltext;
+CREATE INDEX CONCURRENTLY logs_fulltext ON logs USING GIN (fulltext);
+
+-- the trigram indexes of the namespace filters depend on pg_trgm being available, see V1_26_1
@@ -0,0 +1,3 @@
+ALTER TABLE service_instance ADD COLUMN IF NOT EXISTS "next_deadline" TIMESTAMPTZ GENERATED ALWAYS AS (PARSE_ISO8601_DATETIME(value ->> 'nextDeadline')) STORED;
+
+CREATE INDEX IF NOT EXISTS service_instance_state_next_deadline ON service_instance (state, next_deadline);
\ No newline at end of file
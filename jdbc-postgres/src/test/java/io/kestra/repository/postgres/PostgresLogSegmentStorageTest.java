@@ -0,0 +1,7 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.jdbc.repository.AbstractJdbcLogSegmentStorageTest;
+
+public class PostgresLogSegmentStorageTest extends AbstractJdbcLogSegmentStorageTest {
+
+}
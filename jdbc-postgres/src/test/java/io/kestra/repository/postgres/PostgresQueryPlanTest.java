@@ -0,0 +1,73 @@
+package io.kestra.repository.postgres;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.jdbc.JdbcTestUtils;
+import io.kestra.jdbc.JooqDSLContextWrapper;
+import jakarta.inject.Inject;
+import org.jooq.DSLContext;
+import org.jooq.impl.DSL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the search queries can use their indexes, to catch plan regressions when a migration drops or changes
+ * an index.
+ */
+@KestraTest
+class PostgresQueryPlanTest {
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JooqDSLContextWrapper dslContextWrapper;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    @Test
+    void logsFullText() {
+        assertThat(plan("SELECT value FROM logs WHERE deleted = false AND fulltext @@ FULLTEXT_SEARCH('error')"), containsString("logs_fulltext"));
+    }
+
+    @Test
+    void executionsFullText() {
+        assertThat(plan("SELECT value FROM executions WHERE deleted = false AND fulltext @@ FULLTEXT_SEARCH('error')"), containsString("executions_fulltext"));
+    }
+
+    @Test
+    void flowsFullText() {
+        assertThat(plan("SELECT value FROM flows WHERE deleted = false AND fulltext @@ FULLTEXT_SEARCH('error')"), containsString("flows_fulltext"));
+    }
+
+    @Test
+    void namespacePrefix() {
+        // the trigram indexes are only created when pg_trgm could be created by the migration
+        assumeTrue(dslContextWrapper.transactionResult(configuration -> DSL.using(configuration).fetchExists(DSL.table("pg_extension"), DSL.field("extname").eq("pg_trgm"))));
+
+        assertThat(plan("SELECT value FROM executions WHERE deleted = false AND namespace ILIKE 'io.kestra.%'"), containsString("executions_namespace_trgm"));
+        assertThat(plan("SELECT value FROM flows WHERE deleted = false AND namespace ILIKE 'io.kestra.%'"), containsString("flows_namespace_trgm"));
+    }
+
+    private String plan(String sql) {
+        return dslContextWrapper.transactionResult(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            // the tables are empty, so sequential scans are disabled for the planner to consider the indexes
+            context.execute("SET LOCAL enable_seqscan = off");
+
+            return context.fetch("EXPLAIN " + sql)
+                .stream()
+                .map(record -> record.get(0, String.class))
+                .collect(Collectors.joining("\n"));
+        });
+    }
+}
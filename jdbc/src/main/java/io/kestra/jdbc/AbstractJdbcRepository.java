@@ -5,8 +5,10 @@ import com.google.common.collect.ImmutableMap;
 import io.kestra.core.exceptions.DeserializationException;
 import io.kestra.core.models.executions.metrics.MetricAggregation;
 import io.kestra.core.queues.QueueService;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.utils.IdUtils;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.data.model.Pageable;
 import io.micronaut.data.model.Sort;
 import lombok.Getter;
@@ -18,11 +20,14 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.DayOfWeek;
 import java.time.Instant;
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
 import java.util.function.Function;
@@ -57,6 +62,28 @@ public abstract class AbstractJdbcRepository<T> {
 
     abstract public Condition fullTextCondition(List<String> fields, String query);
 
+    /**
+     * Returns a field ranking the rows by relevance for a full-text query, or null if the dialect can't rank them.
+     */
+    public Field<?> fullTextRank(List<String> fields, String query) {
+        return null;
+    }
+
+    /**
+     * Returns the order of a full-text search by relevance when no sort is requested, so the first page holds the best
+     * matches, or null if the search is not ranked.
+     */
+    @Nullable
+    public SortField<?> rank(List<String> fields, @Nullable String query, Pageable pageable) {
+        if (query == null || (pageable != null && pageable.getSort().isSorted())) {
+            return null;
+        }
+
+        Field<?> rank = this.fullTextRank(fields, query);
+
+        return rank == null ? null : rank.desc();
+    }
+
     public String key(T entity) {
         String key = queueService.key(entity);
 
@@ -97,22 +124,27 @@ public abstract class AbstractJdbcRepository<T> {
     }
 
     public int persistBatch(List<T> items) {
-        return dslContextWrapper.transactionResult(configuration -> {
-            DSLContext dslContext = DSL.using(configuration);
-            var inserts = items.stream().map(item -> {
-                    Map<Field<Object>, Object> finalFields = this.persistFields(item);
-
-                    return dslContext
-                        .insertInto(table)
-                        .set(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"), key(item))
-                        .set(finalFields)
-                        .onDuplicateKeyUpdate()
-                        .set(finalFields);
-                })
-                .toList();
-
-            return Arrays.stream(dslContext.batch(inserts).execute()).sum();
-        });
+        return dslContextWrapper.transactionResult(configuration -> this.persistBatch(DSL.using(configuration), items));
+    }
+
+    public int persistBatch(DSLContext dslContext, List<T> items) {
+        return this.persistBatch(dslContext, items, this::persistFields);
+    }
+
+    public int persistBatch(DSLContext dslContext, List<T> items, Function<T, Map<Field<Object>, Object>> fields) {
+        var inserts = items.stream().map(item -> {
+                Map<Field<Object>, Object> finalFields = fields.apply(item);
+
+                return dslContext
+                    .insertInto(table)
+                    .set(io.kestra.jdbc.repository.AbstractJdbcRepository.field("key"), key(item))
+                    .set(finalFields)
+                    .onDuplicateKeyUpdate()
+                    .set(finalFields);
+            })
+            .toList();
+
+        return Arrays.stream(dslContext.batch(inserts).execute()).sum();
     }
 
     public int delete(T entity) {
@@ -199,10 +231,56 @@ public abstract class AbstractJdbcRepository<T> {
         return select.fetch().map(e -> this.mapMetricAggregation(e, groupByType));
     }
 
-    abstract public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper);
+    abstract public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank, RecordMapper<R, E> mapper);
+
+    public <R extends Record, E> ArrayListTotal<E> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, RecordMapper<R, E> mapper) {
+        return this.fetchPage(context, select, pageable, null, mapper);
+    }
 
     public <R extends Record> ArrayListTotal<T> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable) {
-        return this.fetchPage(context, select, pageable, this::map);
+        return this.fetchPage(context, select, pageable, null, this::map);
+    }
+
+    /**
+     * Fetches a page ordered by the given full-text rank, see {@link #rank(List, String, Pageable)}.
+     */
+    public <R extends Record> ArrayListTotal<T> fetchPage(DSLContext context, SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank) {
+        return this.fetchPage(context, select, pageable, rank, this::map);
+    }
+
+    /**
+     * Fetches a page with keyset pagination: rows are sorted by the given date column then by key descending, and a page
+     * starts right after the last row of the previous page, so deep pages are as fast as the first one.
+     * The select must include the date column and the key.
+     */
+    public <R extends Record> ArrayListCursor<T> fetchCursor(DSLContext context, SelectConditionStep<R> select, String dateColumn, @Nullable String cursor, int size, boolean withTotal) {
+        Field<Object> date = io.kestra.jdbc.repository.AbstractJdbcRepository.field(dateColumn);
+        Field<Object> key = io.kestra.jdbc.repository.AbstractJdbcRepository.field("key");
+
+        Long total = withTotal ? (long) context.fetchCount(select) : null;
+
+        if (cursor != null) {
+            Cursor decoded = Cursor.decode(cursor);
+            select = select.and(DSL.row(date, key).lessThan(decoded.date(), decoded.key()));
+        }
+
+        // one more row is fetched to know if there is a next page
+        Result<R> results = select
+            .orderBy(date.desc(), key.desc())
+            .limit(size + 1)
+            .fetch();
+
+        String next = null;
+        if (results.size() > size) {
+            R last = results.get(size - 1);
+            next = new Cursor(last.get(dateColumn, OffsetDateTime.class), last.get("key", String.class)).encode();
+        }
+
+        return new ArrayListCursor<>(
+            results.stream().limit(size).map(this::map).toList(),
+            next,
+            total
+        );
     }
 
     @SneakyThrows
@@ -235,6 +313,14 @@ public abstract class AbstractJdbcRepository<T> {
     }
 
     protected <R extends Record> SelectConditionStep<R> sort(SelectConditionStep<R> select, Pageable pageable) {
+        return this.sort(select, pageable, null);
+    }
+
+    protected <R extends Record> SelectConditionStep<R> sort(SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank) {
+        if (rank != null) {
+            select.orderBy(rank);
+        }
+
         if (pageable != null && pageable.getSort().isSorted()) {
             pageable
                 .getSort()
@@ -260,7 +346,11 @@ public abstract class AbstractJdbcRepository<T> {
     }
 
     protected <R extends Record> Select<R> pageable(SelectConditionStep<R> select, Pageable pageable) {
-        select = this.sort(select, pageable);
+        return this.pageable(select, pageable, null);
+    }
+
+    protected <R extends Record> Select<R> pageable(SelectConditionStep<R> select, Pageable pageable, @Nullable SortField<?> rank) {
+        select = this.sort(select, pageable, rank);
 
         return this.limit(select, pageable);
     }
@@ -268,4 +358,23 @@ public abstract class AbstractJdbcRepository<T> {
     public Field<Integer> weekFromTimestamp(Field<Timestamp> timestampField) {
         return DSL.week(timestampField);
     }
+
+    private record Cursor(OffsetDateTime date, String key) {
+        private static final String SEPARATOR = "|";
+
+        private String encode() {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString((date + SEPARATOR + key).getBytes(StandardCharsets.UTF_8));
+        }
+
+        private static Cursor decode(String cursor) {
+            try {
+                String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int index = decoded.indexOf(SEPARATOR);
+
+                return new Cursor(OffsetDateTime.parse(decoded.substring(0, index)), decoded.substring(index + 1));
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new IllegalArgumentException("Invalid cursor '" + cursor + "'", e);
+            }
+        }
+    }
 }
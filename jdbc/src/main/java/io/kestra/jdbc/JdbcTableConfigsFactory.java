@@ -3,7 +3,10 @@ package io.kestra.jdbc;
 import io.kestra.core.models.Setting;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.LogSegment;
 import io.kestra.core.models.executions.MetricEntry;
+import io.kestra.core.models.executions.statistics.ExecutionStatisticsBucket;
+import io.kestra.core.models.executions.statistics.ExecutionStatisticsRollup;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.templates.Template;
 import io.kestra.core.models.topologies.FlowTopology;
@@ -117,6 +120,30 @@ public class JdbcTableConfigsFactory {
         return new InstantiableJdbcTableConfig("executionqueued", ExecutionQueued.class, "execution_queued");
     }
 
+    @Bean
+    @Named("concurrencylimit")
+    public InstantiableJdbcTableConfig concurrencyLimit() {
+        return new InstantiableJdbcTableConfig("concurrencylimit", ConcurrencyLimit.class, "concurrency_limit");
+    }
+
+    @Bean
+    @Named("executionstatistics")
+    public InstantiableJdbcTableConfig executionStatistics() {
+        return new InstantiableJdbcTableConfig("executionstatistics", ExecutionStatisticsRollup.class, "execution_statistics");
+    }
+
+    @Bean
+    @Named("executionstatisticsdirty")
+    public InstantiableJdbcTableConfig executionStatisticsDirty() {
+        return new InstantiableJdbcTableConfig("executionstatisticsdirty", ExecutionStatisticsBucket.class, "execution_statistics_dirty");
+    }
+
+    @Bean
+    @Named("logsegments")
+    public InstantiableJdbcTableConfig logSegments() {
+        return new InstantiableJdbcTableConfig("logsegments", LogSegment.class, "log_segments");
+    }
+
     public static class InstantiableJdbcTableConfig extends JdbcTableConfig {
         public InstantiableJdbcTableConfig(String name, @Nullable Class<?> cls, String table) {
             super(name, cls, table);
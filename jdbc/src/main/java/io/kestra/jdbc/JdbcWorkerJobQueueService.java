@@ -15,6 +15,8 @@ import jakarta.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
 
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
@@ -45,6 +47,7 @@ public class JdbcWorkerJobQueueService implements Closeable {
             Worker worker = serviceRegistry.waitForServiceAndGet(Service.ServiceType.WORKER).unwrap();
 
             final WorkerInstance workerInstance = new WorkerInstance(worker.getId(), worker.getWorkerGroup());
+            final List<WorkerJobRunning> workerJobRunnings = new ArrayList<>(eithers.size());
 
             eithers.forEach(either -> {
                 if (either.isRight()) {
@@ -71,13 +74,16 @@ public class JdbcWorkerJobQueueService implements Closeable {
                     throw new IllegalArgumentException("Message is of type " + workerJob.getClass() + " which should never occurs");
                 }
 
-                jdbcWorkerJobRunningRepository.save(workerJobRunning, dslContext);
+                workerJobRunnings.add(workerJobRunning);
 
                 if (log.isTraceEnabled()) {
                     log.trace("Sending a workerJobRunning: {}", workerJobRunning);
                 }
             });
 
+            // all the jobs of the poll are tracked in one batch, inside the receive transaction
+            jdbcWorkerJobRunningRepository.saveBatch(workerJobRunnings, dslContext);
+
             eithers.forEach(consumer);
         }));
 
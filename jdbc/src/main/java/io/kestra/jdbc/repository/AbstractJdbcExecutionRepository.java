@@ -2,19 +2,24 @@ package io.kestra.jdbc.repository;
 
 import io.kestra.core.events.CrudEvent;
 import io.kestra.core.events.CrudEventType;
+import io.kestra.core.models.Setting;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
 import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.executions.statistics.ExecutionCountStatistics;
 import io.kestra.core.models.executions.statistics.ExecutionStatistics;
+import io.kestra.core.models.executions.statistics.ExecutionStatisticsBucket;
+import io.kestra.core.models.executions.statistics.ExecutionStatisticsRollup;
 import io.kestra.core.models.executions.statistics.Flow;
 import io.kestra.core.models.flows.FlowScope;
 import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.ExecutionRepositoryInterface;
+import io.kestra.core.repositories.SettingRepositoryInterface;
 import io.kestra.core.runners.Executor;
 import io.kestra.core.runners.ExecutorState;
 import io.kestra.core.utils.DateUtils;
@@ -52,6 +57,7 @@ import reactor.core.publisher.FluxSink;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
@@ -64,6 +70,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     private static final Field<String> STATE_CURRENT_FIELD = field("state_current", String.class);
     private static final Field<String> NAMESPACE_FIELD = field("namespace", String.class);
     private static final Field<Object> START_DATE_FIELD = field("start_date");
+    private static final Field<Object> DATE_FIELD = field("date");
 
     protected final io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository;
     private final ApplicationEventPublisher<CrudEvent<Execution>> eventPublisher;
@@ -73,6 +80,11 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     private QueueInterface<Execution> executionQueue;
     private NamespaceUtils namespaceUtils;
 
+    private final boolean statisticsEnabled;
+    private io.kestra.jdbc.AbstractJdbcRepository<ExecutionStatisticsRollup> statisticsRepository;
+    private io.kestra.jdbc.AbstractJdbcRepository<ExecutionStatisticsBucket> statisticsBucketRepository;
+    private SettingRepositoryInterface settingRepository;
+
     @SuppressWarnings("unchecked")
     public AbstractJdbcExecutionRepository(
         io.kestra.jdbc.AbstractJdbcRepository<Execution> jdbcRepository,
@@ -83,6 +95,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         this.executorStateStorage = executorStateStorage;
         this.eventPublisher = applicationContext.getBean(ApplicationEventPublisher.class);
         this.namespaceUtils = applicationContext.getBean(NamespaceUtils.class);
+        this.statisticsEnabled = applicationContext.getProperty("kestra.jdbc.execution-statistics.enabled", Boolean.class).orElse(true);
 
         // we inject ApplicationContext in order to get the ExecutionQueue lazy to avoid StackOverflowError
         this.applicationContext = applicationContext;
@@ -97,6 +110,32 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return this.executionQueue;
     }
 
+    @SuppressWarnings("unchecked")
+    private io.kestra.jdbc.AbstractJdbcRepository<ExecutionStatisticsRollup> statisticsRepository() {
+        if (this.statisticsRepository == null) {
+            this.statisticsRepository = applicationContext.getBean(io.kestra.jdbc.AbstractJdbcRepository.class, Qualifiers.byName("executionstatistics"));
+        }
+
+        return this.statisticsRepository;
+    }
+
+    @SuppressWarnings("unchecked")
+    private io.kestra.jdbc.AbstractJdbcRepository<ExecutionStatisticsBucket> statisticsBucketRepository() {
+        if (this.statisticsBucketRepository == null) {
+            this.statisticsBucketRepository = applicationContext.getBean(io.kestra.jdbc.AbstractJdbcRepository.class, Qualifiers.byName("executionstatisticsdirty"));
+        }
+
+        return this.statisticsBucketRepository;
+    }
+
+    private SettingRepositoryInterface settingRepository() {
+        if (this.settingRepository == null) {
+            this.settingRepository = applicationContext.getBean(SettingRepositoryInterface.class);
+        }
+
+        return this.settingRepository;
+    }
+
     public Boolean isTaskRunEnabled() {
         return false;
     }
@@ -217,7 +256,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
                     false
                 );
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.jdbcRepository.fetchPage(context, select, pageable, this.jdbcRepository.rank(List.of("fulltext"), query, pageable));
             });
     }
 
@@ -270,6 +309,39 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         );
     }
 
+    @Override
+    public ArrayListCursor<Execution> findWithCursor(
+        @Nullable String cursor,
+        int size,
+        boolean withTotal,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record3<Object, Object, Object>> select = context
+                    .select(field("value"), START_DATE_FIELD, field("key"))
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId));
+
+                select = this.findFilter(select, query, scope, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId, childFilter);
+
+                return this.jdbcRepository.fetchCursor(context, select, START_DATE_FIELD.getName(), cursor, size, withTotal);
+            });
+    }
+
     private SelectConditionStep<Record1<Object>> findSelect(
         DSLContext context,
         @Nullable String query,
@@ -293,6 +365,22 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             .from(this.jdbcRepository.getTable())
             .where(this.defaultFilter(tenantId, deleted));
 
+        return this.findFilter(select, query, scope, namespace, flowId, startDate, endDate, state, labels, triggerExecutionId, childFilter);
+    }
+
+    private <T extends Record> SelectConditionStep<T> findFilter(
+        SelectConditionStep<T> select,
+        @Nullable String query,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable List<State.Type> state,
+        @Nullable Map<String, String> labels,
+        @Nullable String triggerExecutionId,
+        @Nullable ChildFilter childFilter
+    ) {
         select = filteringQuery(select, scope, namespace, flowId, null, query, labels, triggerExecutionId, childFilter);
 
         if (startDate != null) {
@@ -405,6 +493,13 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             throw new UnsupportedOperationException();
         }
 
+        if (query == null && this.statisticsEnabled) {
+            List<DailyExecutionStatistics> fromRollups = dailyStatisticsFromRollups(tenantId, scope, namespace, flowId, startDate, endDate, groupBy, states);
+            if (fromRollups != null) {
+                return fromRollups;
+            }
+        }
+
         Results results = dailyStatisticsQuery(
             List.of(
                 STATE_CURRENT_FIELD
@@ -439,18 +534,33 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     ) {
         DateUtils.GroupType groupByType = groupType != null ? groupType : DateUtils.groupByType(Duration.between(startDate, endDate));
 
-        return fillDate(records
+        return dailyStatisticsMap(
+            records.stream().map(record -> executionStatisticsMap(record, groupByType)).toList(),
+            startDate,
+            endDate,
+            groupByType
+        );
+    }
+
+    private ExecutionStatistics executionStatisticsMap(Record record, DateUtils.GroupType groupByType) {
+        return ExecutionStatistics.builder()
+            .date(this.jdbcRepository.getDate(record, groupByType.val()))
+            .durationMax(record.get("duration_max", Long.class))
+            .durationMin(record.get("duration_min", Long.class))
+            .durationSum(record.get("duration_sum", Long.class))
+            .stateCurrent(record.get("state_current", String.class))
+            .count(record.get("count", Long.class))
+            .build();
+    }
+
+    private List<DailyExecutionStatistics> dailyStatisticsMap(
+        List<ExecutionStatistics> statistics,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        DateUtils.GroupType groupByType
+    ) {
+        return fillDate(statistics
             .stream()
-            .map(record ->
-                ExecutionStatistics.builder()
-                    .date(this.jdbcRepository.getDate(record, groupByType.val()))
-                    .durationMax(record.get("duration_max", Long.class))
-                    .durationMin(record.get("duration_min", Long.class))
-                    .durationSum(record.get("duration_sum", Long.class))
-                    .stateCurrent(record.get("state_current", String.class))
-                    .count(record.get("count", Long.class))
-                    .build()
-            )
             .collect(Collectors.groupingBy(ExecutionStatistics::getDate))
             .entrySet()
             .stream()
@@ -568,6 +678,335 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
             });
     }
 
+    /**
+     * Computes the daily statistics from the hourly rollups, only the partial hours at both ends of the range and the
+     * hours not yet backfilled are computed from the executions.
+     *
+     * @return the statistics, or null if the rollups can't be used for this range.
+     */
+    private List<DailyExecutionStatistics> dailyStatisticsFromRollups(
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate,
+        @Nullable DateUtils.GroupType groupBy,
+        @Nullable List<State.Type> states
+    ) {
+        ZonedDateTime finalStartDate = startDate == null ? ZonedDateTime.now().minusDays(30) : startDate;
+        ZonedDateTime finalEndDate = endDate == null ? ZonedDateTime.now() : endDate;
+        Duration duration = Duration.between(finalStartDate, finalEndDate);
+
+        DateUtils.GroupType groupType = groupByFieldsType(duration, groupBy);
+        if (groupType == DateUtils.GroupType.MINUTE) {
+            return null;
+        }
+
+        Optional<Instant> watermark = this.statisticsWatermark();
+        if (watermark.isEmpty()) {
+            return null;
+        }
+
+        Instant start = finalStartDate.toInstant();
+        Instant rollupStart = start.truncatedTo(ChronoUnit.HOURS);
+        if (rollupStart.isBefore(start)) {
+            rollupStart = rollupStart.plus(1, ChronoUnit.HOURS);
+        }
+        if (rollupStart.isBefore(watermark.get())) {
+            rollupStart = watermark.get();
+        }
+
+        Instant rollupEnd = finalEndDate.toInstant().truncatedTo(ChronoUnit.HOURS);
+        if (!rollupStart.isBefore(rollupEnd)) {
+            return null;
+        }
+
+        DateUtils.GroupType groupByType = groupBy != null ? groupBy : DateUtils.groupByType(duration);
+        List<ExecutionStatistics> statistics = new ArrayList<>();
+
+        if (start.isBefore(rollupStart)) {
+            statistics.addAll(this.executionStatisticsQuery(tenantId, scope, namespace, flowId, finalStartDate, rollupStart.minusNanos(1000).atZone(finalStartDate.getZone()), groupType, groupByType, states));
+        }
+
+        statistics.addAll(this.rollupStatisticsQuery(tenantId, scope, namespace, flowId, rollupStart, rollupEnd, groupType, groupByType, states));
+        statistics.addAll(this.executionStatisticsQuery(tenantId, scope, namespace, flowId, rollupEnd.atZone(finalEndDate.getZone()), finalEndDate, groupType, groupByType, states));
+
+        // the same date and state can come from both the rollups and the executions
+        Map<Pair<Instant, String>, ExecutionStatistics> merged = statistics
+            .stream()
+            .collect(Collectors.toMap(
+                stat -> Pair.of(stat.getDate(), stat.getStateCurrent()),
+                Function.identity(),
+                (first, second) -> ExecutionStatistics.builder()
+                    .date(first.getDate())
+                    .stateCurrent(first.getStateCurrent())
+                    .count(first.getCount() + second.getCount())
+                    .durationMin(Math.min(first.getDurationMin(), second.getDurationMin()))
+                    .durationMax(Math.max(first.getDurationMax(), second.getDurationMax()))
+                    .durationSum(first.getDurationSum() + second.getDurationSum())
+                    .build()
+            ));
+
+        return dailyStatisticsMap(new ArrayList<>(merged.values()), finalStartDate, finalEndDate, groupByType);
+    }
+
+    private List<ExecutionStatistics> executionStatisticsQuery(
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        ZonedDateTime startDate,
+        ZonedDateTime endDate,
+        DateUtils.GroupType groupType,
+        DateUtils.GroupType groupByType,
+        @Nullable List<State.Type> states
+    ) {
+        return dailyStatisticsQuery(List.of(STATE_CURRENT_FIELD), null, tenantId, scope, namespace, flowId, null, startDate, endDate, groupType, states)
+            .resultsOrRows()
+            .getFirst()
+            .result()
+            .stream()
+            .map(record -> executionStatisticsMap(record, groupByType))
+            .toList();
+    }
+
+    private List<ExecutionStatistics> rollupStatisticsQuery(
+        @Nullable String tenantId,
+        @Nullable List<FlowScope> scope,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        Instant startDate,
+        Instant endDate,
+        DateUtils.GroupType groupType,
+        DateUtils.GroupType groupByType,
+        @Nullable List<State.Type> states
+    ) {
+        List<Field<?>> dateFields = groupByFields(Duration.between(startDate, endDate), "date", groupType);
+        List<Field<?>> selectFields = new ArrayList<>(List.of(
+            STATE_CURRENT_FIELD,
+            DSL.sum(field("count", Long.class)).as("count"),
+            DSL.min(field("duration_min", Long.class)).as("duration_min"),
+            DSL.max(field("duration_max", Long.class)).as("duration_max"),
+            DSL.sum(field("duration_sum", Long.class)).as("duration_sum")
+        ));
+        selectFields.addAll(dateFields);
+
+        return statisticsRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                SelectConditionStep<Record> select = DSL.using(configuration)
+                    .select(selectFields)
+                    .from(statisticsRepository().getTable())
+                    .where(this.buildTenantCondition(tenantId))
+                    .and(DATE_FIELD.greaterOrEqual(startDate.atOffset(ZoneOffset.UTC)))
+                    .and(DATE_FIELD.lessThan(endDate.atOffset(ZoneOffset.UTC)));
+
+                select = filteringQuery(select, scope, namespace, flowId, null, null, null, null, null);
+
+                if (states != null) {
+                    select = select.and(STATE_CURRENT_FIELD.in(states.stream().map(Enum::name).toList()));
+                }
+
+                List<Field<?>> groupFields = new ArrayList<>(List.of(STATE_CURRENT_FIELD));
+                groupFields.addAll(dateFields);
+
+                return select
+                    .groupBy(groupFields)
+                    .fetch()
+                    .stream()
+                    .map(record -> executionStatisticsMap(record, groupByType))
+                    .toList();
+            });
+    }
+
+    /**
+     * Returns the date grouping that {@link #groupByFields(Duration, String, DateUtils.GroupType)} uses for the whole
+     * range, so the partial ranges are grouped the same way.
+     */
+    private static DateUtils.GroupType groupByFieldsType(Duration duration, @Nullable DateUtils.GroupType groupBy) {
+        if (groupBy == DateUtils.GroupType.MONTH || duration.toDays() > DateUtils.GroupValue.MONTH.getValue()) {
+            return DateUtils.GroupType.MONTH;
+        } else if (groupBy == DateUtils.GroupType.WEEK || duration.toDays() > DateUtils.GroupValue.WEEK.getValue()) {
+            return DateUtils.GroupType.WEEK;
+        } else if (groupBy == DateUtils.GroupType.DAY || duration.toDays() > DateUtils.GroupValue.DAY.getValue()) {
+            return DateUtils.GroupType.DAY;
+        } else if (groupBy == DateUtils.GroupType.HOUR || duration.toHours() > DateUtils.GroupValue.HOUR.getValue()) {
+            return DateUtils.GroupType.HOUR;
+        } else {
+            return DateUtils.GroupType.MINUTE;
+        }
+    }
+
+    /**
+     * Recomputes the hourly statistics rollups marked as dirty by the execution updates. When there is none left,
+     * backfills the rollups of the hour before the oldest one, until the given backfill period is covered.
+     *
+     * @param batchSize the maximum number of dirty rollups to recompute.
+     * @param backfill the period to backfill.
+     * @return the number of recomputed hours.
+     */
+    public int rollupStatistics(int batchSize, Duration backfill) {
+        if (this.statisticsWatermark().isEmpty()) {
+            // rollups are complete from the next hour, all previous hours will be backfilled
+            this.saveStatisticsWatermark(Instant.now().truncatedTo(ChronoUnit.HOURS).plus(1, ChronoUnit.HOURS));
+        }
+
+        List<ExecutionStatisticsBucket> buckets = statisticsBucketRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> statisticsBucketRepository().fetch(
+                DSL.using(configuration)
+                    .select(field("value"))
+                    .from(statisticsBucketRepository().getTable())
+                    .orderBy(DATE_FIELD)
+                    .limit(batchSize)
+            ));
+
+        if (buckets.isEmpty()) {
+            return this.backfillStatistics(backfill) ? 1 : 0;
+        }
+
+        return (int) buckets.stream()
+            .filter(this::rollupStatistics)
+            .count();
+    }
+
+    private boolean rollupStatistics(ExecutionStatisticsBucket bucket) {
+        return statisticsRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                // the bucket may have already been recomputed by another indexer
+                int deleted = context
+                    .delete(statisticsBucketRepository().getTable())
+                    .where(field("key").eq(bucket.uid()))
+                    .execute();
+
+                if (deleted == 0) {
+                    return false;
+                }
+
+                // only the rollup of the changed state is recomputed
+                this.rollupStatistics(
+                    context,
+                    bucket.getDate(),
+                    this.buildTenantCondition(bucket.getTenantId())
+                        .and(NAMESPACE_FIELD.eq(bucket.getNamespace()))
+                        .and(field("flow_id").eq(bucket.getFlowId()))
+                        .and(STATE_CURRENT_FIELD.eq(bucket.getState().name()))
+                );
+
+                return true;
+            });
+    }
+
+    private boolean backfillStatistics(Duration backfill) {
+        Instant watermark = this.statisticsWatermark().orElseThrow();
+        if (!watermark.isAfter(Instant.now().minus(backfill))) {
+            return false;
+        }
+
+        Instant hour = watermark.minus(1, ChronoUnit.HOURS);
+        statisticsRepository()
+            .getDslContextWrapper()
+            .transaction(configuration -> this.rollupStatistics(DSL.using(configuration), hour, DSL.noCondition()));
+
+        this.saveStatisticsWatermark(hour);
+
+        return true;
+    }
+
+    private void rollupStatistics(DSLContext context, Instant hour, Condition condition) {
+        Field<String> tenantIdField = field("tenant_id", String.class);
+        Field<String> flowIdField = field("flow_id", String.class);
+
+        context
+            .delete(statisticsRepository().getTable())
+            .where(DATE_FIELD.eq(hour.atOffset(ZoneOffset.UTC)))
+            .and(condition)
+            .execute();
+
+        context
+            .select(
+                tenantIdField,
+                NAMESPACE_FIELD,
+                flowIdField,
+                STATE_CURRENT_FIELD,
+                DSL.count().as("count"),
+                DSL.min(field("state_duration", Long.class)).as("duration_min"),
+                DSL.max(field("state_duration", Long.class)).as("duration_max"),
+                DSL.sum(field("state_duration", Long.class)).as("duration_sum")
+            )
+            .from(this.jdbcRepository.getTable())
+            .where(this.defaultFilter())
+            .and(condition)
+            .and(START_DATE_FIELD.greaterOrEqual(hour.atOffset(ZoneOffset.UTC)))
+            .and(START_DATE_FIELD.lessThan(hour.plus(1, ChronoUnit.HOURS).atOffset(ZoneOffset.UTC)))
+            .groupBy(tenantIdField, NAMESPACE_FIELD, flowIdField, STATE_CURRENT_FIELD)
+            .fetch()
+            .forEach(record -> statisticsRepository().persist(
+                ExecutionStatisticsRollup.builder()
+                    .tenantId(record.get(tenantIdField))
+                    .namespace(record.get(NAMESPACE_FIELD))
+                    .flowId(record.get(flowIdField))
+                    .state(State.Type.valueOf(record.get(STATE_CURRENT_FIELD)))
+                    .date(hour)
+                    .count(record.get("count", Long.class))
+                    .durationMin(record.get("duration_min", Long.class))
+                    .durationMax(record.get("duration_max", Long.class))
+                    .durationSum(record.get("duration_sum", Long.class))
+                    .build(),
+                context,
+                null
+            ));
+    }
+
+    private Optional<Instant> statisticsWatermark() {
+        return settingRepository()
+            .findByKey(Setting.EXECUTION_STATISTICS_WATERMARK)
+            .map(setting -> Instant.parse(setting.getValue().toString()));
+    }
+
+    private void saveStatisticsWatermark(Instant watermark) {
+        settingRepository().save(Setting.builder()
+            .key(Setting.EXECUTION_STATISTICS_WATERMARK)
+            .value(watermark.toString())
+            .build()
+        );
+    }
+
+    /**
+     * Marks the statistics rollups that the given executions may have changed, so they are recomputed.
+     * The executions saved by the executor are marked by the indexer, outside the executor transactions.
+     */
+    public void markStatisticsDirty(Collection<Execution> executions) {
+        if (!this.statisticsEnabled) {
+            return;
+        }
+
+        statisticsBucketRepository()
+            .getDslContextWrapper()
+            .transaction(configuration -> this.markStatisticsDirty(DSL.using(configuration), executions));
+    }
+
+    private void markStatisticsDirty(DSLContext context, Collection<Execution> executions) {
+        if (!this.statisticsEnabled) {
+            return;
+        }
+
+        executions.stream()
+            .flatMap(execution -> ExecutionStatisticsBucket.of(execution).stream())
+            .distinct()
+            .forEach(bucket -> context
+                .insertInto(statisticsBucketRepository().getTable())
+                .set(field("key"), bucket.uid())
+                .set(statisticsBucketRepository().persistFields(bucket))
+                .onDuplicateKeyIgnore()
+                .execute()
+            );
+    }
+
     private <T extends Record> SelectConditionStep<T> filteringQuery(
         SelectConditionStep<T> select,
         @Nullable List<FlowScope> scope,
@@ -941,6 +1380,30 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return counts;
     }
 
+    /**
+     * Counts the executions of a flow that hold a concurrency slot, the executions that were allowed to run and are not
+     * terminated yet.
+     */
+    public int countConcurrencySlots(@Nullable String tenantId, String namespace, String flowId) {
+        // a CREATED execution only holds a slot once admitted, it's only CREATED for the time of the admission transition
+        List<String> holding = Arrays.stream(State.Type.values())
+            .filter(type -> !type.isTerminated() && type != State.Type.CREATED && type != State.Type.QUEUED)
+            .map(Enum::name)
+            .toList();
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL.using(configuration)
+                .fetchCount(
+                    this.jdbcRepository.getTable(),
+                    this.defaultFilter(tenantId)
+                        .and(field("namespace").eq(namespace))
+                        .and(field("flow_id").eq(flowId))
+                        .and(STATE_CURRENT_FIELD.in(holding))
+                )
+            );
+    }
+
     public List<Execution> lastExecutions(
         @Nullable String tenantId,
         List<FlowFilter> flows
@@ -988,6 +1451,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
     public Execution save(Execution execution) {
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(execution);
         this.jdbcRepository.persist(execution, fields);
+        this.markStatisticsDirty(List.of(execution));
 
         return execution;
     }
@@ -1000,13 +1464,21 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return execution;
     }
 
+    @Override
+    public void saveBatch(DSLContext dslContext, List<Execution> executions) {
+        this.jdbcRepository.persistBatch(dslContext, executions);
+    }
+
     @Override
     public int saveBatch(List<Execution> items) {
         if (ListUtils.isEmpty(items)) {
             return 0;
         }
 
-        return this.jdbcRepository.persistBatch(items);
+        int saved = this.jdbcRepository.persistBatch(items);
+        this.markStatisticsDirty(items);
+
+        return saved;
     }
 
     @Override
@@ -1014,12 +1486,16 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
         return this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
-                DSL.using(configuration)
+                DSLContext context = DSL.using(configuration);
+
+                context
                     .update(this.jdbcRepository.getTable())
                     .set(this.jdbcRepository.persistFields((execution)))
                     .where(field("key").eq(execution.getId()))
                     .execute();
 
+                this.markStatisticsDirty(context, List.of(execution));
+
                 return execution;
             });
     }
@@ -1036,6 +1512,7 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(deleted);
         this.jdbcRepository.persist(deleted, fields);
+        this.markStatisticsDirty(List.of(deleted));
 
         executionQueue().emit(deleted);
 
@@ -1046,7 +1523,10 @@ public abstract class AbstractJdbcExecutionRepository extends AbstractJdbcReposi
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository.delete(execution);
+        int deleted = this.jdbcRepository.delete(execution);
+        this.markStatisticsDirty(List.of(execution));
+
+        return deleted;
     }
 
     public Executor lock(String executionId, Function<Pair<Execution, ExecutorState>, Pair<Executor, ExecutorState>> function) {
@@ -30,8 +30,11 @@ import org.jooq.*;
 import org.jooq.impl.DSL;
 
 import jakarta.annotation.Nullable;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 
@@ -507,7 +510,7 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
                     select.and(DSL.or(NAMESPACE_FIELD.eq(namespace), NAMESPACE_FIELD.likeIgnoreCase(namespace + ".%")));
                 }
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.jdbcRepository.fetchPage(context, select, pageable, this.jdbcRepository.rank(List.of("fulltext"), query, pageable));
             });
     }
 
@@ -616,6 +619,127 @@ public abstract class AbstractJdbcFlowRepository extends AbstractJdbcRepository
         return this.save(flow, CrudEventType.UPDATE, flowSource);
     }
 
+    @SneakyThrows(QueueException.class)
+    @Override
+    public List<FlowWithSource> createOrUpdate(String tenantId, List<FlowWithSource> flows, Function<FlowWithSource, ? extends Flow> withDefaults) throws ConstraintViolationException {
+        if (flows.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        // the last revision of each flow, including the deleted ones as their revisions continue
+        Map<String, FlowWithSource> lastRevisions = this.findLastRevisionsWithSource(tenantId, flows);
+
+        // only the changed flows are validated, in parallel as injecting the defaults and validating are CPU bound
+        List<FlowWithSource> changed = flows
+            .stream()
+            .filter(flow -> {
+                FlowWithSource last = lastRevisions.get(key(flow));
+                return last == null || last.isDeleted() || !last.equals(flow.toFlow(), flow.getSource());
+            })
+            .toList();
+
+        Set<ConstraintViolation<?>> violations = changed
+            .parallelStream()
+            .flatMap(flow -> this.violations(flow, lastRevisions.get(key(flow)), withDefaults).stream())
+            .collect(Collectors.toSet());
+
+        if (!violations.isEmpty()) {
+            throw new ConstraintViolationException(violations);
+        }
+
+        List<Flow> revisions = new ArrayList<>(changed.size());
+        Map<String, String> sources = HashMap.newHashMap(changed.size());
+        for (FlowWithSource flow : changed) {
+            FlowWithSource last = lastRevisions.get(key(flow));
+            Flow revision = flow.toFlow().toBuilder().revision(last == null ? 1 : last.getRevision() + 1).build();
+
+            revisions.add(revision);
+            sources.put(revision.uid(), flow.getSource());
+        }
+
+        this.jdbcRepository
+            .getDslContextWrapper()
+            .transaction(configuration -> this.jdbcRepository.persistBatch(DSL.using(configuration), revisions, revision -> {
+                Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(revision);
+                fields.put(field("source_code"), sources.get(revision.uid()));
+
+                return fields;
+            }));
+
+        Map<String, FlowWithSource> saved = HashMap.newHashMap(revisions.size());
+        for (Flow revision : revisions) {
+            FlowWithSource last = lastRevisions.get(key(revision));
+            if (last != null && !last.isDeleted()) {
+                FlowService
+                    .findRemovedTrigger(revision, last)
+                    .forEach(throwConsumer(abstractTrigger -> triggerQueue.delete(Trigger.of(revision, abstractTrigger))));
+            }
+
+            saved.put(key(revision), FlowWithSource.of(revision, sources.get(revision.uid())));
+        }
+
+        flowQueue.emitBatch(revisions.stream().map(revision -> revision.withSource(sources.get(revision.uid()))).toList());
+
+        revisions.forEach(revision -> {
+            FlowWithSource last = lastRevisions.get(key(revision));
+            if (last != null && !last.isDeleted()) {
+                eventPublisher.publishEvent(new CrudEvent<>(revision, last, CrudEventType.UPDATE));
+            } else {
+                eventPublisher.publishEvent(new CrudEvent<>(revision, CrudEventType.CREATE));
+            }
+        });
+
+        return flows
+            .stream()
+            .map(flow -> Optional.ofNullable(saved.get(key(flow))).orElseGet(() -> lastRevisions.get(key(flow))))
+            .toList();
+    }
+
+    private Map<String, FlowWithSource> findLastRevisionsWithSource(String tenantId, List<FlowWithSource> flows) {
+        Set<String> namespaces = flows.stream().map(Flow::getNamespace).collect(Collectors.toSet());
+        Set<String> ids = flows.stream().map(Flow::getId).collect(Collectors.toSet());
+
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> DSL
+                .using(configuration)
+                .select(field("value"), field("source_code", String.class))
+                .from(fromLastRevision(true))
+                .where(this.revisionDefaultFilter(tenantId))
+                .and(NAMESPACE_FIELD.in(namespaces))
+                .and(field("id", String.class).in(ids))
+                .fetch()
+                .map(record -> FlowWithSource.of(
+                    jdbcRepository.map(record),
+                    record.get("source_code", String.class)
+                ))
+                .stream()
+                .collect(Collectors.toMap(AbstractJdbcFlowRepository::key, flow -> flow))
+            );
+    }
+
+    private Set<ConstraintViolation<?>> violations(FlowWithSource flow, FlowWithSource last, Function<FlowWithSource, ? extends Flow> withDefaults) {
+        try {
+            Flow flowWithDefaults = withDefaults.apply(flow);
+            modelValidator.validate(flowWithDefaults);
+
+            if (last != null && !last.isDeleted()) {
+                Optional<ConstraintViolationException> checkUpdate = last.validateUpdate(flowWithDefaults);
+                if (checkUpdate.isPresent()) {
+                    return checkUpdate.get().getConstraintViolations();
+                }
+            }
+
+            return Collections.emptySet();
+        } catch (ConstraintViolationException e) {
+            return e.getConstraintViolations();
+        }
+    }
+
+    private static String key(Flow flow) {
+        return flow.getNamespace() + "|" + flow.getId();
+    }
+
     @SneakyThrows
     private FlowWithSource save(Flow flow, CrudEventType crudEventType, String flowSource) throws ConstraintViolationException {
         if (flow instanceof FlowWithSource) {
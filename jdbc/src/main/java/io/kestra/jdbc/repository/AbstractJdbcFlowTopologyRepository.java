@@ -11,6 +11,7 @@ import org.jooq.impl.DSL;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 public abstract class AbstractJdbcFlowTopologyRepository extends AbstractJdbcRepository implements FlowTopologyRepositoryInterface, JdbcQueueIndexerInterface<FlowTopology> {
     protected final io.kestra.jdbc.AbstractJdbcRepository<FlowTopology> jdbcRepository;
@@ -79,6 +80,17 @@ public abstract class AbstractJdbcFlowTopologyRepository extends AbstractJdbcRep
     }
 
     public void save(FlowWithSource flow, List<FlowTopology> flowTopologies) {
+        this.save(List.of(flow), flowTopologies);
+    }
+
+    /**
+     * Replaces the topologies of the given flows, in one transaction with one delete and one batch of merges.
+     */
+    public void save(List<FlowWithSource> flows, List<FlowTopology> flowTopologies) {
+        if (flows.isEmpty()) {
+            return;
+        }
+
         jdbcRepository
             .getDslContextWrapper()
             .transaction(configuration -> {
@@ -86,17 +98,21 @@ public abstract class AbstractJdbcFlowTopologyRepository extends AbstractJdbcRep
 
                 context
                     .delete(this.jdbcRepository.getTable())
-                    .where(DSL.or(
-                        DSL.and(
-                            buildTenantCondition("destination", flow.getTenantId()),
-                            field("destination_namespace").eq(flow.getNamespace()),
-                            field("destination_id").eq(flow.getId())
-                        ),
-                        DSL.and(
-                            buildTenantCondition("source", flow.getTenantId()),
-                            field("source_namespace").eq(flow.getNamespace()),
-                            field("source_id").eq(flow.getId())
-                        )
+                    .where(DSL.or(flows
+                        .stream()
+                        .flatMap(flow -> Stream.of(
+                            DSL.and(
+                                buildTenantCondition("destination", flow.getTenantId()),
+                                field("destination_namespace").eq(flow.getNamespace()),
+                                field("destination_id").eq(flow.getId())
+                            ),
+                            DSL.and(
+                                buildTenantCondition("source", flow.getTenantId()),
+                                field("source_namespace").eq(flow.getNamespace()),
+                                field("source_id").eq(flow.getId())
+                            )
+                        ))
+                        .toList()
                     ))
                     .execute();
 
@@ -138,6 +154,11 @@ public abstract class AbstractJdbcFlowTopologyRepository extends AbstractJdbcRep
         return flowTopology;
     }
 
+    @Override
+    public void saveBatch(DSLContext dslContext, List<FlowTopology> flowTopologies) {
+        this.jdbcRepository.persistBatch(dslContext, flowTopologies);
+    }
+
     protected Condition buildTenantCondition(String prefix, String tenantId) {
         return tenantId == null ? field(prefix + "_tenant_id").isNull() : field(prefix + "_tenant_id").eq(tenantId);
     }
@@ -3,10 +3,12 @@ package io.kestra.jdbc.repository;
 import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.executions.statistics.LogStatistics;
+import io.kestra.core.repositories.ArrayListCursor;
 import io.kestra.core.repositories.ArrayListTotal;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.utils.DateUtils;
 import io.kestra.core.utils.ListUtils;
+import io.micronaut.context.ApplicationContext;
 import io.micronaut.data.model.Pageable;
 import jakarta.annotation.Nullable;
 import org.jooq.Record;
@@ -27,8 +29,26 @@ import java.util.stream.Collectors;
 public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository implements LogRepositoryInterface {
     protected io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository;
 
-    public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository) {
+    private final ApplicationContext applicationContext;
+    private final boolean segmentsEnabled;
+    private final Duration searchWindow;
+    private JdbcLogSegmentStorage logSegmentStorage;
+
+    public AbstractJdbcLogRepository(io.kestra.jdbc.AbstractJdbcRepository<LogEntry> jdbcRepository, ApplicationContext applicationContext) {
         this.jdbcRepository = jdbcRepository;
+        this.segmentsEnabled = applicationContext.getProperty("kestra.logs.segments.enabled", Boolean.class).orElse(false);
+        this.searchWindow = applicationContext.getProperty("kestra.logs.search.default-window", Duration.class).orElse(Duration.ofDays(7));
+
+        // we inject ApplicationContext in order to get the JdbcLogSegmentStorage lazily, only when segments are enabled
+        this.applicationContext = applicationContext;
+    }
+
+    private JdbcLogSegmentStorage logSegmentStorage() {
+        if (this.logSegmentStorage == null) {
+            this.logSegmentStorage = applicationContext.getBean(JdbcLogSegmentStorage.class);
+        }
+
+        return this.logSegmentStorage;
     }
 
     abstract protected Condition findCondition(String query);
@@ -56,12 +76,54 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
                     .from(this.jdbcRepository.getTable())
                     .where(this.defaultFilter(tenantId));
 
-                this.filter(select, query, namespace, flowId, triggerId, minLevel, startDate , endDate);
+                select = this.filter(select, query, namespace, flowId, triggerId, minLevel, this.searchStartDate(query, namespace, startDate, endDate), endDate);
+
+                return this.jdbcRepository.fetchPage(context, select, pageable, this.jdbcRepository.rank(List.of("fulltext"), query, pageable));
+            });
+    }
+
+    @Override
+    public ArrayListCursor<LogEntry> findWithCursor(
+        @Nullable String cursor,
+        int size,
+        boolean withTotal,
+        @Nullable String query,
+        @Nullable String tenantId,
+        @Nullable String namespace,
+        @Nullable String flowId,
+        @Nullable String triggerId,
+        @Nullable Level minLevel,
+        @Nullable ZonedDateTime startDate,
+        @Nullable ZonedDateTime endDate
+    ) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+
+                SelectConditionStep<Record3<Object, Object, Object>> select = context
+                    .select(field("value"), field("timestamp"), field("key"))
+                    .from(this.jdbcRepository.getTable())
+                    .where(this.defaultFilter(tenantId));
+
+                select = this.filter(select, query, namespace, flowId, triggerId, minLevel, this.searchStartDate(query, namespace, startDate, endDate), endDate);
 
-                return this.jdbcRepository.fetchPage(context, select, pageable);
+                return this.jdbcRepository.fetchCursor(context, select, "timestamp", cursor, size, withTotal);
             });
     }
 
+    /**
+     * A full-text search without any namespace or start date would scan all the logs, so it is bounded to the
+     * default search window.
+     */
+    private ZonedDateTime searchStartDate(@Nullable String query, @Nullable String namespace, @Nullable ZonedDateTime startDate, @Nullable ZonedDateTime endDate) {
+        if (query == null || namespace != null || startDate != null) {
+            return startDate;
+        }
+
+        return (endDate == null ? ZonedDateTime.now() : endDate).minus(this.searchWindow);
+    }
+
     private <T extends Record> SelectConditionStep<T> filter(
         SelectConditionStep<T> select,
         @Nullable String query,
@@ -239,19 +301,27 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     }
 
     private List<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, null, null, null, minLevel, withAccessControl
         );
     }
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionId(String tenantId, String executionId, Level minLevel, Pageable pageable) {
+        Condition condition = field("execution_id").eq(executionId);
+        if (this.segmentsEnabled) {
+            return this.pageWithSegments(condition, tenantId, executionId, null, null, minLevel, pageable);
+        }
+
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId),
+            condition,
             minLevel,
             pageable
         );
@@ -259,13 +329,16 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public List<LogEntry> findByExecutionId(String tenantId, String namespace, String flowId, String executionId, Level minLevel) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("namespace").eq(namespace))
-                .and(field("flow_id").eq(flowId)),
-            minLevel,
-            true
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId)),
+                minLevel,
+                true
+            ),
+            tenantId, executionId, null, null, null, minLevel, true
         );
     }
 
@@ -280,21 +353,29 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     }
 
     private List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("task_id").eq(taskId)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("task_id").eq(taskId)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, taskId, null, null, minLevel, withAccessControl
         );
     }
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskId(String tenantId, String executionId, String taskId, Level minLevel, Pageable pageable) {
+        Condition condition = field("execution_id").eq(executionId)
+            .and(field("task_id").eq(taskId));
+        if (this.segmentsEnabled) {
+            return this.pageWithSegments(condition, tenantId, executionId, taskId, null, minLevel, pageable);
+        }
+
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("task_id").eq(taskId)),
+            condition,
             minLevel,
             pageable
         );
@@ -302,14 +383,17 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public List<LogEntry> findByExecutionIdAndTaskId(String tenantId, String namespace, String flowId, String executionId, String taskId, Level minLevel) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("namespace").eq(namespace))
-                .and(field("flow_id").eq(flowId))
-                .and(field("task_id").eq(taskId)),
-            minLevel,
-            true
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("namespace").eq(namespace))
+                    .and(field("flow_id").eq(flowId))
+                    .and(field("task_id").eq(taskId)),
+                minLevel,
+                true
+            ),
+            tenantId, executionId, taskId, null, null, minLevel, true
         );
     }
 
@@ -324,21 +408,29 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     }
 
     private List<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("taskrun_id").eq(taskRunId)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("taskrun_id").eq(taskRunId)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, null, taskRunId, null, minLevel, withAccessControl
         );
     }
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunId(String tenantId, String executionId, String taskRunId, Level minLevel, Pageable pageable) {
+        Condition condition = field("execution_id").eq(executionId)
+            .and(field("taskrun_id").eq(taskRunId));
+        if (this.segmentsEnabled) {
+            return this.pageWithSegments(condition, tenantId, executionId, null, taskRunId, minLevel, pageable);
+        }
+
         return this.query(
             tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("taskrun_id").eq(taskRunId)),
+            condition,
             minLevel,
             pageable
         );
@@ -355,19 +447,27 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
     }
 
     private List<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, boolean withAccessControl) {
-        return this.query(
-            tenantId,
-            field("execution_id").eq(executionId)
-                .and(field("taskrun_id").eq(taskRunId))
-                .and(field("attempt_number").eq(attempt)),
-            minLevel,
-            withAccessControl
+        return this.withSegments(
+            this.query(
+                tenantId,
+                field("execution_id").eq(executionId)
+                    .and(field("taskrun_id").eq(taskRunId))
+                    .and(field("attempt_number").eq(attempt)),
+                minLevel,
+                withAccessControl
+            ),
+            tenantId, executionId, null, taskRunId, attempt, minLevel, withAccessControl
         );
     }
 
 
     @Override
     public ArrayListTotal<LogEntry> findByExecutionIdAndTaskRunIdAndAttempt(String tenantId, String executionId, String taskRunId, Level minLevel, Integer attempt, Pageable pageable) {
+        if (this.segmentsEnabled) {
+            // the attempts are not counted in the segment summaries, so all the logs of the task run are read
+            return page(this.findByExecutionIdAndTaskRunIdAndAttempt(tenantId, executionId, taskRunId, minLevel, attempt, true), pageable);
+        }
+
         return this.query(
             tenantId,
             field("execution_id").eq(executionId)
@@ -380,6 +480,11 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public LogEntry save(LogEntry log) {
+        if (this.segmentsEnabled && log.getExecutionId() != null) {
+            this.logSegmentStorage().save(List.of(log));
+            return log;
+        }
+
         Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(log);
         this.jdbcRepository.persist(log, fields);
 
@@ -392,12 +497,30 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             return 0;
         }
 
-        return this.jdbcRepository.persistBatch(items);
+        if (!this.segmentsEnabled) {
+            return this.jdbcRepository.persistBatch(items);
+        }
+
+        // only the logs of an execution are stored as segments, the ones of the triggers stay in the database
+        Map<Boolean, List<LogEntry>> byExecution = items.stream()
+            .collect(Collectors.partitioningBy(log -> log.getExecutionId() != null));
+
+        int saved = 0;
+        if (!byExecution.get(true).isEmpty()) {
+            saved += this.logSegmentStorage().save(byExecution.get(true));
+        }
+        if (!byExecution.get(false).isEmpty()) {
+            saved += this.jdbcRepository.persistBatch(byExecution.get(false));
+        }
+
+        return saved;
     }
 
     @Override
     public Integer purge(Execution execution) {
-        return this.jdbcRepository
+        int purged = this.segmentsEnabled ? this.logSegmentStorage().purge(execution.getTenantId(), execution.getId(), null, null) : 0;
+
+        return purged + this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -413,6 +536,11 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public void deleteByQuery(String tenantId, String executionId, String taskId, String taskRunId, Level minLevel, Integer attempt) {
+        // a segment mixes all the levels and attempts of a task run, so it can only be deleted as a whole
+        if (this.segmentsEnabled && minLevel == null && attempt == null) {
+            this.logSegmentStorage().purge(tenantId, executionId, taskId, taskRunId);
+        }
+
         this.jdbcRepository
             .getDslContextWrapper()
             .transaction(configuration -> {
@@ -445,6 +573,10 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public void deleteByQuery(String tenantId, String namespace, String flowId, String triggerId) {
+        if (this.segmentsEnabled && triggerId == null) {
+            this.logSegmentStorage().purge(tenantId, namespace, flowId, null, null);
+        }
+
         this.jdbcRepository
             .getDslContextWrapper()
             .transaction(configuration -> {
@@ -466,7 +598,9 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
 
     @Override
     public int deleteByQuery(String tenantId, String namespace, String flowId, List<Level> logLevels, ZonedDateTime startDate, ZonedDateTime endDate) {
-        return this.jdbcRepository
+        int purged = this.segmentsEnabled && logLevels == null ? this.logSegmentStorage().purge(tenantId, namespace, flowId, startDate, endDate) : 0;
+
+        return purged + this.jdbcRepository
             .getDslContextWrapper()
             .transactionResult(configuration -> {
                 DSLContext context = DSL.using(configuration);
@@ -541,6 +675,82 @@ public abstract class AbstractJdbcLogRepository extends AbstractJdbcRepository i
             });
     }
 
+    private List<LogEntry> withSegments(
+        List<LogEntry> logs,
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Integer attempt,
+        @Nullable Level minLevel,
+        boolean withAccessControl
+    ) {
+        if (!this.segmentsEnabled) {
+            return logs;
+        }
+
+        List<LogEntry> segments = this.logSegmentStorage().find(tenantId, executionId, taskId, taskRunId, attempt, minLevel, withAccessControl);
+        if (segments.isEmpty()) {
+            return logs;
+        }
+
+        // logs written before the segments were enabled are still in the database
+        List<LogEntry> merged = new ArrayList<>(logs.size() + segments.size());
+        merged.addAll(logs);
+        merged.addAll(segments);
+        merged.sort(Comparator.comparing(LogEntry::getTimestamp));
+
+        return merged;
+    }
+
+    /**
+     * Pages the logs of an execution, reading only the segments holding the logs of the page.
+     * The logs written in the database before the segments were enabled are merged with all the segments instead.
+     */
+    private ArrayListTotal<LogEntry> pageWithSegments(
+        Condition condition,
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Level minLevel,
+        Pageable pageable
+    ) {
+        if (pageable.isUnpaged() || this.query(tenantId, condition, minLevel, pageable).getTotal() > 0) {
+            return page(this.withSegments(this.query(tenantId, condition, minLevel, true), tenantId, executionId, taskId, taskRunId, null, minLevel, true), pageable);
+        }
+
+        return this.logSegmentStorage().find(
+            tenantId,
+            executionId,
+            taskId,
+            taskRunId,
+            minLevel,
+            (long) (pageable.getNumber() - 1) * pageable.getSize(),
+            pageable.getSize(),
+            isDescending(pageable),
+            true
+        );
+    }
+
+    private static ArrayListTotal<LogEntry> page(List<LogEntry> logs, Pageable pageable) {
+        List<LogEntry> sorted = isDescending(pageable) ? logs.reversed() : logs;
+
+        return pageable.isUnpaged() ? new ArrayListTotal<>(sorted, sorted.size()) : ArrayListTotal.of(pageable, sorted);
+    }
+
+    /**
+     * @return whether the logs are sorted by descending timestamp, they are sorted by ascending timestamp otherwise.
+     */
+    private static boolean isDescending(Pageable pageable) {
+        return pageable.getSort().getOrderBy()
+            .stream()
+            .filter(order -> order.getProperty().equals("timestamp"))
+            .findFirst()
+            .map(order -> !order.isAscending())
+            .orElse(false);
+    }
+
     private Condition minLevel(Level minLevel) {
         return levelsCondition(LogEntry.findLevelsByMin(minLevel));
     }
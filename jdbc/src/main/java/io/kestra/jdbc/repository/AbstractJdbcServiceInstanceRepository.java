@@ -8,6 +8,7 @@ import io.kestra.core.server.ServiceLivenessStore;
 import io.kestra.core.server.ServiceLivenessUpdater;
 import io.kestra.core.server.ServiceStateTransition;
 import io.micronaut.data.model.Pageable;
+import jakarta.annotation.Nullable;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -22,11 +23,13 @@ import org.jooq.TransactionalCallable;
 import org.jooq.TransactionalRunnable;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static org.jooq.impl.DSL.using;
 
@@ -40,6 +43,7 @@ public abstract class AbstractJdbcServiceInstanceRepository extends AbstractJdbc
     private static final Field<Instant> UPDATED_AT = field("updated_at", Instant.class);
     private static final Field<Instant> CREATED_AT = field("created_at", Instant.class);
     private static final Field<Object> SERVICE_ID = field("service_id");
+    private static final Field<Instant> NEXT_DEADLINE = field("next_deadline", Instant.class);
 
     protected io.kestra.jdbc.AbstractJdbcRepository<ServiceInstance> jdbcRepository;
 
@@ -125,6 +129,44 @@ public abstract class AbstractJdbcServiceInstanceRepository extends AbstractJdbc
             this.jdbcRepository.fetch(query);
     }
 
+    /**
+     * {@inheritDoc}
+     **/
+    @Override
+    public List<ServiceInstance> findAllInstancesDueBefore(final Set<Service.ServiceState> states, final Instant now) {
+        return this.jdbcRepository.getDslContextWrapper()
+            .transactionResult(configuration -> findAllInstancesDueBefore(configuration, null, states, now, false));
+    }
+
+    /**
+     * Finds all service instances of the given type which are in one of the given states and whose
+     * {@link ServiceInstance#nextDeadline()} is before the given instant, using the indexed deadline column
+     * rather than scanning all the instances in these states.
+     * <p>
+     * Instances saved before the deadline was stored don't have one and are always returned.
+     *
+     * @return the list of {@link ServiceInstance}.
+     */
+    public List<ServiceInstance> findAllInstancesDueBefore(final Configuration configuration,
+                                                           @Nullable final Service.ServiceType type,
+                                                           final Set<Service.ServiceState> states,
+                                                           final Instant now,
+                                                           final boolean isForUpdate) {
+        SelectConditionStep<Record1<Object>> query = using(configuration)
+            .select(VALUE)
+            .from(table())
+            .where(STATE.in(states.stream().map(Enum::name).toList()))
+            .and(NEXT_DEADLINE.isNull().or(NEXT_DEADLINE.lt(now)));
+
+        if (type != null) {
+            query = query.and(TYPE.eq(type.name()));
+        }
+
+        return isForUpdate ?
+            this.jdbcRepository.fetch(query.forUpdate()) :
+            this.jdbcRepository.fetch(query);
+    }
+
     /**
      * Finds all service instances which are NOT {@link Service.ServiceState#RUNNING}.
      *
@@ -267,6 +309,52 @@ public abstract class AbstractJdbcServiceInstanceRepository extends AbstractJdbc
         return transactionResult(configuration -> mayTransitServiceTo(configuration, instance, newState, reason));
     }
 
+    /**
+     * Updates all the given services to their current state in a single transaction: the services are locked with
+     * one query and saved with one batch.
+     **/
+    @Override
+    public List<ServiceStateTransition.Response> updateAll(final List<ServiceInstance> instances) {
+        if (instances.isEmpty()) {
+            return List.of();
+        }
+
+        return transactionResult(configuration -> {
+            Map<String, ServiceInstance> existing = this.jdbcRepository
+                .fetch(using(configuration)
+                    .select(VALUE)
+                    .from(table())
+                    .where(SERVICE_ID.in(instances.stream().map(ServiceInstance::uid).toList()))
+                    .forUpdate()
+                )
+                .stream()
+                .collect(Collectors.toMap(ServiceInstance::uid, Function.identity()));
+
+            List<ServiceInstance> updated = new ArrayList<>(instances.size());
+            List<ServiceStateTransition.Response> responses = new ArrayList<>(instances.size());
+            for (ServiceInstance instance : instances) {
+                ImmutablePair<ServiceInstance, ServiceInstance> result = null;
+
+                ServiceInstance before = existing.get(instance.uid());
+                if (before != null) {
+                    ServiceInstance after = transition(before, instance, instance.state(), null);
+                    if (after != null) {
+                        updated.add(after);
+                    }
+                    result = new ImmutablePair<>(before, after);
+                }
+
+                responses.add(ServiceStateTransition.logTransitionAndGetResponse(instance, instance.state(), result));
+            }
+
+            if (!updated.isEmpty()) {
+                this.jdbcRepository.persistBatch(using(configuration), updated);
+            }
+
+            return responses;
+        });
+    }
+
     /**
      * Attempt to transition the state of a given service to given new state.
      * This method may not update the service if the transition is not valid.
@@ -311,16 +399,29 @@ public abstract class AbstractJdbcServiceInstanceRepository extends AbstractJdbc
 
         // Check whether the status transition is valid before saving.
         final ServiceInstance before = optional.get();
-        if (before.state().isValidTransition(newState)) {
-            ServiceInstance updated = before
-                .state(newState, Instant.now(), reason)
-                .server(instance.server())
-                .metrics(instance.metrics());
+        ServiceInstance updated = transition(before, instance, newState, reason);
+        if (updated != null) {
             // Synchronize
             update(updated);
-            return new ImmutablePair<>(before, updated);
         }
-        return new ImmutablePair<>(before, null);
+        return new ImmutablePair<>(before, updated);
+    }
+
+    /**
+     * @return the service transitioned to the new state, or {@code null} if the transition is not valid.
+     */
+    private static ServiceInstance transition(final ServiceInstance before,
+                                              final ServiceInstance instance,
+                                              final Service.ServiceState newState,
+                                              final String reason) {
+        if (!before.state().isValidTransition(newState)) {
+            return null;
+        }
+
+        return before
+            .state(newState, Instant.now(), reason)
+            .server(instance.server())
+            .metrics(instance.metrics());
     }
 
     private Table<Record> table() {
@@ -5,11 +5,14 @@ import io.kestra.core.runners.WorkerJobRunning;
 import lombok.extern.slf4j.Slf4j;
 import org.jooq.DSLContext;
 import org.jooq.Record1;
+import org.jooq.Record2;
+import org.jooq.Result;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 @Slf4j
 public abstract class AbstractJdbcWorkerJobRunningRepository extends AbstractJdbcRepository implements WorkerJobRunningRepositoryInterface {
@@ -24,6 +27,14 @@ public abstract class AbstractJdbcWorkerJobRunningRepository extends AbstractJdb
         return workerJobRunning;
     }
 
+    public int saveBatch(List<WorkerJobRunning> workerJobRunnings, DSLContext context) {
+        if (workerJobRunnings.isEmpty()) {
+            return 0;
+        }
+
+        return this.jdbcRepository.persistBatch(context, workerJobRunnings);
+    }
+
     @Override
     public void deleteByKey(String uid) {
         Optional<WorkerJobRunning> workerJobRunning = this.findByKey(uid);
@@ -47,15 +58,45 @@ public abstract class AbstractJdbcWorkerJobRunningRepository extends AbstractJdb
             });
     }
 
-    public List<WorkerJobRunning> getWorkerJobWithWorkerDead(DSLContext context, List<String> workersToDelete) {
-        return context
-                .select(field("value"))
+    /**
+     * Locks and reads the running jobs of the given dead workers by batches of at most {@code batchSize}, ordered by
+     * key, so that they can be re-submitted without loading them all at once.
+     *
+     * @return the number of read jobs.
+     */
+    public int getWorkerJobWithWorkerDead(DSLContext context, List<String> workersToDelete, int batchSize, Consumer<List<WorkerJobRunning>> consumer) {
+        int count = 0;
+        String lastKey = null;
+
+        while (true) {
+            SelectConditionStep<Record2<Object, Object>> select = context
+                .select(field("key"), field("value"))
                 .from(this.jdbcRepository.getTable())
-                .where(field("worker_uuid").in(workersToDelete))
+                .where(field("worker_uuid").in(workersToDelete));
+
+            if (lastKey != null) {
+                select = select.and(field("key").gt(lastKey));
+            }
+
+            Result<Record2<Object, Object>> records = select
+                .orderBy(field("key").asc())
+                .limit(batchSize)
                 .forUpdate()
-                .fetch()
-                .map(r -> this.jdbcRepository.deserialize(r.get("value").toString())
-            );
+                .fetch();
+
+            if (records.isEmpty()) {
+                return count;
+            }
+
+            consumer.accept(records.map(r -> this.jdbcRepository.deserialize(r.get("value").toString())));
+            count += records.size();
+
+            if (records.size() < batchSize) {
+                return count;
+            }
+
+            lastKey = records.getLast().get("key").toString();
+        }
     }
 }
 
@@ -0,0 +1,170 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.utils.ListUtils;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+ * Buffers the logs of each task run in memory, so a segment is only written when it is complete: when the buffered logs
+ * reach the roll size, when the task run is terminated, or when the oldest buffered log waited for the flush interval.
+ * <p>
+ * The segments are written outside the lock of the buffer; a segment that can't be written is put back in the buffer so
+ * it is retried on the next flush.
+ */
+@Slf4j
+public class JdbcLogSegmentBuffer {
+    // the other fields of a log are accounted with a fixed size as its message is the only unbounded one
+    private static final int LOG_OVERHEAD = 256;
+
+    private final JdbcLogSegmentStorage logSegmentStorage;
+    private final long rollSize;
+
+    // by execution id then task run id, the null task run id holding the logs outside any task run
+    private final Map<String, Map<String, Buffer>> buffers = new HashMap<>();
+
+    public JdbcLogSegmentBuffer(JdbcLogSegmentStorage logSegmentStorage, long rollSize) {
+        this.logSegmentStorage = logSegmentStorage;
+        this.rollSize = rollSize;
+    }
+
+    /**
+     * Buffers the logs, writing the segments of the task runs whose buffered logs reached the roll size.
+     *
+     * @param logs the logs to buffer, all of them must have an execution id.
+     * @return the number of buffered logs.
+     */
+    public int buffer(List<LogEntry> logs) {
+        List<List<LogEntry>> rolled = new ArrayList<>();
+
+        synchronized (this) {
+            for (LogEntry log : logs) {
+                Map<String, Buffer> byTaskRun = this.buffers.computeIfAbsent(log.getExecutionId(), k -> new HashMap<>());
+                Buffer buffer = byTaskRun.computeIfAbsent(log.getTaskRunId(), k -> new Buffer());
+                buffer.add(log);
+
+                if (buffer.size >= this.rollSize) {
+                    rolled.add(this.remove(log.getExecutionId(), log.getTaskRunId()).logs);
+                }
+            }
+        }
+
+        this.write(rolled);
+
+        return logs.size();
+    }
+
+    /**
+     * Writes the segments of the terminated task runs of the executions, and of all their logs once they are terminated.
+     */
+    public void flushTerminated(List<Execution> executions) {
+        List<List<LogEntry>> terminated = new ArrayList<>();
+
+        synchronized (this) {
+            for (Execution execution : executions) {
+                Map<String, Buffer> byTaskRun = this.buffers.get(execution.getId());
+                if (byTaskRun == null) {
+                    continue;
+                }
+
+                if (execution.getState().isTerminated()) {
+                    this.buffers.remove(execution.getId()).values().forEach(buffer -> terminated.add(buffer.logs));
+                    continue;
+                }
+
+                ListUtils.emptyOnNull(execution.getTaskRunList())
+                    .stream()
+                    .filter(taskRun -> taskRun.getState().isTerminated() && byTaskRun.containsKey(taskRun.getId()))
+                    .map(TaskRun::getId)
+                    .toList()
+                    .forEach(taskRunId -> terminated.add(this.remove(execution.getId(), taskRunId).logs));
+            }
+        }
+
+        this.write(terminated);
+    }
+
+    /**
+     * Writes the segments whose first log was buffered before the given interval.
+     */
+    public void flushOlderThan(Duration interval) {
+        Instant limit = Instant.now().minus(interval);
+        List<List<LogEntry>> expired = new ArrayList<>();
+
+        synchronized (this) {
+            new ArrayList<>(this.buffers.keySet()).forEach(executionId ->
+                new ArrayList<>(this.buffers.get(executionId).entrySet())
+                    .stream()
+                    .filter(entry -> entry.getValue().firstBuffered.isBefore(limit))
+                    .forEach(entry -> expired.add(this.remove(executionId, entry.getKey()).logs))
+            );
+        }
+
+        this.write(expired);
+    }
+
+    /**
+     * Writes all the buffered logs, when the indexer stops.
+     */
+    public void flushAll() {
+        List<List<LogEntry>> all = new ArrayList<>();
+
+        synchronized (this) {
+            this.buffers.values().forEach(byTaskRun -> byTaskRun.values().forEach(buffer -> all.add(buffer.logs)));
+            this.buffers.clear();
+        }
+
+        this.write(all);
+    }
+
+    private Buffer remove(String executionId, String taskRunId) {
+        Map<String, Buffer> byTaskRun = this.buffers.get(executionId);
+        Buffer buffer = byTaskRun.remove(taskRunId);
+        if (byTaskRun.isEmpty()) {
+            this.buffers.remove(executionId);
+        }
+
+        return buffer;
+    }
+
+    private void write(List<List<LogEntry>> segments) {
+        for (List<LogEntry> logs : segments) {
+            try {
+                this.logSegmentStorage.save(logs);
+            } catch (RuntimeException e) {
+                log.warn("Unable to write a log segment of execution '{}', it will be retried", logs.getFirst().getExecutionId(), e);
+                this.restore(logs);
+            }
+        }
+    }
+
+    private synchronized void restore(List<LogEntry> logs) {
+        LogEntry first = logs.getFirst();
+        Buffer restored = new Buffer();
+        logs.forEach(restored::add);
+
+        // the logs buffered meanwhile follow the restored ones
+        Buffer current = this.buffers
+            .computeIfAbsent(first.getExecutionId(), k -> new HashMap<>())
+            .put(first.getTaskRunId(), restored);
+        if (current != null) {
+            current.logs.forEach(restored::add);
+        }
+    }
+
+    private static class Buffer {
+        private final Instant firstBuffered = Instant.now();
+        private final List<LogEntry> logs = new ArrayList<>();
+        private long size;
+
+        private void add(LogEntry log) {
+            this.logs.add(log);
+            this.size += LOG_OVERHEAD + (log.getMessage() == null ? 0 : log.getMessage().length());
+        }
+    }
+}
@@ -0,0 +1,368 @@
+package io.kestra.jdbc.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.LogSegment;
+import io.kestra.core.repositories.ArrayListTotal;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.StorageContext;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.IdUtils;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import jakarta.annotation.Nullable;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import org.jooq.Record1;
+import org.jooq.SelectConditionStep;
+import org.jooq.SortOrder;
+import org.jooq.impl.DSL;
+import org.slf4j.event.Level;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Stores the logs of the executions as gzipped NDJSON segments in the internal storage, only a {@link LogSegment}
+ * summary of each segment being kept in the database.
+ * <p>
+ * A segment is written once and never rewritten, the indexer buffering the logs of each task run until the segment rolls,
+ * the task run ends or the flush interval elapses, see {@link JdbcLogSegmentBuffer}.
+ * Reads skip the segments without any log at the requested levels thanks to the counts of the summary.
+ */
+@Slf4j
+@Singleton
+public class JdbcLogSegmentStorage extends AbstractJdbcRepository {
+    private static final ObjectMapper MAPPER = JacksonMapper.ofJson();
+    private static final String EXECUTION_SEGMENTS = "execution";
+
+    private final ApplicationContext applicationContext;
+    private StorageInterface storageInterface;
+    private io.kestra.jdbc.AbstractJdbcRepository<LogSegment> jdbcRepository;
+
+    @Inject
+    public JdbcLogSegmentStorage(ApplicationContext applicationContext) {
+        // we inject ApplicationContext in order to get the storage and the repository lazily, only when segments are enabled
+        this.applicationContext = applicationContext;
+    }
+
+    private StorageInterface storageInterface() {
+        if (this.storageInterface == null) {
+            this.storageInterface = applicationContext.getBean(StorageInterface.class);
+        }
+
+        return this.storageInterface;
+    }
+
+    @SuppressWarnings("unchecked")
+    private io.kestra.jdbc.AbstractJdbcRepository<LogSegment> jdbcRepository() {
+        if (this.jdbcRepository == null) {
+            this.jdbcRepository = applicationContext.getBean(io.kestra.jdbc.AbstractJdbcRepository.class, Qualifiers.byName("logsegments"));
+        }
+
+        return this.jdbcRepository;
+    }
+
+    /**
+     * Writes the logs as new segments, one for each task run, or for the execution for the logs outside any task run.
+     * <p>
+     * An existing segment is never rewritten: the logs are expected to be buffered by the caller, see {@link JdbcLogSegmentBuffer}.
+     *
+     * @param logs the logs to save, all of them must have an execution id.
+     * @return the number of saved logs.
+     */
+    public int save(List<LogEntry> logs) {
+        Map<List<String>, List<LogEntry>> byTaskRun = logs.stream()
+            .collect(Collectors.groupingBy(
+                log -> Arrays.asList(log.getTenantId(), log.getExecutionId(), log.getTaskRunId()),
+                LinkedHashMap::new,
+                Collectors.toList()
+            ));
+
+        for (List<LogEntry> group : byTaskRun.values()) {
+            this.write(group);
+        }
+
+        return logs.size();
+    }
+
+    private void write(List<LogEntry> logs) {
+        LogEntry first = logs.getFirst();
+        String id = IdUtils.create();
+        URI uri = URI.create(
+            StorageContext.forExecution(first.getTenantId(), first.getNamespace(), first.getFlowId(), first.getExecutionId())
+                .getExecutionStorageURI(StorageContext.KESTRA_SCHEME) +
+                "/logs/" + Optional.ofNullable(first.getTaskRunId()).orElse(EXECUTION_SEGMENTS) + "/" + id + ".ndjson.gz"
+        );
+
+        Map<Level, Long> counts = new EnumMap<>(Level.class);
+        Instant startDate = first.getTimestamp();
+        Instant endDate = first.getTimestamp();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try {
+            try (Writer writer = new OutputStreamWriter(new GZIPOutputStream(bytes), StandardCharsets.UTF_8)) {
+                for (LogEntry log : logs) {
+                    writer.write(MAPPER.writeValueAsString(log));
+                    writer.write('\n');
+
+                    counts.merge(log.getLevel(), 1L, Long::sum);
+                    startDate = log.getTimestamp().isBefore(startDate) ? log.getTimestamp() : startDate;
+                    endDate = log.getTimestamp().isAfter(endDate) ? log.getTimestamp() : endDate;
+                }
+            }
+
+            // the file is written before its summary, so the storage is never called inside a transaction
+            this.storageInterface().put(first.getTenantId(), first.getNamespace(), uri, new ByteArrayInputStream(bytes.toByteArray()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        LogSegment segment = LogSegment.builder()
+            .tenantId(first.getTenantId())
+            .id(id)
+            .namespace(first.getNamespace())
+            .flowId(first.getFlowId())
+            .executionId(first.getExecutionId())
+            .taskId(first.getTaskId())
+            .taskRunId(first.getTaskRunId())
+            .uri(uri)
+            .counts(counts)
+            .size(bytes.size())
+            .startDate(startDate)
+            .endDate(endDate)
+            .build();
+
+        try {
+            this.jdbcRepository().persist(segment);
+        } catch (RuntimeException e) {
+            // no summary references the file, so it would never be read nor purged
+            try {
+                this.storageInterface().delete(first.getTenantId(), first.getNamespace(), uri);
+            } catch (IOException deleteException) {
+                e.addSuppressed(deleteException);
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the logs of an execution from its segments, in the order they were written.
+     */
+    public List<LogEntry> find(
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Integer attempt,
+        @Nullable Level minLevel,
+        boolean withAccessControl
+    ) {
+        List<Level> levels = minLevel == null ? null : LogEntry.findLevelsByMin(minLevel);
+
+        return this.segments(tenantId, executionId, taskId, taskRunId, withAccessControl)
+            .stream()
+            .filter(segment -> levels == null || segment.hasAnyLevel(levels))
+            .flatMap(segment -> this.read(segment).stream())
+            .filter(log -> levels == null || levels.contains(log.getLevel()))
+            .filter(log -> attempt == null || attempt.equals(log.getAttemptNumber()))
+            .toList();
+    }
+
+    /**
+     * Reads a page of the logs of an execution from its segments, sorted by timestamp.
+     * <p>
+     * Only the segments that may hold logs of the page are read: the counts of the summaries tell how many logs precede
+     * a segment, and the segments overlapping in time are read together so the order between their logs is kept.
+     *
+     * @param offset the number of logs before the page.
+     * @param size the page size.
+     */
+    public ArrayListTotal<LogEntry> find(
+        String tenantId,
+        String executionId,
+        @Nullable String taskId,
+        @Nullable String taskRunId,
+        @Nullable Level minLevel,
+        long offset,
+        int size,
+        boolean descending,
+        boolean withAccessControl
+    ) {
+        List<Level> levels = minLevel == null ? null : LogEntry.findLevelsByMin(minLevel);
+        List<LogSegment> segments = this.segments(tenantId, executionId, taskId, taskRunId, withAccessControl)
+            .stream()
+            .filter(segment -> levels == null || segment.hasAnyLevel(levels))
+            .sorted(descending ? Comparator.comparing(LogSegment::getEndDate).reversed() : Comparator.comparing(LogSegment::getStartDate))
+            .toList();
+        long total = segments.stream().mapToLong(segment -> segment.count(levels)).sum();
+
+        // skip the leading segments holding only logs before the page
+        int from = 0;
+        long skipped = 0;
+        long preceding = 0;
+        Instant boundary = null;
+        for (int i = 0; i < segments.size(); i++) {
+            preceding += segments.get(i).count(levels);
+            boundary = furthest(boundary, segments.get(i), descending);
+            if (preceding > offset) {
+                break;
+            }
+
+            if (i + 1 == segments.size() || isAfter(segments.get(i + 1), boundary, descending)) {
+                from = i + 1;
+                skipped = preceding;
+            }
+        }
+
+        // read until the page is complete and the next segments can only hold later logs
+        List<LogEntry> logs = new ArrayList<>();
+        boundary = null;
+        for (int i = from; i < segments.size(); i++) {
+            this.read(segments.get(i))
+                .stream()
+                .filter(log -> levels == null || levels.contains(log.getLevel()))
+                .forEach(logs::add);
+            boundary = furthest(boundary, segments.get(i), descending);
+
+            if (skipped + logs.size() >= offset + size && (i + 1 == segments.size() || isAfter(segments.get(i + 1), boundary, descending))) {
+                break;
+            }
+        }
+
+        logs.sort(descending ? Comparator.comparing(LogEntry::getTimestamp).reversed() : Comparator.comparing(LogEntry::getTimestamp));
+        int start = (int) Math.min(offset - skipped, logs.size());
+        int end = (int) Math.min(offset - skipped + size, logs.size());
+
+        return new ArrayListTotal<>(new ArrayList<>(logs.subList(start, end)), total);
+    }
+
+    private static Instant furthest(@Nullable Instant boundary, LogSegment segment, boolean descending) {
+        Instant last = descending ? segment.getStartDate() : segment.getEndDate();
+        if (boundary == null) {
+            return last;
+        }
+
+        return descending ? (last.isBefore(boundary) ? last : boundary) : (last.isAfter(boundary) ? last : boundary);
+    }
+
+    private static boolean isAfter(LogSegment segment, Instant boundary, boolean descending) {
+        return descending ? !segment.getEndDate().isAfter(boundary) : !segment.getStartDate().isBefore(boundary);
+    }
+
+    private List<LogSegment> segments(String tenantId, String executionId, @Nullable String taskId, @Nullable String taskRunId, boolean withAccessControl) {
+        return this.jdbcRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                SelectConditionStep<Record1<Object>> select = DSL
+                    .using(configuration)
+                    .select(field("value"))
+                    .from(this.jdbcRepository().getTable())
+                    .where(withAccessControl ? this.defaultFilter(tenantId) : this.defaultFilterWithNoACL(tenantId))
+                    .and(field("execution_id").eq(executionId));
+
+                if (taskId != null) {
+                    select = select.and(field("task_id").eq(taskId));
+                }
+
+                if (taskRunId != null) {
+                    select = select.and(field("taskrun_id").eq(taskRunId));
+                }
+
+                return this.jdbcRepository().fetch(select.orderBy(field("start_date").sort(SortOrder.ASC)));
+            });
+    }
+
+    private List<LogEntry> read(LogSegment segment) {
+        List<LogEntry> logs = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+            new GZIPInputStream(this.storageInterface().get(segment.getTenantId(), segment.getNamespace(), segment.getUri())),
+            StandardCharsets.UTF_8
+        ))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                logs.add(MAPPER.readValue(line, LogEntry.class));
+            }
+        } catch (FileNotFoundException e) {
+            // the execution storage may have been purged without the logs
+            log.warn("Missing log segment '{}' of execution '{}'", segment.getUri(), segment.getExecutionId());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return logs;
+    }
+
+    /**
+     * Deletes the segments of an execution, optionally restricted to a task or a task run.
+     *
+     * @return the number of deleted logs.
+     */
+    public int purge(String tenantId, String executionId, @Nullable String taskId, @Nullable String taskRunId) {
+        return this.delete(this.segments(tenantId, executionId, taskId, taskRunId, false));
+    }
+
+    /**
+     * Deletes the segments whose logs were all emitted in the given range.
+     *
+     * @return the number of deleted logs.
+     */
+    public int purge(String tenantId, @Nullable String namespace, @Nullable String flowId, @Nullable ZonedDateTime startDate, @Nullable ZonedDateTime endDate) {
+        List<LogSegment> segments = this.jdbcRepository()
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                SelectConditionStep<Record1<Object>> select = DSL
+                    .using(configuration)
+                    .select(field("value"))
+                    .from(this.jdbcRepository().getTable())
+                    .where(this.defaultFilter(tenantId));
+
+                if (namespace != null) {
+                    select = select.and(field("namespace").eq(namespace));
+                }
+
+                if (flowId != null) {
+                    select = select.and(field("flow_id").eq(flowId));
+                }
+
+                if (startDate != null) {
+                    select = select.and(field("start_date").greaterOrEqual(startDate.toOffsetDateTime()));
+                }
+
+                if (endDate != null) {
+                    select = select.and(field("end_date").lessOrEqual(endDate.toOffsetDateTime()));
+                }
+
+                return this.jdbcRepository().fetch(select);
+            });
+
+        return this.delete(segments);
+    }
+
+    private int delete(List<LogSegment> segments) {
+        int count = 0;
+
+        for (LogSegment segment : segments) {
+            try {
+                this.storageInterface().delete(segment.getTenantId(), segment.getNamespace(), segment.getUri());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            this.jdbcRepository().delete(segment);
+            count += (int) segment.count();
+        }
+
+        return count;
+    }
+}
@@ -0,0 +1,149 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.runners.ConcurrencyLimit;
+import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.apache.commons.lang3.tuple.Pair;
+import org.jooq.DSLContext;
+import org.jooq.Record1;
+import org.jooq.Select;
+import org.jooq.SelectConditionStep;
+import org.jooq.impl.DSL;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+
+/**
+ * Stores the concurrency slots in use by flow, so the concurrency limit can be checked without counting the
+ * running executions. All updates are done inside a transaction that locks the flow slots.
+ */
+public abstract class AbstractJdbcConcurrencyLimitStorage extends AbstractJdbcRepository {
+    protected io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository;
+
+    public AbstractJdbcConcurrencyLimitStorage(io.kestra.jdbc.AbstractJdbcRepository<ConcurrencyLimit> jdbcRepository) {
+        this.jdbcRepository = jdbcRepository;
+    }
+
+    /**
+     * Fetches the concurrency slots of a flow then processes them with the given function, the updated slots returned by
+     * the function are saved in the same transaction.
+     */
+    public <T> T countThenProcess(Flow flow, Function<ConcurrencyLimit, Pair<T, ConcurrencyLimit>> function) {
+        return this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> {
+                DSLContext context = DSL.using(configuration);
+                ConcurrencyLimit current = this.lock(context, flow);
+
+                Pair<T, ConcurrencyLimit> result = function.apply(current);
+                if (result.getRight().getRunning() != current.getRunning()) {
+                    this.jdbcRepository.persist(result.getRight().withVersion(current.getVersion() + 1), context, null);
+                }
+
+                return result.getLeft();
+            });
+    }
+
+    /**
+     * Releases a concurrency slot of a flow.
+     */
+    public void decrement(Flow flow) {
+        this.countThenProcess(flow, concurrencyLimit -> Pair.of(null, concurrencyLimit.withRunning(Math.max(0, concurrencyLimit.getRunning() - 1))));
+    }
+
+    /**
+     * Takes a concurrency slot of a flow without checking the limit, for an execution that runs again without being
+     * admitted, like a restarted execution.
+     */
+    public void increment(Flow flow) {
+        this.countThenProcess(flow, concurrencyLimit -> Pair.of(null, concurrencyLimit.withRunning(concurrencyLimit.getRunning() + 1)));
+    }
+
+    /**
+     * Compares the concurrency slots of a flow with the number of executions holding a slot.
+     * <p>
+     * The executions are counted without locking the slots, so admissions are not blocked by the count, then the version
+     * of the slots is checked under the lock: if a slot was taken or released in between, the count can't be compared
+     * and nothing is returned.
+     *
+     * @param counter Counts the executions holding a slot.
+     * @return the drift of the slots, or empty if the slots changed while counting.
+     */
+    public Optional<Drift> drift(Flow flow, IntSupplier counter) {
+        long version = this.jdbcRepository
+            .getDslContextWrapper()
+            .transactionResult(configuration -> this.fetch(DSL.using(configuration), flow, false).getVersion());
+
+        int executions = counter.getAsInt();
+
+        return this.countThenProcess(flow, concurrencyLimit -> Pair.of(
+            concurrencyLimit.getVersion() == version ?
+                Optional.of(new Drift(version, concurrencyLimit.getRunning() - executions)) :
+                Optional.empty(),
+            concurrencyLimit
+        ));
+    }
+
+    /**
+     * Removes a drift from the concurrency slots of a flow, only if no slot was taken or released since the drift was
+     * observed.
+     *
+     * @return whether the slots were updated.
+     */
+    public boolean repair(Flow flow, Drift drift) {
+        return this.countThenProcess(flow, concurrencyLimit -> {
+            if (concurrencyLimit.getVersion() != drift.version() || drift.slots() == 0) {
+                return Pair.of(false, concurrencyLimit);
+            }
+
+            return Pair.of(true, concurrencyLimit.withRunning(Math.max(0, concurrencyLimit.getRunning() - drift.slots())));
+        });
+    }
+
+    private ConcurrencyLimit lock(DSLContext context, Flow flow) {
+        // SELECT ... FOR UPDATE locks nothing when the row doesn't exist yet, so it's created first for two executors
+        // admitting the first executions of a flow to be serialized on it
+        ConcurrencyLimit empty = empty(flow);
+        context
+            .insertInto(this.jdbcRepository.getTable())
+            .set(AbstractJdbcRepository.field("key"), empty.uid())
+            .set(this.jdbcRepository.persistFields(empty))
+            .onDuplicateKeyIgnore()
+            .execute();
+
+        return this.fetch(context, flow, true);
+    }
+
+    private ConcurrencyLimit fetch(DSLContext context, Flow flow, boolean forUpdate) {
+        ConcurrencyLimit empty = empty(flow);
+
+        SelectConditionStep<Record1<Object>> select = context
+            .select(AbstractJdbcRepository.field("value"))
+            .from(this.jdbcRepository.getTable())
+            .where(AbstractJdbcRepository.field("key").eq(empty.uid()));
+
+        Select<Record1<Object>> query = forUpdate ? select.forUpdate() : select;
+
+        return this.jdbcRepository.fetchOne(query).orElse(empty);
+    }
+
+    private static ConcurrencyLimit empty(Flow flow) {
+        return ConcurrencyLimit.builder()
+            .tenantId(flow.getTenantId())
+            .namespace(flow.getNamespace())
+            .flowId(flow.getId())
+            .running(0)
+            .build();
+    }
+
+    /**
+     * The difference between the concurrency slots of a flow and the number of executions holding a slot.
+     *
+     * @param version The version of the slots when the drift was observed.
+     * @param slots   The number of slots taken without an execution holding them, negative if executions hold more slots
+     *                than taken.
+     */
+    public record Drift(long version, int slots) {
+    }
+}
@@ -2,13 +2,16 @@ package io.kestra.jdbc.runner;
 
 import io.kestra.core.runners.ExecutionDelay;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
+import org.jooq.DSLContext;
 import org.jooq.Field;
-import org.jooq.Record1;
-import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
+import java.time.Instant;
+import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.function.Consumer;
 
 public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepository {
@@ -18,26 +21,70 @@ public abstract class AbstractJdbcExecutionDelayStorage extends AbstractJdbcRepo
         this.jdbcRepository = jdbcRepository;
     }
 
-    public void get(Consumer<ExecutionDelay> consumer) {
+    /**
+     * Claims the due delays, oldest first, by batches of at most {@code batchSize}.
+     * <p>
+     * Each batch is locked with {@code SKIP LOCKED} so concurrent executors claim distinct delays, and deleted in the
+     * same transaction once processed.
+     *
+     * @return the number of processed delays.
+     */
+    public int get(int batchSize, Consumer<ExecutionDelay> consumer) {
         ZonedDateTime now = ZonedDateTime.now();
+        int processed = 0;
+        int claimed;
 
-        this.jdbcRepository
+        do {
+            claimed = this.jdbcRepository
+                .getDslContextWrapper()
+                .transactionResult(configuration -> {
+                    DSLContext context = DSL.using(configuration);
+
+                    List<ExecutionDelay> executionDelays = this.jdbcRepository.fetch(context
+                        .select(AbstractJdbcRepository.field("value"))
+                        .from(this.jdbcRepository.getTable())
+                        .where(AbstractJdbcRepository.field("date").lessOrEqual(now.toOffsetDateTime()))
+                        .orderBy(AbstractJdbcRepository.field("date").asc())
+                        .limit(batchSize)
+                        .forUpdate()
+                        .skipLocked()
+                    );
+
+                    if (executionDelays.isEmpty()) {
+                        return 0;
+                    }
+
+                    executionDelays.forEach(consumer);
+
+                    context.delete(this.jdbcRepository.getTable())
+                        .where(AbstractJdbcRepository.field("key").in(executionDelays.stream().map(this.jdbcRepository::key).toList()))
+                        .execute();
+
+                    return executionDelays.size();
+                });
+
+            processed += claimed;
+        } while (claimed == batchSize);
+
+        return processed;
+    }
+
+    /**
+     * @return the date of the next delay that is not yet due, if any.
+     */
+    public Optional<Instant> nextDate() {
+        return this.jdbcRepository
             .getDslContextWrapper()
-            .transaction(configuration -> {
-                SelectConditionStep<Record1<Object>> select = DSL
-                    .using(configuration)
+            .transactionResult(configuration -> this.jdbcRepository
+                .fetchOne(DSL.using(configuration)
                     .select(AbstractJdbcRepository.field("value"))
                     .from(this.jdbcRepository.getTable())
-                    .where(
-                        AbstractJdbcRepository.field("date").lessOrEqual(now.toOffsetDateTime())
-                    );
-
-                this.jdbcRepository.fetch(select)
-                    .forEach(executionDelay -> {
-                        consumer.accept(executionDelay);
-                        jdbcRepository.delete(executionDelay);
-                    });
-            });
+                    .where(AbstractJdbcRepository.field("date").greaterThan(OffsetDateTime.now()))
+                    .orderBy(AbstractJdbcRepository.field("date").asc())
+                    .limit(1)
+                )
+                .map(ExecutionDelay::getDate)
+            );
     }
 
     public void save(ExecutionDelay executionDelay) {
@@ -7,14 +7,11 @@ import io.kestra.core.models.executions.TaskRun;
 import io.kestra.core.runners.SubflowExecution;
 import io.kestra.jdbc.JdbcMapper;
 import io.kestra.jdbc.repository.AbstractJdbcRepository;
-import org.jooq.DSLContext;
-import org.jooq.Field;
 import org.jooq.Record1;
 import org.jooq.SelectConditionStep;
 import org.jooq.impl.DSL;
 
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 
 public abstract class AbstractJdbcSubflowExecutionStorage extends AbstractJdbcRepository {
@@ -54,17 +51,7 @@ public abstract class AbstractJdbcSubflowExecutionStorage extends AbstractJdbcRe
     }
 
     public void save(List<SubflowExecution<?>> subflowExecutions) {
-        this.jdbcRepository
-            .getDslContextWrapper()
-            .transaction(configuration -> {
-                DSLContext context = DSL.using(configuration);
-
-                // TODO batch insert
-                subflowExecutions.forEach(subflowExecution -> {
-                    Map<Field<Object>, Object> fields = this.jdbcRepository.persistFields(subflowExecution);
-                    this.jdbcRepository.persist(subflowExecution, context, fields);
-                });
-            });
+        this.jdbcRepository.persistBatch(subflowExecutions);
     }
 
     public void delete(SubflowExecution<?> subflowExecution) {
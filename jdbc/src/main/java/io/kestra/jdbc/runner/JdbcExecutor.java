@@ -7,7 +7,6 @@ import io.kestra.core.exceptions.IllegalVariableEvaluationException;
 import io.kestra.core.exceptions.InternalException;
 import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.models.executions.*;
-import io.kestra.core.models.executions.statistics.ExecutionCount;
 import io.kestra.core.models.flows.*;
 import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.tasks.ExecutableTask;
@@ -24,6 +23,7 @@ import io.kestra.core.runners.*;
 import io.kestra.core.server.Service;
 import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.services.*;
+import io.kestra.core.topologies.FlowTopologyIndex;
 import io.kestra.core.topologies.FlowTopologyService;
 import io.kestra.core.utils.Await;
 import io.kestra.core.utils.Either;
@@ -35,6 +35,7 @@ import io.kestra.jdbc.repository.AbstractJdbcFlowTopologyRepository;
 import io.kestra.jdbc.repository.AbstractJdbcWorkerJobRunningRepository;
 import io.kestra.plugin.core.flow.ForEachItem;
 import io.kestra.plugin.core.flow.Template;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import io.micronaut.transaction.exceptions.CannotCreateTransactionException;
 import jakarta.annotation.Nullable;
@@ -51,12 +52,13 @@ import org.slf4j.event.Level;
 import java.io.IOException;
 import java.time.*;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.*;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
 
 import static io.kestra.core.utils.Rethrow.throwConsumer;
 import static io.kestra.core.utils.Rethrow.throwFunction;
@@ -70,6 +72,8 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
     private final ScheduledExecutorService scheduledDelay = Executors.newSingleThreadScheduledExecutor();
 
+    private final ScheduledExecutorService scheduledConcurrencyReconciliation = Executors.newSingleThreadScheduledExecutor();
+
     @Inject
     private AbstractJdbcExecutionRepository executionRepository;
 
@@ -113,6 +117,30 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     @Inject
     private ExecutorService executorService;
 
+    @Inject
+    private FlowExecutorInterface flowExecutorInterface;
+
+    @Inject
+    private AbstractJdbcConcurrencyLimitStorage concurrencyLimitStorage;
+
+    @Value("${kestra.jdbc.executor.concurrency-reconciliation-interval:PT5M}")
+    private Duration concurrencyReconciliationInterval;
+
+    // the drift of the concurrency slots observed by the last reconciliation, by flow
+    private final Map<String, Integer> concurrencyDrifts = new ConcurrentHashMap<>();
+
+    @Value("${kestra.jdbc.executor.delay.poll-interval:PT1S}")
+    private Duration delayPollInterval;
+
+    @Value("${kestra.jdbc.executor.delay.batch-size:100}")
+    private int delayBatchSize;
+
+    @Value("${kestra.jdbc.executor.worker-job-resubmit.batch-size:100}")
+    private int workerJobResubmitBatchSize;
+
+    // the date of the next wake-up scheduled for a delay due before the next poll
+    private final AtomicReference<Instant> nextDelayWakeUp = new AtomicReference<>();
+
     @Inject
     private ConditionService conditionService;
 
@@ -149,6 +177,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
     protected List<FlowWithSource> allFlows;
 
+    private FlowTopologyIndex flowTopologyIndex;
+
+    private volatile FlowTriggerIndex flowTriggerIndex;
+
     @Inject
     private WorkerGroupService workerGroupService;
 
@@ -207,19 +239,30 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             serviceLivenessCoordinator.setExecutor(this);
         }
         flowListeners.run();
-        flowListeners.listen(flows -> this.allFlows = flows);
+        flowListeners.listen(flows -> {
+            // the flow trigger index is rebuilt on flow changes so execution state changes only evaluate matching flow triggers
+            this.flowTriggerIndex = flowTriggerService.index(flows.stream().map(FlowWithSource::toFlow).toList());
+            this.allFlows = flows;
+        });
 
         Await.until(() -> this.allFlows != null, Duration.ofMillis(100), Duration.ofMinutes(5));
 
         this.receiveCancellations.addFirst(this.executionQueue.receive(Executor.class, this::executionQueue));
         this.receiveCancellations.addFirst(this.workerTaskResultQueue.receive(Executor.class, this::workerTaskResultQueue));
         this.receiveCancellations.addFirst(this.killQueue.receive(Executor.class, this::killQueue));
-        this.receiveCancellations.addFirst(this.subflowExecutionResultQueue.receive(Executor.class, this::subflowExecutionResultQueue));
+        this.receiveCancellations.addFirst(((JdbcQueue<SubflowExecutionResult>) this.subflowExecutionResultQueue).receiveBatch(Executor.class, this::subflowExecutionResultQueue));
 
         ScheduledFuture<?> scheduledDelayFuture = scheduledDelay.scheduleAtFixedRate(
             this::executionDelaySend,
             0,
-            1,
+            delayPollInterval.toMillis(),
+            TimeUnit.MILLISECONDS
+        );
+
+        scheduledConcurrencyReconciliation.scheduleAtFixedRate(
+            this::reconcileConcurrencyLimits,
+            concurrencyReconciliationInterval.toSeconds(),
+            concurrencyReconciliationInterval.toSeconds(),
             TimeUnit.SECONDS
         );
 
@@ -240,42 +283,61 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             }
         );
 
-        this.receiveCancellations.addFirst(flowQueue.receive(
+        // the topology index is then updated with each flow change, so the topology of a flow is computed against its linked flows only
+        this.flowTopologyIndex = flowTopologyService.index(this.allFlows);
+
+        this.receiveCancellations.addFirst(((JdbcQueue<FlowWithSource>) flowQueue).receiveBatch(
             FlowTopology.class,
-            either -> {
-                FlowWithSource flow;
-                if (either.isRight()) {
-                    log.error("Unable to deserialize a flow: {}", either.getRight().getMessage());
-                    try {
-                        var jsonNode = MAPPER.readTree(either.getRight().getRecord());
-                        flow = FlowWithException.from(jsonNode, either.getRight()).orElseThrow(IOException::new);
-                    } catch (IOException e) {
-                        // if we cannot create a FlowWithException, ignore the message
-                        log.error("Unexpected exception when trying to handle a deserialization error", e);
-                        return;
+            eithers -> {
+                // only the last revision of each flow of the batch is needed
+                Map<String, FlowWithSource> flows = new LinkedHashMap<>();
+
+                eithers.forEach(either -> {
+                    FlowWithSource flow;
+                    if (either.isRight()) {
+                        log.error("Unable to deserialize a flow: {}", either.getRight().getMessage());
+                        try {
+                            var jsonNode = MAPPER.readTree(either.getRight().getRecord());
+                            flow = FlowWithException.from(jsonNode, either.getRight()).orElseThrow(IOException::new);
+                        } catch (IOException e) {
+                            // if we cannot create a FlowWithException, ignore the message
+                            log.error("Unexpected exception when trying to handle a deserialization error", e);
+                            return;
+                        }
+                    } else {
+                        flow = either.getLeft();
                     }
-                } else {
-                    flow = either.getLeft();
+
+                    flows.remove(flow.uidWithoutRevision());
+                    flows.put(flow.uidWithoutRevision(), flow);
+                });
+
+                if (flows.isEmpty()) {
+                    return;
                 }
 
+                // the whole batch is indexed first so the flows of the batch are linked together
+                flows.values().forEach(flow -> {
+                    if (flow.isDeleted()) {
+                        flowTopologyIndex.remove(flow);
+                    } else {
+                        flowTopologyIndex.put(flow);
+                    }
+                });
+
                 try {
                     flowTopologyRepository.save(
-                        flow,
-                        (flow.isDeleted() ?
-                            Stream.<FlowTopology>empty() :
-                            flowTopologyService
-                                .topology(
-                                    flow,
-                                    this.allFlows
-                                )
-                        )
+                        List.copyOf(flows.values()),
+                        flows.values()
+                            .stream()
+                            .filter(flow -> !flow.isDeleted())
+                            .flatMap(flow -> flowTopologyService.topology(flow, flowTopologyIndex))
                             .distinct()
                             .toList()
                     );
                 } catch (Exception e) {
                     log.error("Unable to save flow topology", e);
                 }
-
             }
         ));
         setState(ServiceState.RUNNING);
@@ -283,65 +345,84 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
     void reEmitWorkerJobsForWorkers(final Configuration configuration,
                                     final List<String> ids) {
-        workerJobRunningRepository.getWorkerJobWithWorkerDead(configuration.dsl(), ids)
-            .forEach(workerJobRunning -> {
-                // WorkerTaskRunning
-                if (workerJobRunning instanceof WorkerTaskRunning workerTaskRunning) {
-                    if (skipExecutionService.skipExecution(workerTaskRunning.getTaskRun())) {
-                        // if the execution is skipped, we remove the workerTaskRunning and skip its resubmission
-                        log.warn("Skipping execution {}", workerTaskRunning.getTaskRun().getExecutionId());
-                        workerJobRunningRepository.deleteByKey(workerTaskRunning.uid());
-                    } else {
-                        try {
-                            workerTaskQueue.emit(WorkerTask.builder()
-                                .taskRun(workerTaskRunning.getTaskRun())
-                                .task(workerTaskRunning.getTask())
-                                .runContext(workerTaskRunning.getRunContext())
-                                .build()
-                            );
-                            logService.logTaskRun(
-                                workerTaskRunning.getTaskRun(),
-                                log,
-                                Level.WARN,
-                                "Re-emitting WorkerTask."
-                            );
-                        } catch (QueueException e) {
-                            logService.logTaskRun(
-                                workerTaskRunning.getTaskRun(),
-                                log,
-                                Level.ERROR,
-                                "Unable to re-emit WorkerTask.",
-                                e
-                            );
-                        }
-                    }
-                }
+        workerJobRunningRepository.getWorkerJobWithWorkerDead(configuration.dsl(), ids, workerJobResubmitBatchSize, this::reEmitWorkerJobs);
+    }
 
-                // WorkerTriggerRunning
-                if (workerJobRunning instanceof WorkerTriggerRunning workerTriggerRunning) {
+    private void reEmitWorkerJobs(List<WorkerJobRunning> workerJobRunnings) {
+        List<WorkerJob> workerJobs = new ArrayList<>(workerJobRunnings.size());
+
+        workerJobRunnings.forEach(workerJobRunning -> {
+            // WorkerTaskRunning
+            if (workerJobRunning instanceof WorkerTaskRunning workerTaskRunning) {
+                if (skipExecutionService.skipExecution(workerTaskRunning.getTaskRun())) {
+                    // if the execution is skipped, we remove the workerTaskRunning and skip its resubmission
+                    log.warn("Skipping execution {}", workerTaskRunning.getTaskRun().getExecutionId());
+                    workerJobRunningRepository.deleteByKey(workerTaskRunning.uid());
+                } else {
                     try {
-                        workerTaskQueue.emit(WorkerTrigger.builder()
-                            .trigger(workerTriggerRunning.getTrigger())
-                            .conditionContext(workerTriggerRunning.getConditionContext())
-                            .triggerContext(workerTriggerRunning.getTriggerContext())
-                            .build());
-                        logService.logTrigger(
-                            workerTriggerRunning.getTriggerContext(),
-                            log,
-                            Level.WARN,
-                            "Re-emitting WorkerTrigger."
-                        );
-                    } catch (QueueException e) {
-                        logService.logTrigger(
-                            workerTriggerRunning.getTriggerContext(),
+                        workerJobs.add(this.workerTask(workerTaskRunning));
+                    } catch (InternalException | IllegalStateException e) {
+                        logService.logTaskRun(
+                            workerTaskRunning.getTaskRun(),
                             log,
                             Level.ERROR,
-                            "Unable to re-emit WorkerTrigger.",
+                            "Unable to re-emit WorkerTask.",
                             e
                         );
                     }
                 }
-            });
+            }
+
+            // WorkerTriggerRunning
+            if (workerJobRunning instanceof WorkerTriggerRunning workerTriggerRunning) {
+                workerJobs.add(WorkerTrigger.builder()
+                    .trigger(workerTriggerRunning.getTrigger())
+                    .conditionContext(workerTriggerRunning.getConditionContext())
+                    .triggerContext(workerTriggerRunning.getTriggerContext())
+                    .build());
+            }
+        });
+
+        try {
+            workerTaskQueue.emitBatch(workerJobs);
+            workerJobs.forEach(workerJob -> this.logReEmit(workerJob, Level.WARN, "Re-emitting"));
+        } catch (QueueException e) {
+            workerJobs.forEach(workerJob -> this.logReEmit(workerJob, Level.ERROR, "Unable to re-emit", e));
+        }
+    }
+
+    private void logReEmit(WorkerJob workerJob, Level level, String message, Object... args) {
+        if (workerJob instanceof WorkerTask workerTask) {
+            logService.logTaskRun(workerTask.getTaskRun(), log, level, message + " WorkerTask.", args);
+        } else if (workerJob instanceof WorkerTrigger workerTrigger) {
+            logService.logTrigger(workerTrigger.getTriggerContext(), log, level, message + " WorkerTrigger.", args);
+        }
+    }
+
+    /**
+     * Rebuilds the worker task of a running worker job from its execution, as only the task run is tracked while
+     * running. Records written by previous versions still embed the task and its run context.
+     */
+    private WorkerTask workerTask(WorkerTaskRunning workerTaskRunning) throws InternalException {
+        TaskRun taskRun = workerTaskRunning.getTaskRun();
+        if (workerTaskRunning.getTask() != null && workerTaskRunning.getRunContext() != null) {
+            return WorkerTask.builder()
+                .taskRun(taskRun)
+                .task(workerTaskRunning.getTask())
+                .runContext(workerTaskRunning.getRunContext())
+                .build();
+        }
+
+        Execution execution = executionRepository.findById(taskRun.getTenantId(), taskRun.getExecutionId())
+            .orElseThrow(() -> new IllegalStateException("Unable to find execution '" + taskRun.getExecutionId() + "'"));
+        Flow flow = transform(this.findFlow(execution), execution);
+        Task task = flow.findTaskByTaskId(taskRun.getTaskId());
+
+        return WorkerTask.builder()
+            .taskRun(taskRun)
+            .task(task)
+            .runContext(runContextFactory.of(flow, task, execution, taskRun))
+            .build();
     }
 
     private void executionQueue(Either<Execution, DeserializationException> either) {
@@ -361,7 +442,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                 Execution execution = pair.getLeft();
                 ExecutorState executorState = pair.getRight();
 
-                final Flow flow = transform(this.flowRepository.findByExecutionWithSource(execution), execution);
+                final Flow flow = transform(this.findFlow(execution), execution);
                 Executor executor = new Executor(execution, null).withFlow(flow);
 
                 // schedule it for later if needed
@@ -373,24 +454,30 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                         .delayType(ExecutionDelay.DelayType.RESUME_FLOW)
                         .build();
                     executionDelayStorage.save(executionDelay);
+                    this.scheduleDelayWakeUp(executionDelay.getDate());
                     return Pair.of(
                         executor,
                         executorState
                     );
                 }
 
+                // a restarted execution runs again without admission, it takes back the slot released when it terminated
+                if (flow.getConcurrency() != null && isRestartedAfterTermination(execution)) {
+                    concurrencyLimitStorage.increment(flow);
+                }
+
                 // queue execution if needed (limit concurrency)
                 if (execution.getState().getCurrent() == State.Type.CREATED && flow.getConcurrency() != null) {
-                    ExecutionCount count = executionRepository.executionCounts(
-                        flow.getTenantId(),
-                        List.of(new io.kestra.core.models.executions.statistics.Flow(flow.getNamespace(), flow.getId())),
-                        List.of(State.Type.RUNNING, State.Type.PAUSED),
-                        null,
-                        null,
-                        null
-                    ).getFirst();
+                    // check the limit against the flow concurrency slots, and take one if the execution can run
+                    final Executor current = executor;
+                    executor = concurrencyLimitStorage.countThenProcess(flow, concurrencyLimit -> {
+                        Executor checked = executorService.checkConcurrencyLimit(current, flow, execution, concurrencyLimit.getRunning());
+                        if (checked.getExecutionRunning() != null && checked.getExecutionRunning().getConcurrencyState() == ExecutionRunning.ConcurrencyState.RUNNING) {
+                            return Pair.of(checked, concurrencyLimit.withRunning(concurrencyLimit.getRunning() + 1));
+                        }
 
-                    executor = executorService.checkConcurrencyLimit(executor, flow, execution, count.getCount());
+                        return Pair.of(checked, concurrencyLimit);
+                    });
 
                     // the execution has been queued, we save the queued execution and stops here
                     if (executor.getExecutionRunning() != null && executor.getExecutionRunning().getConcurrencyState() == ExecutionRunning.ConcurrencyState.QUEUED) {
@@ -466,7 +553,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                 // schedulerDelay
                 if (!executor.getExecutionDelays().isEmpty()) {
                     executor.getExecutionDelays()
-                        .forEach(executionDelay -> executionDelayStorage.save(executionDelay));
+                        .forEach(executionDelay -> {
+                            executionDelayStorage.save(executionDelay);
+                            this.scheduleDelayWakeUp(executionDelay.getDate());
+                        });
                 }
 
                 // subflow execution watchers
@@ -479,28 +569,37 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                         .filter(subflowExecution -> this.deduplicateSubflowExecution(execution, executorState, subflowExecution.getParentTaskRun()))
                         .toList();
 
-                    subflowExecutionDedup
-                        .forEach(throwConsumer(subflowExecution -> {
-                            Execution subExecution = subflowExecution.getExecution();
-                            String log = String.format("Created new execution [[link execution=\"%s\" flowId=\"%s\" namespace=\"%s\"]]", subExecution.getId(), subExecution.getFlowId(), subExecution.getNamespace());
+                    // children are emitted by batch so a large fan-out (ForEachItem) is one multi-row insert per queue
+                    List<LogEntry> subflowLogs = new ArrayList<>(subflowExecutionDedup.size());
+                    List<Execution> subExecutions = new ArrayList<>(subflowExecutionDedup.size());
+                    List<SubflowExecutionResult> runningResults = new ArrayList<>();
 
-                            JdbcExecutor.log.info(log);
+                    subflowExecutionDedup.forEach(subflowExecution -> {
+                        Execution subExecution = subflowExecution.getExecution();
+                        String log = String.format("Created new execution [[link execution=\"%s\" flowId=\"%s\" namespace=\"%s\"]]", subExecution.getId(), subExecution.getFlowId(), subExecution.getNamespace());
 
-                            logQueue.emit(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
-                                .level(Level.INFO)
-                                .message(log)
-                                .timestamp(subflowExecution.getParentTaskRun().getState().getStartDate())
-                                .thread(Thread.currentThread().getName())
-                                .build()
-                            );
+                        JdbcExecutor.log.info(log);
 
-                            executionQueue.emit(subflowExecution.getExecution());
+                        subflowLogs.add(LogEntry.of(subflowExecution.getParentTaskRun()).toBuilder()
+                            .level(Level.INFO)
+                            .message(log)
+                            .timestamp(subflowExecution.getParentTaskRun().getState().getStartDate())
+                            .thread(Thread.currentThread().getName())
+                            .build()
+                        );
 
-                            // send a running worker task result to track running vs created status
-                            if (subflowExecution.getParentTask().waitForExecution()) {
-                                sendSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun());
-                            }
-                        }));
+                        subExecutions.add(subExecution);
+
+                        // send a running worker task result to track running vs created status
+                        if (subflowExecution.getParentTask().waitForExecution()) {
+                            createSubflowExecutionResult(execution, subflowExecution, subflowExecution.getParentTaskRun())
+                                .ifPresent(runningResults::add);
+                        }
+                    });
+
+                    logQueue.emitBatch(subflowLogs);
+                    executionQueue.emitBatch(subExecutions);
+                    subflowExecutionResultQueue.emitBatch(runningResults);
                 }
 
                 return Pair.of(
@@ -526,7 +625,16 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     }
 
     private void sendSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
-        Flow workerTaskFlow = this.flowRepository.findByExecution(execution);
+        try {
+            Optional<SubflowExecutionResult> subflowExecutionResult = this.createSubflowExecutionResult(execution, subflowExecution, taskRun);
+            subflowExecutionResult.ifPresent(throwConsumer(workerTaskResult -> this.subflowExecutionResultQueue.emit(workerTaskResult)));
+        } catch (QueueException e) {
+            log.error("Unable to emit the subflow execution result", e);
+        }
+    }
+
+    private Optional<SubflowExecutionResult> createSubflowExecutionResult(Execution execution, SubflowExecution<?> subflowExecution, TaskRun taskRun) {
+        Flow workerTaskFlow = this.findFlow(execution);
 
         ExecutableTask<?> executableTask = subflowExecution.getParentTask();
 
@@ -537,24 +645,17 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             subflowExecution.getParentTaskRun()
         );
         try {
-            Optional<SubflowExecutionResult> subflowExecutionResult = executableTask
-                .createSubflowExecutionResult(runContext, taskRun, workerTaskFlow, execution);
-
-            subflowExecutionResult.ifPresent(throwConsumer(workerTaskResult -> this.subflowExecutionResultQueue.emit(workerTaskResult)));
+            return executableTask.createSubflowExecutionResult(runContext, taskRun, workerTaskFlow, execution);
         } catch (Exception e) {
             log.error("Unable to create the Subflow Execution Result", e);
             // we send a fail subflow execution result to end the flow
-            try {
-                this.subflowExecutionResultQueue.emit(
-                    SubflowExecutionResult.builder()
-                        .executionId(execution.getId())
-                        .state(State.Type.FAILED)
-                        .parentTaskRun(taskRun.withState(State.Type.FAILED).withAttempts(List.of(TaskRunAttempt.builder().state(new State().withState(State.Type.FAILED)).build())))
-                        .build()
-                );
-            } catch (QueueException ex) {
-                log.error("Unable to emit the subflow execution result", ex);
-            }
+            return Optional.of(
+                SubflowExecutionResult.builder()
+                    .executionId(execution.getId())
+                    .state(State.Type.FAILED)
+                    .parentTaskRun(taskRun.withState(State.Type.FAILED).withAttempts(List.of(TaskRunAttempt.builder().state(new State().withState(State.Type.FAILED)).build())))
+                    .build()
+            );
         }
     }
 
@@ -584,7 +685,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
             if (execution.hasTaskRunJoinable(message.getTaskRun())) {
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // dynamic tasks
                     Execution newExecution = executorService.addDynamicTaskRun(
@@ -607,12 +708,14 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
                     // send metrics on terminated
                     if (taskRun.getState().isTerminated()) {
+                        String[] tags = metricRegistry.tags(message);
+
                         metricRegistry
-                            .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, metricRegistry.tags(message))
+                            .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, tags)
                             .increment();
 
                         metricRegistry
-                            .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, metricRegistry.tags(message))
+                            .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, tags)
                             .record(taskRun.getState().getDuration());
 
                         log.trace("TaskRun terminated: {}", taskRun);
@@ -640,37 +743,57 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         }
     }
 
-    private void subflowExecutionResultQueue(Either<SubflowExecutionResult, DeserializationException> either) {
-        if (either.isRight()) {
-            log.error("Unable to deserialize a subflow execution result: {}", either.getRight().getMessage());
-            return;
-        }
+    private void subflowExecutionResultQueue(List<Either<SubflowExecutionResult, DeserializationException>> eithers) {
+        // results are joined by parent execution, so the children of a fan-out (ForEachItem) that complete together
+        // update the iteration counters of their parent with a single lock and a single execution write
+        Map<String, List<SubflowExecutionResult>> byParentExecution = new LinkedHashMap<>();
 
-        SubflowExecutionResult message = either.getLeft();
-        if (skipExecutionService.skipExecution(message.getExecutionId())) {
-            log.warn("Skipping execution {}", message.getExecutionId());
-            return;
-        }
-        if (skipExecutionService.skipExecution(message.getParentTaskRun())) {
-            log.warn("Skipping execution {}", message.getParentTaskRun().getExecutionId());
-            return;
-        }
+        eithers.forEach(either -> {
+            if (either.isRight()) {
+                log.error("Unable to deserialize a subflow execution result: {}", either.getRight().getMessage());
+                return;
+            }
 
-        if (log.isDebugEnabled()) {
-            executorService.log(log, true, message);
-        }
+            SubflowExecutionResult message = either.getLeft();
+            if (skipExecutionService.skipExecution(message.getExecutionId())) {
+                log.warn("Skipping execution {}", message.getExecutionId());
+                return;
+            }
+            if (skipExecutionService.skipExecution(message.getParentTaskRun())) {
+                log.warn("Skipping execution {}", message.getParentTaskRun().getExecutionId());
+                return;
+            }
 
-        Executor executor = executionRepository.lock(message.getParentTaskRun().getExecutionId(), pair -> {
+            if (log.isDebugEnabled()) {
+                executorService.log(log, true, message);
+            }
+
+            byParentExecution
+                .computeIfAbsent(message.getParentTaskRun().getExecutionId(), k -> new ArrayList<>())
+                .add(message);
+        });
+
+        byParentExecution.forEach(this::joinSubflowExecutionResults);
+    }
+
+    private void joinSubflowExecutionResults(String parentExecutionId, List<SubflowExecutionResult> messages) {
+        Executor executor = executionRepository.lock(parentExecutionId, pair -> {
             Execution execution = pair.getLeft();
             Executor current = new Executor(execution, null);
 
             if (execution == null) {
-                throw new IllegalStateException("Execution state don't exist for " + message.getParentTaskRun().getExecutionId() + ", receive " + message);
+                throw new IllegalStateException("Execution state don't exist for " + parentExecutionId + ", receive " + messages.getFirst());
             }
 
-            if (execution.hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
+            boolean joined = false;
+            for (SubflowExecutionResult message : messages) {
+                if (!current.getExecution().hasTaskRunJoinable(message.getParentTaskRun())) { // TODO if we remove this check, we can avoid adding 'iteration' on the 'isSame()' method
+                    continue;
+                }
+
+                joined = true;
                 try {
-                    Flow flow = flowRepository.findByExecution(current.getExecution());
+                    Flow flow = this.findFlow(current.getExecution());
 
                     // iterative tasks
                     Task task = flow.findTaskByTaskId(message.getParentTaskRun().getTaskId());
@@ -701,31 +824,25 @@ public class JdbcExecutor implements ExecutorInterface, Service {
 
                     // send metrics on parent taskRun terminated
                     if (taskRun.getState().isTerminated()) {
+                        String[] tags = metricRegistry.tags(message);
+
                         metricRegistry
-                            .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, metricRegistry.tags(message))
+                            .counter(MetricRegistry.EXECUTOR_TASKRUN_ENDED_COUNT, tags)
                             .increment();
 
                         metricRegistry
-                            .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, metricRegistry.tags(message))
+                            .timer(MetricRegistry.EXECUTOR_TASKRUN_ENDED_DURATION, tags)
                             .record(taskRun.getState().getDuration());
 
                         log.trace("TaskRun terminated: {}", taskRun);
                     }
-
-                    // join worker result
-                    return Pair.of(
-                        current,
-                        pair.getRight()
-                    );
                 } catch (InternalException e) {
-                    return Pair.of(
-                        handleFailedExecutionFromExecutor(current, e),
-                        pair.getRight()
-                    );
+                    current = handleFailedExecutionFromExecutor(current, e);
                 }
             }
 
-            return null;
+            // join worker results
+            return joined ? Pair.of(current, pair.getRight()) : null;
         });
 
         if (executor != null) {
@@ -805,7 +922,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
     private Executor mayTransitExecutionToKillingStateAndGet(final String executionId) {
         return executionRepository.lock(executionId, pair -> {
             Execution currentExecution = pair.getLeft();
-            Flow flow = this.flowRepository.findByExecution(currentExecution);
+            Flow flow = this.findFlow(currentExecution);
 
             Execution killing = executionService.kill(currentExecution, flow);
             Executor current = new Executor(currentExecution, null)
@@ -854,7 +971,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             Execution execution = executor.getExecution();
             // handle flow triggers on state change
             if (!execution.getState().getCurrent().equals(executor.getOriginalState())) {
-                flowTriggerService.computeExecutionsFromFlowTriggers(execution, allFlows.stream().map(flow -> flow.toFlow()).toList(), Optional.of(multipleConditionStorage))
+                flowTriggerService.computeExecutionsFromFlowTriggers(execution, flowTriggerIndex, Optional.of(multipleConditionStorage))
                     .forEach(throwConsumer(executionFromFlowTrigger -> this.executionQueue.emit(executionFromFlowTrigger)));
             }
 
@@ -873,13 +990,23 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                     });
 
                 // check if there exist a queued execution and submit it to the execution queue
+                AtomicBoolean popped = new AtomicBoolean(false);
                 if (executor.getFlow().getConcurrency() != null && executor.getFlow().getConcurrency().getBehavior() == Concurrency.Behavior.QUEUE) {
                     executionQueuedStorage.pop(executor.getFlow().getTenantId(),
                         executor.getFlow().getNamespace(),
                         executor.getFlow().getId(),
-                        throwConsumer(queued -> executionQueue.emit(queued.withState(State.Type.RUNNING)))
+                        throwConsumer(queued -> {
+                            executionQueue.emit(queued.withState(State.Type.RUNNING));
+                            popped.set(true);
+                        })
                     );
                 }
+
+                // the concurrency slot of the execution is handed over to the queued execution, or released;
+                // executions that never ran (queued then killed, or cancelled by the limit) didn't take a slot
+                if (executor.getFlow().getConcurrency() != null && !popped.get() && hasRun(execution)) {
+                    concurrencyLimitStorage.decrement(executor.getFlow());
+                }
             }
         } catch (QueueException e) {
             if (!ignoreFailure) {
@@ -897,6 +1024,74 @@ public class JdbcExecutor implements ExecutorInterface, Service {
         }
     }
 
+    private static boolean isRestartedAfterTermination(Execution execution) {
+        List<State.History> histories = execution.getState().getHistories();
+
+        return execution.getState().getCurrent() == State.Type.RESTARTED &&
+            histories.size() >= 2 &&
+            histories.get(histories.size() - 2).getState().isTerminated();
+    }
+
+    private static boolean hasRun(Execution execution) {
+        return execution.getState().getHistories().stream().anyMatch(history -> history.getState() == State.Type.RUNNING);
+    }
+
+    /**
+     * Repairs any drift of the concurrency slots, for example from an executor that crashed in the middle of a
+     * transition, by setting them to the number of executions holding a slot.
+     * <p>
+     * An execution is saved right after it takes or releases a slot, so a transition in progress shows as a drift too.
+     * Only the drift observed identically by two consecutive reconciliations is repaired: a transition completes long
+     * before the next reconciliation, so the drift it causes is never observed twice. Once an executor repaired the
+     * slots, their version changed and the repair of the other executors is ignored.
+     */
+    private void reconcileConcurrencyLimits() {
+        try {
+            this.allFlows.stream()
+                .filter(flow -> flow.getConcurrency() != null)
+                .forEach(flow -> {
+                    String uid = flow.uidWithoutRevision();
+                    Optional<AbstractJdbcConcurrencyLimitStorage.Drift> drift = concurrencyLimitStorage.drift(
+                        flow,
+                        () -> executionRepository.countConcurrencySlots(flow.getTenantId(), flow.getNamespace(), flow.getId())
+                    );
+
+                    // the slots changed while counting, the drift will be observed again on the next reconciliation
+                    if (drift.isEmpty()) {
+                        return;
+                    }
+
+                    if (drift.get().slots() == 0) {
+                        concurrencyDrifts.remove(uid);
+                        return;
+                    }
+
+                    Integer previous = concurrencyDrifts.put(uid, drift.get().slots());
+                    if (previous != null && previous == drift.get().slots() && concurrencyLimitStorage.repair(flow, drift.get())) {
+                        concurrencyDrifts.remove(uid);
+                        log.warn("Repaired the concurrency slots of flow '{}.{}', {} slot(s) drifted", flow.getNamespace(), flow.getId(), drift.get().slots());
+                    }
+                });
+        } catch (Exception e) {
+            // never stop the scheduled reconciliation
+            log.warn("Unable to reconcile the flow concurrency limits", e);
+        }
+    }
+
+    private FlowWithSource findFlow(Execution execution) {
+        // an execution without flow revision runs the last revision of the flow
+        return flowExecutorInterface.findById(
+                execution.getTenantId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                Optional.ofNullable(execution.getFlowRevision())
+            )
+            .orElseThrow(() -> new IllegalStateException("Unable to find flow '" + execution.getNamespace() + "." +
+                execution.getFlowId() + "' with revision " + execution.getFlowRevision() + " on execution " +
+                execution.getId()
+            ));
+    }
+
     private Flow transform(FlowWithSource flow, Execution execution) {
         if (templateExecutorInterface.isPresent()) {
             try {
@@ -925,10 +1120,10 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             return;
         }
 
-        executionDelayStorage.get(executionDelay -> {
+        executionDelayStorage.get(delayBatchSize, executionDelay -> {
             Executor result = executionRepository.lock(executionDelay.getExecutionId(), pair -> {
                 Executor executor = new Executor(pair.getLeft(), null);
-                Flow flow = flowRepository.findByExecution(pair.getLeft());
+                Flow flow = this.findFlow(pair.getLeft());
 
                 try {
                     // Handle paused tasks
@@ -980,6 +1175,40 @@ public class JdbcExecutor implements ExecutorInterface, Service {
                 this.toExecution(result);
             }
         });
+
+        // delays saved by other executors are only seen by polling, wake up exactly when the next one is due
+        executionDelayStorage.nextDate().ifPresent(this::scheduleDelayWakeUp);
+    }
+
+    /**
+     * Schedules a poll of the delays at the given date when it's before the next regular poll, so short pauses,
+     * retries and WaitFor iterations fire right when they are due instead of up to a poll interval later.
+     */
+    private void scheduleDelayWakeUp(Instant date) {
+        Instant now = Instant.now();
+        if (shutdown.get() || !date.isBefore(now.plus(delayPollInterval))) {
+            return;
+        }
+
+        // a wake-up is already scheduled before this date
+        Instant scheduled = nextDelayWakeUp.get();
+        if (scheduled != null && scheduled.isAfter(now) && !scheduled.isAfter(date)) {
+            return;
+        }
+
+        nextDelayWakeUp.set(date);
+        scheduledDelay.schedule(
+            () -> {
+                try {
+                    this.executionDelaySend();
+                } catch (Exception e) {
+                    // the regular poll will retry these delays
+                    log.warn("Unable to send the delayed executions", e);
+                }
+            },
+            Math.max(0, Duration.between(now, date).toMillis()),
+            TimeUnit.MILLISECONDS
+        );
     }
 
     private boolean deduplicateNexts(Execution execution, ExecutorState executorState, List<TaskRun> taskRuns) {
@@ -1065,6 +1294,7 @@ public class JdbcExecutor implements ExecutorInterface, Service {
             setState(ServiceState.TERMINATING);
             this.receiveCancellations.forEach(Runnable::run);
             scheduledDelay.shutdown();
+            scheduledConcurrencyReconciliation.shutdown();
             setState(ServiceState.TERMINATED_GRACEFULLY);
 
             if (log.isDebugEnabled()) {
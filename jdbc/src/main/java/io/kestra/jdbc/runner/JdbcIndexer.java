@@ -1,6 +1,7 @@
 package io.kestra.jdbc.runner;
 
 import io.kestra.core.metrics.MetricRegistry;
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.models.executions.MetricEntry;
 import io.kestra.core.queues.QueueFactoryInterface;
@@ -13,12 +14,24 @@ import io.kestra.core.runners.IndexerInterface;
 import io.kestra.core.server.ServiceStateChangeEvent;
 import io.kestra.core.utils.IdUtils;
 import io.kestra.core.utils.ListUtils;
+import io.kestra.jdbc.repository.AbstractJdbcExecutionRepository;
+import io.kestra.jdbc.repository.JdbcLogSegmentBuffer;
+import io.kestra.jdbc.repository.JdbcLogSegmentStorage;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collectors;
 
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.context.event.ApplicationEventPublisher;
 import jakarta.annotation.PreDestroy;
 import jakarta.inject.Inject;
@@ -47,6 +60,42 @@ public class JdbcIndexer implements IndexerInterface {
     private final AtomicReference<ServiceState> state = new AtomicReference<>();
     private final ApplicationEventPublisher<ServiceStateChangeEvent> eventPublisher;
 
+    private final ScheduledExecutorService scheduledStatisticsRollup = Executors.newSingleThreadScheduledExecutor();
+    private final ScheduledExecutorService scheduledLogSegmentsFlush = Executors.newSingleThreadScheduledExecutor();
+    private JdbcLogSegmentBuffer logSegmentBuffer;
+
+    @Inject
+    private AbstractJdbcExecutionRepository executionRepository;
+
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    private QueueInterface<Execution> executionQueue;
+
+    @Value("${kestra.jdbc.execution-statistics.enabled:true}")
+    private boolean statisticsEnabled;
+
+    @Value("${kestra.jdbc.execution-statistics.interval:PT10S}")
+    private Duration statisticsInterval;
+
+    @Value("${kestra.jdbc.execution-statistics.backfill:P30D}")
+    private Duration statisticsBackfill;
+
+    @Value("${kestra.jdbc.execution-statistics.batch-size:500}")
+    private int statisticsBatchSize;
+
+    @Value("${kestra.logs.segments.enabled:false}")
+    private boolean segmentsEnabled;
+
+    // the size of the buffered logs of a task run, uncompressed, at which its segment is written
+    @Value("${kestra.logs.segments.roll-size:1048576}")
+    private long segmentsRollSize;
+
+    @Value("${kestra.logs.segments.flush-interval:PT5S}")
+    private Duration segmentsFlushInterval;
+
+    @Inject
+    private ApplicationContext applicationContext;
+
     @Inject
     public JdbcIndexer(
         LogRepositoryInterface logRepository,
@@ -69,16 +118,103 @@ public class JdbcIndexer implements IndexerInterface {
     @Override
     public void run() {
         log.debug("Starting the indexer");
+        if (segmentsEnabled) {
+            // we get the JdbcLogSegmentStorage lazily, only when segments are enabled
+            this.logSegmentBuffer = new JdbcLogSegmentBuffer(applicationContext.getBean(JdbcLogSegmentStorage.class), segmentsRollSize);
+        }
+
         startQueues();
+
+        if (statisticsEnabled || logSegmentBuffer != null) {
+            this.receiveCancellations.addFirst(((JdbcQueue<Execution>) executionQueue).receiveBatch(Indexer.class, eithers -> {
+                List<Execution> executions = eithers.stream().filter(either -> either.isLeft()).map(either -> either.getLeft()).toList();
+                if (ListUtils.isEmpty(executions)) {
+                    return;
+                }
+
+                // executions are marked here and not when saved, so the executor transactions don't write to the rollups
+                if (statisticsEnabled) {
+                    executionRepository.markStatisticsDirty(executions);
+                }
+
+                if (logSegmentBuffer != null) {
+                    logSegmentBuffer.flushTerminated(executions);
+                }
+            }));
+        }
+
+        if (logSegmentBuffer != null) {
+            scheduledLogSegmentsFlush.scheduleWithFixedDelay(
+                this::flushLogSegments,
+                segmentsFlushInterval.toMillis(),
+                segmentsFlushInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+
+        if (statisticsEnabled) {
+            scheduledStatisticsRollup.scheduleWithFixedDelay(
+                this::rollupStatistics,
+                0,
+                statisticsInterval.toMillis(),
+                TimeUnit.MILLISECONDS
+            );
+        }
+
         setState(ServiceState.RUNNING);
     }
 
+    private void rollupStatistics() {
+        try {
+            // keep going while there are rollups to compute, then wait for the next interval
+            int rolledUp;
+            do {
+                rolledUp = executionRepository.rollupStatistics(statisticsBatchSize, statisticsBackfill);
+            } while (rolledUp > 0 && !scheduledStatisticsRollup.isShutdown());
+        } catch (Exception e) {
+            // never stop the scheduled rollups
+            log.warn("Unable to roll up the execution statistics", e);
+        }
+    }
+
+    private void flushLogSegments() {
+        try {
+            logSegmentBuffer.flushOlderThan(segmentsFlushInterval);
+        } catch (Exception e) {
+            // never stop the scheduled flushes
+            log.warn("Unable to flush the log segments", e);
+        }
+    }
+
     protected void startQueues() {
-        this.sendBatch(logQueue, logRepository);
+        if (logSegmentBuffer != null) {
+            this.sendBatch(logQueue, this::bufferLogs);
+        } else {
+            this.sendBatch(logQueue, logRepository);
+        }
         this.sendBatch(metricQueue, metricRepository);
     }
 
+    private int bufferLogs(List<LogEntry> logs) {
+        // the logs of an execution are buffered until their segment is complete, the others are saved in the database
+        Map<Boolean, List<LogEntry>> byExecution = logs.stream().collect(Collectors.partitioningBy(log -> log.getExecutionId() != null));
+
+        int saved = 0;
+        if (!byExecution.get(true).isEmpty()) {
+            saved += logSegmentBuffer.buffer(byExecution.get(true));
+        }
+        if (!byExecution.get(false).isEmpty()) {
+            saved += logRepository.saveBatch(byExecution.get(false));
+        }
+
+        return saved;
+    }
+
     protected <T> void sendBatch(JdbcQueue<T> queueInterface, SaveRepositoryInterface<T> saveRepositoryInterface) {
+        this.sendBatch(queueInterface, saveRepositoryInterface::saveBatch);
+    }
+
+    protected <T> void sendBatch(JdbcQueue<T> queueInterface, ToIntFunction<List<T>> saveBatch) {
         this.receiveCancellations.addFirst(queueInterface.receiveBatch(Indexer.class, eithers -> {
             // first, log all deserialization issues
             eithers.stream().filter(either -> either.isRight()).forEach(either -> log.error("unable to deserialize an item: {}", either.getRight().getMessage()));
@@ -91,7 +227,7 @@ public class JdbcIndexer implements IndexerInterface {
                 this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_IN_COUNT, "type", itemClassName).increment(items.size());
 
                 this.metricRegistry.timer(MetricRegistry.METRIC_INDEXER_REQUEST_DURATION, "type", itemClassName).record(() -> {
-                    int saved = saveRepositoryInterface.saveBatch(items);
+                    int saved = saveBatch.applyAsInt(items);
                     this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_OUT_COUNT, "type", itemClassName).increment(saved);
                 });
             }
@@ -124,6 +260,11 @@ public class JdbcIndexer implements IndexerInterface {
     public void close() {
         setState(ServiceState.TERMINATING);
         this.receiveCancellations.forEach(Runnable::run);
+        this.scheduledStatisticsRollup.shutdown();
+        this.scheduledLogSegmentsFlush.shutdown();
+        if (this.logSegmentBuffer != null) {
+            this.logSegmentBuffer.flushAll();
+        }
         try {
             stopQueue();
             setState(ServiceState.TERMINATED_GRACEFULLY);
@@ -29,6 +29,7 @@ import org.jooq.impl.DSL;
 import java.io.IOException;
 import java.time.Duration;
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -150,6 +151,32 @@ public abstract class JdbcQueue<T> implements QueueInterface<T> {
         this.produce(consumerGroup, queueService.key(message), message, false);
     }
 
+    @Override
+    public void emitBatch(List<T> messages) throws QueueException {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        if (log.isTraceEnabled()) {
+            log.trace("New messages: topic '{}', {} values", this.cls.getName(), messages.size());
+        }
+
+        List<Map<Field<Object>, Object>> fields = new ArrayList<>(messages.size());
+        for (T message : messages) {
+            fields.add(this.produceFields(null, queueService.key(message), message));
+        }
+
+        dslContextWrapper.transaction(configuration -> {
+            DSLContext context = DSL.using(configuration);
+
+            jdbcQueueIndexer.acceptBatch(context, messages);
+
+            context
+                .batch(fields.stream().map(messageFields -> context.insertInto(table).set(messageFields)).toList())
+                .execute();
+        });
+    }
+
     @Override
     public void emitAsync(String consumerGroup, T message) throws QueueException {
         this.asyncPoolExecutor.submit(throwRunnable(() -> this.emit(consumerGroup, message)));
@@ -11,7 +11,10 @@ import org.jooq.exception.DataAccessException;
 
 import java.lang.reflect.ParameterizedType;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * This class is responsible to index the queue synchronously at message production time.<p>
@@ -66,6 +69,36 @@ public class JdbcQueueIndexer {
         }
     }
 
+    /**
+     * Indexes several messages at once, grouped by type so each repository indexes its messages in one batch.
+     */
+    public void acceptBatch(DSLContext context, List<?> items) {
+        Map<Class<?>, List<Object>> byType = items.stream()
+            .filter(item -> repositories.containsKey(item.getClass()))
+            .collect(Collectors.groupingBy(Object::getClass, LinkedHashMap::new, Collectors.toList()));
+
+        byType.forEach((type, messages) -> {
+            this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_REQUEST_COUNT, "type", type.getName()).increment();
+            this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_IN_COUNT, "type", type.getName()).increment(messages.size());
+
+            this.metricRegistry.timer(MetricRegistry.METRIC_INDEXER_REQUEST_DURATION, "type", type.getName()).record(() -> {
+                JdbcQueueIndexerInterface<?> jdbcIndexerInterface = repositories.get(type);
+                if (jdbcIndexerInterface instanceof FlowTopologyRepositoryInterface) {
+                    // we allow flow topology to fail indexation
+                    try {
+                        jdbcIndexerInterface.saveBatch(context, cast(messages));
+                    } catch (DataAccessException e) {
+                        log.error("Unable to index flow topologies, skipping them", e);
+                    }
+                } else {
+                    jdbcIndexerInterface.saveBatch(context, cast(messages));
+                }
+
+                this.metricRegistry.counter(MetricRegistry.METRIC_INDEXER_MESSAGE_OUT_COUNT, "type", type.getName()).increment(messages.size());
+            });
+        });
+    }
+
     @SuppressWarnings("unchecked")
     protected static <T> T cast(Object message) {
         return (T) message;
@@ -2,6 +2,15 @@ package io.kestra.jdbc.runner;
 
 import org.jooq.DSLContext;
 
+import java.util.List;
+
 public interface JdbcQueueIndexerInterface<T> {
     T save(DSLContext context, T message);
+
+    /**
+     * Indexes several messages at once, by default one by one.
+     */
+    default void saveBatch(DSLContext context, List<T> messages) {
+        messages.forEach(message -> this.save(context, message));
+    }
 }
@@ -1,6 +1,7 @@
 package io.kestra.jdbc.runner;
 
 import com.google.common.annotations.VisibleForTesting;
+import io.kestra.core.metrics.MetricRegistry;
 import io.kestra.core.server.AbstractServiceLivenessCoordinator;
 import io.kestra.core.server.ServerConfig;
 import io.kestra.core.server.Service;
@@ -14,8 +15,10 @@ import jakarta.inject.Singleton;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -35,18 +38,22 @@ public final class JdbcServiceLivenessCoordinator extends AbstractServiceLivenes
 
     private final AtomicReference<JdbcExecutor> executor = new AtomicReference<>();
     private final AbstractJdbcServiceInstanceRepository serviceInstanceRepository;
+    private final MetricRegistry metricRegistry;
 
     /**
      * Creates a new {@link JdbcServiceLivenessCoordinator} instance.
      *
      * @param serviceInstanceRepository The {@link AbstractJdbcServiceInstanceRepository}.
      * @param serverConfig              The server liveness configuration.
+     * @param metricRegistry            The {@link MetricRegistry}.
      */
     @Inject
     public JdbcServiceLivenessCoordinator(final AbstractJdbcServiceInstanceRepository serviceInstanceRepository,
-                                          final ServerConfig serverConfig) {
+                                          final ServerConfig serverConfig,
+                                          final MetricRegistry metricRegistry) {
         super(serviceInstanceRepository, serverConfig);
         this.serviceInstanceRepository = serviceInstanceRepository;
+        this.metricRegistry = metricRegistry;
     }
 
     /**
@@ -55,7 +62,15 @@ public final class JdbcServiceLivenessCoordinator extends AbstractServiceLivenes
     @Override
     protected void onSchedule(final Instant now) throws Exception {
         if (executor.get() == null) return; // only True during startup
-        super.onSchedule(now);
+
+        final long start = System.nanoTime();
+        try {
+            super.onSchedule(now);
+        } finally {
+            metricRegistry
+                .timer(MetricRegistry.SERVICE_LIVENESS_COORDINATOR_SCAN_DURATION)
+                .record(Duration.ofNanos(System.nanoTime() - start));
+        }
     }
 
     /**
@@ -64,11 +79,14 @@ public final class JdbcServiceLivenessCoordinator extends AbstractServiceLivenes
     @Override
     protected void handleAllWorkersForUncleanShutdown(Instant now) {
         serviceInstanceRepository.transaction(configuration -> {
-            final List<ServiceInstance> nonRunningWorkers = serviceInstanceRepository
-                .findAllNonRunningInstances(configuration, true)
-                .stream()
-                .filter(instance -> instance.is(Service.ServiceType.WORKER))
-                .toList();
+            // Only the workers whose termination grace period elapsed, or which are terminated, are due.
+            final List<ServiceInstance> nonRunningWorkers = serviceInstanceRepository.findAllInstancesDueBefore(
+                configuration,
+                Service.ServiceType.WORKER,
+                Set.of(ServiceState.DISCONNECTED, ServiceState.TERMINATING, ServiceState.TERMINATED_GRACEFULLY, ServiceState.TERMINATED_FORCED),
+                now,
+                true
+            );
 
             // List of workers for which we don't know the actual state of tasks executions.
             final List<ServiceInstance> uncleanShutdownWorkers = filterAllUncleanShutdownServices(nonRunningWorkers, now);
@@ -112,8 +130,8 @@ public final class JdbcServiceLivenessCoordinator extends AbstractServiceLivenes
     @Override
     protected void handleAllNonRespondingServices(Instant now) {
         serviceInstanceRepository.transaction(configuration -> {
-            // Retrieves all services that are supposed to be running.
-            List<ServiceInstance> allRunningInstances = serviceInstanceRepository.findAllInstancesInStates(configuration, allRunningStates(), true);
+            // Retrieves all services that are supposed to be running but whose session timeout elapsed.
+            List<ServiceInstance> allRunningInstances = serviceInstanceRepository.findAllInstancesDueBefore(configuration, null, allRunningStates(), now, true);
 
             // Detect and handle non-responding services.
             List<ServiceInstance> nonRespondingServices = filterAllNonRespondingServices(allRunningInstances, now);
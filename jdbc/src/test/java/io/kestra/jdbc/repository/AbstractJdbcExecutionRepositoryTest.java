@@ -1,11 +1,24 @@
 package io.kestra.jdbc.repository;
 
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.statistics.DailyExecutionStatistics;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
 import io.kestra.jdbc.JdbcTestUtils;
 import jakarta.inject.Inject;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.net.URISyntaxException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
 
 public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core.repositories.AbstractExecutionRepositoryTest {
     @Inject
@@ -16,4 +29,89 @@ public abstract class AbstractJdbcExecutionRepositoryTest extends io.kestra.core
         jdbcTestUtils.drop();
         jdbcTestUtils.migrate();
     }
-}
\ No newline at end of file
+
+    @Test
+    void dailyStatisticsFromRollups() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 48; i++) {
+            State.Type type = i % 3 == 0 ? State.Type.FAILED : State.Type.SUCCESS;
+            Instant startDate = now.minus(i, ChronoUnit.HOURS);
+
+            executionRepository.save(Execution.builder()
+                .id(IdUtils.create())
+                .namespace(NAMESPACE)
+                .flowId(FLOW)
+                .flowRevision(1)
+                .state(State.of(type, List.of(
+                    new State.History(State.Type.CREATED, startDate),
+                    new State.History(type, startDate.plusSeconds(i + 1))
+                )))
+                .build()
+            );
+        }
+
+        ZonedDateTime startDate = ZonedDateTime.now().minusDays(3);
+        ZonedDateTime endDate = ZonedDateTime.now();
+
+        // without any rollup, the statistics are computed from the executions
+        List<DailyExecutionStatistics> expected = executionRepository.dailyStatistics(null, null, null, null, null, startDate, endDate, null, null, false);
+
+        AbstractJdbcExecutionRepository repository = (AbstractJdbcExecutionRepository) executionRepository;
+        int rolledUp;
+        do {
+            rolledUp = repository.rollupStatistics(10, Duration.ofDays(3));
+        } while (rolledUp > 0);
+
+        List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(null, null, null, null, null, startDate, endDate, null, null, false);
+
+        assertThat(result.size(), is(expected.size()));
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(result.get(i).getStartDate(), is(expected.get(i).getStartDate()));
+            assertThat(result.get(i).getExecutionCounts(), is(expected.get(i).getExecutionCounts()));
+            assertThat(result.get(i).getDuration().getCount(), is(expected.get(i).getDuration().getCount()));
+            assertThat(result.get(i).getDuration().getSum(), is(expected.get(i).getDuration().getSum()));
+        }
+    }
+
+    @Test
+    void rollupsFollowStateTransitions() {
+        AbstractJdbcExecutionRepository repository = (AbstractJdbcExecutionRepository) executionRepository;
+        // backfill first so the following hours are only recomputed from the dirty rollups
+        rollupAll(repository);
+
+        Instant startDate = Instant.now().minus(2, ChronoUnit.HOURS);
+        Execution running = Execution.builder()
+            .id(IdUtils.create())
+            .namespace(NAMESPACE)
+            .flowId(FLOW)
+            .flowRevision(1)
+            .state(State.of(State.Type.RUNNING, List.of(
+                new State.History(State.Type.CREATED, startDate),
+                new State.History(State.Type.RUNNING, startDate.plusSeconds(1))
+            )))
+            .build();
+        executionRepository.save(running);
+        rollupAll(repository);
+
+        executionRepository.save(running.withState(State.Type.SUCCESS));
+        rollupAll(repository);
+
+        List<DailyExecutionStatistics> result = executionRepository.dailyStatistics(null, null, null, null, null, ZonedDateTime.now().minusDays(1), ZonedDateTime.now(), null, null, false);
+
+        assertThat(count(result, State.Type.RUNNING), is(0L));
+        assertThat(count(result, State.Type.SUCCESS), is(1L));
+    }
+
+    private static void rollupAll(AbstractJdbcExecutionRepository repository) {
+        int rolledUp;
+        do {
+            rolledUp = repository.rollupStatistics(10, Duration.ofDays(1));
+        } while (rolledUp > 0);
+    }
+
+    private static long count(List<DailyExecutionStatistics> statistics, State.Type state) {
+        return statistics.stream()
+            .mapToLong(daily -> daily.getExecutionCounts().getOrDefault(state, 0L))
+            .sum();
+    }
+}
@@ -23,6 +23,7 @@ import java.util.Map;
 import java.util.Optional;
 
 import jakarta.inject.Inject;
+import jakarta.validation.ConstraintViolationException;
 
 import static io.kestra.jdbc.repository.AbstractJdbcRepository.field;
 import static org.hamcrest.MatcherAssert.assertThat;
@@ -132,6 +133,53 @@ public abstract class AbstractJdbcFlowRepositoryTest extends io.kestra.core.repo
         }
     }
 
+    @Test
+    void createOrUpdate() {
+        String namespace = "io.kestra.unittest.createorupdate";
+        FlowWithSource first = createTestFlow(namespace, "first", "task");
+        FlowWithSource second = createTestFlow(namespace, "second", "task");
+
+        List<FlowWithSource> created = flowRepository.createOrUpdate(null, List.of(first, second), pluginDefaultService::injectDefaults);
+        try {
+            assertThat(created, hasSize(2));
+            assertThat(created.stream().map(Flow::getRevision).toList(), contains(1, 1));
+
+            // unchanged flows are skipped, changed ones get a new revision
+            FlowWithSource secondUpdated = createTestFlow(namespace, "second", "updated");
+            List<FlowWithSource> updated = flowRepository.createOrUpdate(null, List.of(first, secondUpdated), pluginDefaultService::injectDefaults);
+            assertThat(updated.stream().map(Flow::getRevision).toList(), contains(1, 2));
+            assertThat(flowRepository.findRevisions(null, namespace, "first"), hasSize(1));
+            assertThat(flowRepository.findByIdWithSource(null, namespace, "second").orElseThrow().getTasks().getFirst().getId(), is("updated"));
+
+            // an invalid flow fails the whole batch
+            FlowWithSource invalid = createTestFlow(namespace, "invalid", "task").toBuilder().tasks(List.of()).build();
+            FlowWithSource firstUpdated = createTestFlow(namespace, "first", "updated");
+            Assertions.assertThrows(
+                ConstraintViolationException.class,
+                () -> flowRepository.createOrUpdate(null, List.of(firstUpdated, invalid), pluginDefaultService::injectDefaults)
+            );
+            assertThat(flowRepository.findById(null, namespace, "first").orElseThrow().getRevision(), is(1));
+            assertThat(flowRepository.findById(null, namespace, "invalid").isPresent(), is(false));
+        } finally {
+            flowRepository.findByNamespaceWithSource(null, namespace).forEach(flow -> flowRepository.delete(flow));
+        }
+    }
+
+    private static FlowWithSource createTestFlow(String namespace, String id, String taskId) {
+        Flow flow = Flow.builder()
+            .id(id)
+            .namespace(namespace)
+            .tasks(List.of(Return.builder()
+                .id(taskId)
+                .type(Return.class.getName())
+                .format("test")
+                .build()
+            ))
+            .build();
+
+        return flow.withSource(flow.generateSource());
+    }
+
     private static Flow createTestFlowForNamespace(String namespace) {
         return Flow.builder()
             .id(IdUtils.create())
@@ -65,6 +65,46 @@ public abstract class AbstractJdbcFlowTopologyRepositoryTest extends AbstractFlo
         assertThat(list.size(), is(2));
     }
 
+    @Test
+    void saveBatch() {
+        FlowWithSource flowA = Flow.builder()
+            .id("flow-a")
+            .namespace("io.kestra.tests")
+            .revision(1)
+            .build()
+            .withSource(null);
+        FlowWithSource flowD = Flow.builder()
+            .id("flow-d")
+            .namespace("io.kestra.tests")
+            .revision(1)
+            .build()
+            .withSource(null);
+
+        flowTopologyRepository.save(
+            flowA,
+            List.of(
+                createSimpleFlowTopology("flow-a", "flow-b"),
+                createSimpleFlowTopology("flow-a", "flow-c")
+            )
+        );
+
+        flowTopologyRepository.save(
+            List.of(flowA, flowD),
+            List.of(
+                createSimpleFlowTopology("flow-a", "flow-c"),
+                createSimpleFlowTopology("flow-d", "flow-b")
+            )
+        );
+
+        List<FlowTopology> list = flowTopologyRepository.findByFlow(null, "io.kestra.tests", "flow-a", false);
+        assertThat(list.size(), is(1));
+        assertThat(list.getFirst().getDestination().getId(), is("flow-c"));
+
+        list = flowTopologyRepository.findByFlow(null, "io.kestra.tests", "flow-b", true);
+        assertThat(list.size(), is(1));
+        assertThat(list.getFirst().getSource().getId(), is("flow-d"));
+    }
+
 
 
     @BeforeEach
@@ -0,0 +1,172 @@
+package io.kestra.jdbc.repository;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.models.executions.LogEntry;
+import io.kestra.core.models.executions.TaskRun;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.event.Level;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+public abstract class AbstractJdbcLogSegmentStorageTest {
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Inject
+    JdbcLogSegmentStorage logSegmentStorage;
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+
+    private static LogEntry logEntry(String executionId, String taskRunId, int attempt, Level level, Instant timestamp) {
+        return LogEntry.builder()
+            .flowId("flowId")
+            .namespace("io.kestra.unittest")
+            .taskId(taskRunId == null ? null : "taskId")
+            .executionId(executionId)
+            .taskRunId(taskRunId)
+            .attemptNumber(taskRunId == null ? null : attempt)
+            .timestamp(timestamp)
+            .level(level)
+            .thread("")
+            .message("john doe")
+            .build();
+    }
+
+    @Test
+    void saveAndFind() {
+        String executionId = IdUtils.create();
+        String taskRunId = IdUtils.create();
+        Instant now = Instant.now();
+
+        List<LogEntry> logs = new ArrayList<>();
+        logs.add(logEntry(executionId, null, 0, Level.INFO, now));
+        for (int i = 0; i < 100; i++) {
+            logs.add(logEntry(executionId, taskRunId, i % 2, i % 10 == 0 ? Level.ERROR : Level.DEBUG, now.plusMillis(i)));
+        }
+        logs.add(logEntry(IdUtils.create(), IdUtils.create(), 0, Level.INFO, now));
+
+        assertThat(logSegmentStorage.save(logs), is(102));
+        // a second batch for the same task run is written as a new segment
+        assertThat(logSegmentStorage.save(List.of(logEntry(executionId, taskRunId, 0, Level.WARN, now.plusSeconds(1)))), is(1));
+
+        List<LogEntry> all = logSegmentStorage.find(null, executionId, null, null, null, null, true);
+        assertThat(all.size(), is(102));
+
+        assertThat(logSegmentStorage.find(null, executionId, null, taskRunId, null, null, true).size(), is(101));
+        assertThat(logSegmentStorage.find(null, executionId, "taskId", null, null, null, true).size(), is(101));
+        assertThat(logSegmentStorage.find(null, executionId, null, taskRunId, 1, null, true).size(), is(50));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, Level.WARN, true).size(), is(11));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, Level.ERROR, true).size(), is(10));
+
+        LogEntry first = logSegmentStorage.find(null, executionId, null, taskRunId, null, null, true).getFirst();
+        assertThat(first.getMessage(), is("john doe"));
+        assertThat(first.getTimestamp(), is(now));
+    }
+
+    @Test
+    void findPage() {
+        String executionId = IdUtils.create();
+        Instant now = Instant.now();
+
+        // two task runs logging at the same time, each batch being written as new segments of its task runs
+        String first = IdUtils.create();
+        String second = IdUtils.create();
+        for (int batch = 0; batch < 5; batch++) {
+            List<LogEntry> logs = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                int index = batch * 10 + i;
+                logs.add(logEntry(executionId, index % 2 == 0 ? first : second, 0, index % 5 == 0 ? Level.WARN : Level.INFO, now.plusMillis(index)));
+            }
+            logSegmentStorage.save(logs);
+        }
+
+        List<LogEntry> all = new ArrayList<>(logSegmentStorage.find(null, executionId, null, null, null, null, true));
+        all.sort(Comparator.comparing(LogEntry::getTimestamp));
+        assertThat(all.size(), is(50));
+
+        var page = logSegmentStorage.find(null, executionId, null, null, null, 20, 10, false, true);
+        assertThat(page.getTotal(), is(50L));
+        assertThat(page, is(all.subList(20, 30)));
+
+        var descending = logSegmentStorage.find(null, executionId, null, null, null, 45, 10, true, true);
+        assertThat(descending, is(all.subList(0, 5).reversed()));
+
+        var warnings = logSegmentStorage.find(null, executionId, null, null, Level.WARN, 0, 100, false, true);
+        assertThat(warnings.getTotal(), is(10L));
+        assertThat(warnings.size(), is(10));
+    }
+
+    @Test
+    void purge() {
+        String executionId = IdUtils.create();
+        String taskRunId = IdUtils.create();
+        Instant now = Instant.now();
+
+        logSegmentStorage.save(List.of(
+            logEntry(executionId, null, 0, Level.INFO, now),
+            logEntry(executionId, taskRunId, 0, Level.INFO, now),
+            logEntry(executionId, taskRunId, 0, Level.INFO, now)
+        ));
+
+        assertThat(logSegmentStorage.purge(null, executionId, null, taskRunId), is(2));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, null, true).size(), is(1));
+
+        assertThat(logSegmentStorage.purge(null, "io.kestra.unittest", "flowId", null, ZonedDateTime.now().plusMinutes(1)), is(1));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, null, true).size(), is(0));
+    }
+
+    @Test
+    void buffer() {
+        String executionId = IdUtils.create();
+        String first = IdUtils.create();
+        String second = IdUtils.create();
+        Instant now = Instant.now();
+        JdbcLogSegmentBuffer buffer = new JdbcLogSegmentBuffer(logSegmentStorage, 1024);
+
+        // nothing is written until the buffered logs of the task run reach the roll size
+        buffer.buffer(List.of(
+            logEntry(executionId, first, 0, Level.INFO, now),
+            logEntry(executionId, first, 0, Level.INFO, now.plusMillis(1)),
+            logEntry(executionId, first, 0, Level.INFO, now.plusMillis(2)),
+            logEntry(executionId, second, 0, Level.INFO, now.plusMillis(3)),
+            logEntry(executionId, null, 0, Level.INFO, now.plusMillis(4))
+        ));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, null, true).size(), is(0));
+
+        buffer.buffer(List.of(logEntry(executionId, first, 0, Level.INFO, now.plusMillis(5))));
+        assertThat(logSegmentStorage.find(null, executionId, null, first, null, null, true).size(), is(4));
+
+        // the logs of a terminated task run are written, the ones of the running execution are kept
+        buffer.flushTerminated(List.of(Execution.builder()
+            .id(executionId)
+            .namespace("io.kestra.unittest")
+            .flowId("flowId")
+            .state(new State())
+            .taskRunList(List.of(TaskRun.builder().id(second).state(new State().withState(State.Type.SUCCESS)).build()))
+            .build()
+        ));
+        assertThat(logSegmentStorage.find(null, executionId, null, second, null, null, true).size(), is(1));
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, null, true).size(), is(5));
+
+        buffer.flushAll();
+        assertThat(logSegmentStorage.find(null, executionId, null, null, null, null, true).size(), is(6));
+    }
+}
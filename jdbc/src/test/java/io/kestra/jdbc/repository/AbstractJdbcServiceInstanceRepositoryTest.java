@@ -167,6 +167,61 @@ public abstract class AbstractJdbcServiceInstanceRepositoryTest {
         Assertions.assertEquals(new ServiceStateTransition.Response(FAILED, instance), response);
     }
 
+    @Test
+    protected void shouldFindAllInstancesDueBefore() {
+        // Given
+        AbstractJdbcServiceInstanceRepositoryTest.Fixtures.all().forEach(repository::update);
+        Set<Service.ServiceState> states = Set.of(
+            Service.ServiceState.RUNNING,
+            Service.ServiceState.TERMINATING,
+            Service.ServiceState.TERMINATED_GRACEFULLY,
+            Service.ServiceState.TERMINATED_FORCED
+        );
+
+        // When
+        List<ServiceInstance> beforeTimeout = repository.findAllInstancesDueBefore(states, Instant.now().plusSeconds(1));
+        List<ServiceInstance> afterTimeout = repository.findAllInstancesDueBefore(states, Instant.now().plusSeconds(11));
+
+        // Then
+        assertThat(beforeTimeout, Matchers.containsInAnyOrder(
+            Fixtures.PendingShutdownServiceInstance,
+            Fixtures.GracefulShutdownServiceInstance,
+            Fixtures.ForcedShutdownServiceInstance
+        ));
+        assertThat(afterTimeout, Matchers.containsInAnyOrder(
+            Fixtures.RunningServiceInstance,
+            Fixtures.PendingShutdownServiceInstance,
+            Fixtures.GracefulShutdownServiceInstance,
+            Fixtures.ForcedShutdownServiceInstance
+        ));
+    }
+
+    @Test
+    void shouldUpdateAllServiceInstances() {
+        // Given
+        repository.update(Fixtures.RunningServiceInstance);
+        repository.update(Fixtures.PendingShutdownServiceInstance);
+        ServiceInstance unknown = Fixtures.serviceInstanceFor(Service.ServiceState.RUNNING);
+
+        // When
+        List<ServiceStateTransition.Response> responses = repository.updateAll(List.of(
+            Fixtures.RunningServiceInstance,
+            unknown,
+            Fixtures.PendingShutdownServiceInstance
+        ));
+
+        // Then
+        assertEquals(3, responses.size());
+        assertEquals(SUCCEEDED, responses.get(0).result());
+        assertEquals(new ServiceStateTransition.Response(ServiceStateTransition.Result.ABORTED), responses.get(1));
+        assertEquals(SUCCEEDED, responses.get(2).result());
+
+        ServiceInstance running = repository.findById(Fixtures.RunningServiceInstance.uid()).orElseThrow();
+        assertEquals(Service.ServiceState.RUNNING, running.state());
+        assertTrue(running.updatedAt().isAfter(Fixtures.RunningServiceInstance.updatedAt()));
+        assertEquals(Optional.empty(), repository.findById(unknown.uid()));
+    }
+
     public static final class Fixtures {
 
         public static List<ServiceInstance> all() {
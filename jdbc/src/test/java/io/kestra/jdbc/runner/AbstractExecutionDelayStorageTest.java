@@ -0,0 +1,66 @@
+package io.kestra.jdbc.runner;
+
+import io.kestra.core.junit.annotations.KestraTest;
+import io.kestra.core.models.flows.State;
+import io.kestra.core.runners.ExecutionDelay;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.jdbc.JdbcTestUtils;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+@KestraTest
+public abstract class AbstractExecutionDelayStorageTest {
+    @Inject
+    AbstractJdbcExecutionDelayStorage executionDelayStorage;
+
+    @Inject
+    JdbcTestUtils jdbcTestUtils;
+
+    @Test
+    void get() {
+        Instant now = Instant.now();
+        for (int i = 0; i < 25; i++) {
+            executionDelayStorage.save(executionDelay(now.minusSeconds(25 - i)));
+        }
+        ExecutionDelay later = executionDelay(now.plus(Duration.ofHours(1)));
+        executionDelayStorage.save(later);
+
+        List<ExecutionDelay> processed = new ArrayList<>();
+        assertThat(executionDelayStorage.get(10, processed::add), is(25));
+
+        // all the due delays are processed by batches, oldest first
+        assertThat(processed.size(), is(25));
+        for (int i = 1; i < processed.size(); i++) {
+            assertThat(processed.get(i - 1).getDate().isBefore(processed.get(i).getDate()), is(true));
+        }
+
+        // processed delays are deleted
+        assertThat(executionDelayStorage.get(10, processed::add), is(0));
+        assertThat(executionDelayStorage.nextDate().orElseThrow(), is(later.getDate()));
+    }
+
+    private static ExecutionDelay executionDelay(Instant date) {
+        return ExecutionDelay.builder()
+            .taskRunId(IdUtils.create())
+            .executionId(IdUtils.create())
+            .date(date)
+            .state(State.Type.RUNNING)
+            .delayType(ExecutionDelay.DelayType.RESUME_FLOW)
+            .build();
+    }
+
+    @BeforeEach
+    protected void init() {
+        jdbcTestUtils.drop();
+        jdbcTestUtils.migrate();
+    }
+}
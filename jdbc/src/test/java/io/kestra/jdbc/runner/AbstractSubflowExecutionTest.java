@@ -51,6 +51,27 @@ public abstract class AbstractSubflowExecutionTest {
         assertThat(find.isPresent(), is(false));
     }
 
+    @Test
+    void saveBatch() {
+        List<SubflowExecution<?>> subflowExecutions = List.of(subflowExecution(), subflowExecution(), subflowExecution());
+
+        subflowExecutionStorage.save(subflowExecutions);
+
+        subflowExecutions.forEach(subflowExecution -> {
+            Optional<SubflowExecution<?>> find = subflowExecutionStorage.get(subflowExecution.getExecution().getId());
+            assertThat(find.isPresent(), is(true));
+            assertThat(find.get().getParentTaskRun().getId(), is(subflowExecution.getParentTaskRun().getId()));
+        });
+    }
+
+    private static SubflowExecution<?> subflowExecution() {
+        return SubflowExecution.builder()
+            .execution(Execution.builder().id(IdUtils.create()).build())
+            .parentTask(Subflow.builder().type(Subflow.class.getName()).id(IdUtils.create()).build())
+            .parentTaskRun(TaskRun.builder().id(IdUtils.create()).build())
+            .build();
+    }
+
     @Test
     void deserializationIssue() {
         // insert an invalid subflowExecution
@@ -1,9 +1,12 @@
 package io.kestra.jdbc.runner;
 
+import io.kestra.core.models.executions.Execution;
 import io.kestra.core.models.flows.FlowWithSource;
+import io.kestra.core.models.flows.State;
 import io.kestra.core.queues.QueueException;
 import io.kestra.core.queues.QueueFactoryInterface;
 import io.kestra.core.queues.QueueInterface;
+import io.kestra.core.repositories.ExecutionRepositoryInterface;
 import io.kestra.core.runners.Indexer;
 import io.kestra.core.utils.TestsUtils;
 import io.kestra.plugin.core.debug.Return;
@@ -17,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import reactor.core.publisher.Flux;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 
@@ -30,6 +34,13 @@ abstract public class JdbcQueueTest {
     @Named(QueueFactoryInterface.FLOW_NAMED)
     protected QueueInterface<FlowWithSource> flowQueue;
 
+    @Inject
+    @Named(QueueFactoryInterface.EXECUTION_NAMED)
+    protected QueueInterface<Execution> executionQueue;
+
+    @Inject
+    ExecutionRepositoryInterface executionRepository;
+
     @Inject
     JdbcTestUtils jdbcTestUtils;
 
@@ -54,6 +65,31 @@ abstract public class JdbcQueueTest {
         assertThat(countDownLatch.getCount(), is(0L));
     }
 
+    @Test
+    void batch() throws InterruptedException, QueueException {
+        CountDownLatch countDownLatch = new CountDownLatch(3);
+
+        Flux<FlowWithSource> receive = TestsUtils.receive(flowQueue, either -> countDownLatch.countDown());
+
+        flowQueue.emitBatch(List.of(builder("io.kestra.f1"), builder("io.kestra.f2"), builder("io.kestra.f3")));
+
+        countDownLatch.await(5, TimeUnit.SECONDS);
+        receive.blockLast();
+
+        assertThat(countDownLatch.getCount(), is(0L));
+    }
+
+    @Test
+    void batchIndexed() throws QueueException {
+        List<Execution> executions = List.of(execution(), execution(), execution());
+
+        executionQueue.emitBatch(executions);
+
+        executions.forEach(execution ->
+            assertThat(executionRepository.findById(null, execution.getId()).isPresent(), is(true))
+        );
+    }
+
     @Test
     void withGroup() throws InterruptedException, QueueException {
         CountDownLatch countDownLatch = new CountDownLatch(2);
@@ -135,6 +171,16 @@ abstract public class JdbcQueueTest {
             .build();
     }
 
+    private static Execution execution() {
+        return Execution.builder()
+            .id(IdUtils.create())
+            .namespace("io.kestra.unittest")
+            .flowId("flow")
+            .flowRevision(1)
+            .state(new State())
+            .build();
+    }
+
     @BeforeEach
     protected void init() {
         jdbcTestUtils.drop();
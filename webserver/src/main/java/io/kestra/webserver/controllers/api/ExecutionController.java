@@ -35,8 +35,12 @@ import io.kestra.core.tenant.TenantService;
 import io.kestra.core.utils.Await;
 import io.kestra.plugin.core.trigger.Webhook;
 import io.kestra.webserver.responses.BulkErrorResponse;
+import io.kestra.webserver.responses.BulkJobResponse;
+import io.kestra.webserver.responses.CursorResults;
 import io.kestra.webserver.responses.BulkResponse;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.services.BulkExecutionService;
+import io.kestra.webserver.utils.ExportUtils;
 import io.kestra.webserver.utils.PageableUtils;
 import io.kestra.webserver.utils.RequestUtils;
 import io.kestra.webserver.utils.filepreview.FileRender;
@@ -47,6 +51,7 @@ import io.micronaut.core.annotation.Introspected;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.async.annotation.SingleResult;
 import io.micronaut.core.convert.format.Format;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.HttpStatus;
@@ -56,6 +61,7 @@ import io.micronaut.http.annotation.Body;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Delete;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.Post;
 import io.micronaut.http.annotation.Put;
@@ -168,9 +174,15 @@ public class ExecutionController {
     @Value("${kestra.server.preview.max-rows:5000}")
     private Integer maxPreviewRows;
 
+    @Value("${kestra.server.export.page-size:1000}")
+    private Integer exportPageSize;
+
     @Inject
     private TenantService tenantService;
 
+    @Inject
+    private BulkExecutionService bulkExecutionService;
+
     @Value("${kestra.url}")
     private Optional<String> kestraUrl;
 
@@ -215,6 +227,95 @@ public class ExecutionController {
         ));
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/search/cursor")
+    @Operation(
+        tags = {"Executions"},
+        summary = "Search for executions with cursor pagination",
+        description = "Executions are sorted by start date descending, the next page is fetched with the returned cursor. " +
+            "The total is only computed when requested."
+    )
+    public CursorResults<Execution> findWithCursor(
+        @Parameter(description = "The cursor of the page, as returned by the previous page") @Nullable @QueryValue String cursor,
+        @Parameter(description = "The current page size") @QueryValue(defaultValue = "100") @Min(1) int size,
+        @Parameter(description = "Whether to compute the total number of executions") @QueryValue(defaultValue = "false") boolean withTotal,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "The scope of the executions to include") @Nullable @QueryValue(value = "scope") List<FlowScope> scope,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "A time range filter relative to the current time", examples = {
+            @ExampleObject(name = "Filter last 5 minutes", value = "PT5M"),
+            @ExampleObject(name = "Filter last 24 hours", value = "P1D")
+        }) @Nullable @QueryValue Duration timeRange,
+        @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
+        @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue @Format("MULTI") List<String> labels,
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter
+    ) {
+        validateTimeline(startDate, endDate);
+
+        return CursorResults.of(executionRepository.findWithCursor(
+            cursor,
+            size,
+            withTotal,
+            query,
+            tenantService.resolveTenant(),
+            scope,
+            namespace,
+            flowId,
+            resolveAbsoluteDateTime(startDate, timeRange, ZonedDateTime.now()),
+            endDate,
+            state,
+            RequestUtils.toMap(labels),
+            triggerExecutionId,
+            childFilter
+        ));
+    }
+
+    @Get(uri = "/export/by-query", produces = {ExportUtils.APPLICATION_NDJSON, ExportUtils.TEXT_CSV})
+    @Operation(tags = {"Executions"}, summary = "Export executions filter by query parameters")
+    public HttpResponse<Flux<byte[]>> exportByQuery(
+        @Parameter(description = "The export format") @QueryValue(defaultValue = "NDJSON") ExportUtils.Format format,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "The scope of the executions to include") @Nullable @QueryValue(value = "scope") List<FlowScope> scope,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "A time range filter relative to the current time", examples = {
+            @ExampleObject(name = "Filter last 5 minutes", value = "PT5M"),
+            @ExampleObject(name = "Filter last 24 hours", value = "P1D")
+        }) @Nullable @QueryValue Duration timeRange,
+        @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
+        @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue @Format("MULTI") List<String> labels,
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter
+    ) {
+        validateTimeline(startDate, endDate);
+
+        Flux<Execution> executions = pageExecutions(tenantService.resolveTenant(), query, scope, namespace, flowId, startDate, endDate, timeRange, state, labels, triggerExecutionId, childFilter);
+
+        return ExportUtils.export(
+            executions,
+            format,
+            "executions",
+            List.of("id", "namespace", "flowId", "flowRevision", "state", "startDate", "endDate", "duration", "labels"),
+            execution -> Arrays.asList(
+                execution.getId(),
+                execution.getNamespace(),
+                execution.getFlowId(),
+                execution.getFlowRevision(),
+                execution.getState().getCurrent(),
+                execution.getState().getStartDate(),
+                execution.getState().getEndDate().orElse(null),
+                execution.getState().getDuration(),
+                execution.getLabels() == null ? null : execution.getLabels().stream().map(label -> label.key() + ":" + label.value()).collect(Collectors.joining(","))
+            )
+        );
+    }
+
     @VisibleForTesting
     ZonedDateTime resolveAbsoluteDateTime(ZonedDateTime absoluteDateTime, Duration timeRange, ZonedDateTime now) {
         if (timeRange != null) {
@@ -230,9 +331,10 @@ public class ExecutionController {
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "/{executionId}/graph")
     @Operation(tags = {"Executions"}, summary = "Generate a graph for an execution")
-    public FlowGraph flowGraph(
+    public HttpResponse<FlowGraph> flowGraph(
         @Parameter(description = "The execution id") @PathVariable String executionId,
-        @Parameter(description = "The subflow tasks to display") @Nullable @QueryValue List<String> subflows
+        @Parameter(description = "The subflow tasks to display") @Nullable @QueryValue List<String> subflows,
+        @Parameter(hidden = true) @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch
     ) throws IllegalVariableEvaluationException {
         return executionRepository
             .findById(tenantService.resolveTenant(), executionId)
@@ -245,9 +347,17 @@ public class ExecutionController {
                 );
 
                 return flow
-                    .map(throwFunction(value ->
-                        graphService.flowGraph(value, subflows,  execution).forExecution()
-                    ))
+                    .map(throwFunction(value -> {
+                        // the graph only changes with the execution states and the expanded subflows, so a polling client can skip unchanged graphs
+                        String etag = "\"" + graphService.executionGraphVersion(value, subflows, execution) + "\"";
+                        if (etag.equals(ifNoneMatch)) {
+                            return HttpResponse.<FlowGraph>notModified()
+                                .header(HttpHeaders.ETAG, etag);
+                        }
+
+                        return HttpResponse.ok(graphService.executionGraph(value, subflows, execution))
+                            .header(HttpHeaders.ETAG, etag);
+                    }))
                     .orElse(null);
             }))
             .orElse(null);
@@ -1876,11 +1986,167 @@ public class ExecutionController {
         return forceRunByIds(ids);
     }
 
-    private List<String> getExecutionIds(String query, List<FlowScope> scope, String namespace, String flowId, ZonedDateTime startDate, ZonedDateTime endDate, Duration timeRange, List<State.Type> state, List<String> labels, String triggerExecutionId, ExecutionRepositoryInterface.ChildFilter childFilter) {
+    @ExecuteOn(TaskExecutors.IO)
+    @Post(uri = "/bulk-jobs/by-query")
+    @Operation(
+        tags = {"Executions"},
+        summary = "Start a bulk job on executions filter by query parameters",
+        description = "The executions are processed in the background, the returned job can be polled to follow its progress. " +
+            "Executions that are not in a valid state for the operation are skipped."
+    )
+    public BulkJobResponse bulkJobByQuery(
+        @Parameter(description = "The operation to apply on each execution") @QueryValue BulkOperation operation,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "The scope of the executions to include") @Nullable @QueryValue(value = "scope") List<FlowScope> scope,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate,
+        @Parameter(description = "A time range filter relative to the current time", examples = {
+            @ExampleObject(name = "Filter last 5 minutes", value = "PT5M"),
+            @ExampleObject(name = "Filter last 24 hours", value = "P1D")
+        }) @Nullable @QueryValue Duration timeRange,
+        @Parameter(description = "A state filter") @Nullable @QueryValue List<State.Type> state,
+        @Parameter(description = "A labels filter as a list of 'key:value'") @Nullable @QueryValue @Format("MULTI") List<String> labels,
+        @Parameter(description = "The trigger execution id") @Nullable @QueryValue String triggerExecutionId,
+        @Parameter(description = "A execution child filter") @Nullable @QueryValue ExecutionRepositoryInterface.ChildFilter childFilter,
+        @Parameter(description = "The labels to add to the executions, for the SET_LABELS operation") @Nullable @Body List<Label> setLabels
+    ) {
+        validateTimeline(startDate, endDate);
+
+        if (operation == BulkOperation.SET_LABELS) {
+            if (setLabels == null || setLabels.isEmpty()) {
+                throw new HttpStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "No labels to set");
+            }
+
+            // check for system labels before starting the job, as none can be passed at runtime
+            Optional<Label> system = setLabels.stream().filter(label -> label.key().startsWith(SYSTEM_PREFIX)).findFirst();
+            if (system.isPresent()) {
+                throw new HttpStatusException(HttpStatus.UNPROCESSABLE_ENTITY, "System labels can only be set by Kestra itself, offending label: " + system.get().key() + "=" + system.get().value());
+            }
+        }
+
+        String tenantId = tenantService.resolveTenant();
+        // paged with a cursor so the job holds no transaction and stops fetching when killed
+        Flux<Execution> executions = pageExecutions(tenantId, query, scope, namespace, flowId, startDate, endDate, timeRange, state, labels, triggerExecutionId, childFilter);
+
+        return bulkExecutionService.submit(tenantId, operation.name(), executions, bulkHandler(operation, tenantId, setLabels));
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "/bulk-jobs/{jobId}")
+    @Operation(tags = {"Executions"}, summary = "Get the progress of a bulk job")
+    public BulkJobResponse getBulkJob(
+        @Parameter(description = "The bulk job id") @PathVariable String jobId
+    ) {
+        return bulkExecutionService.find(tenantService.resolveTenant(), jobId).orElse(null);
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Delete(uri = "/bulk-jobs/{jobId}")
+    @Operation(tags = {"Executions"}, summary = "Kill a bulk job", description = "The executions already processed are not reverted.")
+    public BulkJobResponse killBulkJob(
+        @Parameter(description = "The bulk job id") @PathVariable String jobId
+    ) {
+        return bulkExecutionService.kill(tenantService.resolveTenant(), jobId).orElse(null);
+    }
+
+    public enum BulkOperation {
+        KILL,
+        DELETE,
+        RESTART,
+        RESUME,
+        REPLAY,
+        SET_LABELS
+    }
+
+    private BulkExecutionService.BatchHandler bulkHandler(BulkOperation operation, String tenantId, List<Label> setLabels) {
+        return switch (operation) {
+            case KILL -> executions -> {
+                List<ExecutionKilled> killed = executions.stream()
+                    .filter(execution -> !execution.getState().isTerminated())
+                    .<ExecutionKilled>map(execution -> ExecutionKilledExecution
+                        .builder()
+                        .state(ExecutionKilled.State.REQUESTED)
+                        .executionId(execution.getId())
+                        .isOnKillCascade(false) // Explicitly force cascade to false.
+                        .tenantId(tenantId)
+                        .build()
+                    )
+                    .toList();
+
+                killQueue.emitBatch(killed);
+                return killed.size();
+            };
+            case DELETE -> executions -> {
+                int count = 0;
+                for (Execution execution : executions) {
+                    if (execution.getState().isTerminated()) {
+                        executionService.delete(execution, true, true, true);
+                        count++;
+                    }
+                }
+                return count;
+            };
+            case RESTART -> executions -> {
+                List<Execution> originals = new ArrayList<>();
+                List<Execution> restarts = new ArrayList<>();
+                for (Execution execution : executions) {
+                    if (execution.getState().isFailed()) {
+                        originals.add(execution);
+                        restarts.add(executionService.restart(execution, null));
+                    }
+                }
+
+                executionQueue.emitBatch(restarts);
+                for (int i = 0; i < restarts.size(); i++) {
+                    eventPublisher.publishEvent(new CrudEvent<>(restarts.get(i), originals.get(i), CrudEventType.UPDATE));
+                }
+                return restarts.size();
+            };
+            case RESUME -> executions -> {
+                Map<String, Flow> flows = new HashMap<>();
+                List<Execution> resumes = new ArrayList<>();
+                for (Execution execution : executions) {
+                    if (execution.getState().isPaused()) {
+                        Flow flow = flows.computeIfAbsent(Flow.uid(execution), key -> flowRepository.findByExecutionWithoutAcl(execution));
+                        resumes.add(executionService.resume(execution, flow, State.Type.RUNNING));
+                    }
+                }
+
+                executionQueue.emitBatch(resumes);
+                return resumes.size();
+            };
+            case REPLAY -> executions -> {
+                List<Execution> replays = new ArrayList<>();
+                for (Execution execution : executions) {
+                    replays.add(executionService.replay(execution, null, null));
+                }
+
+                executionQueue.emitBatch(replays);
+                for (int i = 0; i < replays.size(); i++) {
+                    eventPublisher.publishEvent(new CrudEvent<>(replays.get(i), executions.get(i), CrudEventType.CREATE));
+                }
+                return replays.size();
+            };
+            case SET_LABELS -> executions -> {
+                int count = 0;
+                for (Execution execution : executions) {
+                    if (execution.getState().isTerminated()) {
+                        setLabels(execution, setLabels);
+                        count++;
+                    }
+                }
+                return count;
+            };
+        };
+    }
+
+    private Flux<Execution> findExecutions(String tenantId, String query, List<FlowScope> scope, String namespace, String flowId, ZonedDateTime startDate, ZonedDateTime endDate, Duration timeRange, List<State.Type> state, List<String> labels, String triggerExecutionId, ExecutionRepositoryInterface.ChildFilter childFilter) {
         return executionRepository
             .find(
                 query,
-                tenantService.resolveTenant(),
+                tenantId,
                 scope,
                 namespace,
                 flowId,
@@ -1890,7 +2156,37 @@ public class ExecutionController {
                 RequestUtils.toMap(labels),
                 triggerExecutionId,
                 childFilter
-            )
+            );
+    }
+
+    /**
+     * Streams the matching executions page by page with a keyset cursor, a page being fetched once the previous one
+     * has been consumed.
+     */
+    private Flux<Execution> pageExecutions(String tenantId, String query, List<FlowScope> scope, String namespace, String flowId, ZonedDateTime startDate, ZonedDateTime endDate, Duration timeRange, List<State.Type> state, List<String> labels, String triggerExecutionId, ExecutionRepositoryInterface.ChildFilter childFilter) {
+        ZonedDateTime resolvedStartDate = resolveAbsoluteDateTime(startDate, timeRange, ZonedDateTime.now());
+        Map<String, String> labelsMap = RequestUtils.toMap(labels);
+
+        return ExportUtils.pages(cursor -> executionRepository.findWithCursor(
+            cursor,
+            exportPageSize,
+            false,
+            query,
+            tenantId,
+            scope,
+            namespace,
+            flowId,
+            resolvedStartDate,
+            endDate,
+            state,
+            labelsMap,
+            triggerExecutionId,
+            childFilter
+        ));
+    }
+
+    private List<String> getExecutionIds(String query, List<FlowScope> scope, String namespace, String flowId, ZonedDateTime startDate, ZonedDateTime endDate, Duration timeRange, List<State.Type> state, List<String> labels, String triggerExecutionId, ExecutionRepositoryInterface.ChildFilter childFilter) {
+        return findExecutions(tenantService.resolveTenant(), query, scope, namespace, flowId, startDate, endDate, timeRange, state, labels, triggerExecutionId, childFilter)
             .map(Execution::getId)
             .collectList()
             .blockOptional()
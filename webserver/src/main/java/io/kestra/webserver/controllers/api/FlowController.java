@@ -290,7 +290,7 @@ public class FlowController {
         return this.bulkUpdateOrCreate(
             namespace,
             sources
-                .stream()
+                .parallelStream()
                 .map(flow -> FlowWithSource.of(yamlParser.parse(flow, Flow.class), flow.trim()))
                 .toList(),
             delete
@@ -391,17 +391,12 @@ public class FlowController {
                 .toList();
         }
 
-        // update or create flows
-        List<FlowWithSource> updatedOrCreated = flows.stream()
-            .map(flowWithSource -> {
-                Optional<Flow> existingFlow = flowRepository.findById(tenantService.resolveTenant(), flowWithSource.getNamespace(), flowWithSource.getId());
-                if (existingFlow.isPresent()) {
-                    return flowRepository.update(flowWithSource, existingFlow.get(), flowWithSource.getSource(), pluginDefaultService.injectDefaults(flowWithSource));
-                } else {
-                    return this.doCreate(flowWithSource, flowWithSource.getSource());
-                }
-            })
-            .toList();
+        // update or create flows, unchanged flows are skipped and the others are saved as a batch
+        List<FlowWithSource> updatedOrCreated = flowRepository.createOrUpdate(
+            tenantService.resolveTenant(),
+            flows,
+            pluginDefaultService::injectDefaults
+        );
 
         return Stream.concat(deleted.stream(), updatedOrCreated.stream()).toList();
     }
@@ -467,7 +462,7 @@ public class FlowController {
         return this.bulkUpdateOrCreate(
             null,
             sources
-                .stream()
+                .parallelStream()
                 .map(flow -> FlowWithSource.of(yamlParser.parse(flow, Flow.class), flow.trim()))
                 .toList(),
             delete
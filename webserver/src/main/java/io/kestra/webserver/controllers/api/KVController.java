@@ -8,7 +8,9 @@ import io.kestra.core.serializers.JacksonMapper;
 import io.kestra.core.storages.StorageInterface;
 import io.kestra.core.storages.kv.*;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.webserver.responses.PagedResults;
 import io.micronaut.core.annotation.Introspected;
+import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
@@ -19,6 +21,7 @@ import io.micronaut.validation.Validated;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import jakarta.inject.Inject;
+import jakarta.validation.constraints.Min;
 
 import java.io.*;
 import java.net.URISyntaxException;
@@ -38,11 +41,22 @@ public class KVController {
 
     @ExecuteOn(TaskExecutors.IO)
     @Get
-    @Operation(tags = {"KV"}, summary = "List all keys for a namespace")
-    public List<KVEntry> list(
-        @Parameter(description = "The namespace id") @PathVariable String namespace
+    @Operation(
+        tags = {"KV"},
+        summary = "List all keys for a namespace",
+        description = "All the keys are returned as a list when no page is requested, otherwise the requested page is returned with the total number of keys."
+    )
+    public HttpResponse<?> list(
+        @Parameter(description = "The namespace id") @PathVariable String namespace,
+        @Parameter(description = "Only list the keys starting with this prefix") @Nullable @QueryValue String prefix,
+        @Parameter(description = "The current page, all the keys are returned if not set") @Nullable @QueryValue @Min(1) Integer page,
+        @Parameter(description = "The current page size") @QueryValue(defaultValue = "100") @Min(1) int size
     ) throws IOException, URISyntaxException {
-        return kvStore(namespace).list();
+        if (page == null) {
+            return HttpResponse.ok(kvStore(namespace).list(prefix, 1, Integer.MAX_VALUE));
+        }
+
+        return HttpResponse.ok(PagedResults.of(kvStore(namespace).list(prefix, page, size)));
     }
 
     @ExecuteOn(TaskExecutors.IO)
@@ -4,11 +4,15 @@ import io.kestra.core.models.executions.LogEntry;
 import io.kestra.core.repositories.LogRepositoryInterface;
 import io.kestra.core.services.ExecutionLogService;
 import io.kestra.core.tenant.TenantService;
+import io.kestra.webserver.responses.CursorResults;
 import io.kestra.webserver.responses.PagedResults;
+import io.kestra.webserver.utils.ExportUtils;
 import io.kestra.webserver.utils.PageableUtils;
 import io.micronaut.context.annotation.Requires;
+import io.micronaut.context.annotation.Value;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.core.convert.format.Format;
+import io.micronaut.http.HttpResponse;
 import io.micronaut.http.MediaType;
 import io.micronaut.http.annotation.*;
 import io.micronaut.http.server.types.files.StreamedFile;
@@ -25,6 +29,7 @@ import reactor.core.publisher.Flux;
 
 import java.io.InputStream;
 import java.time.ZonedDateTime;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -43,6 +48,9 @@ public class LogController {
     @Inject
     private TenantService tenantService;
 
+    @Value("${kestra.server.export.page-size:1000}")
+    private Integer exportPageSize;
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "logs/search")
     @Operation(tags = {"Logs"}, summary = "Search for logs")
@@ -65,6 +73,73 @@ public class LogController {
         );
     }
 
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "logs/search/cursor")
+    @Operation(
+        tags = {"Logs"},
+        summary = "Search for logs with cursor pagination",
+        description = "Logs are sorted by timestamp descending, the next page is fetched with the returned cursor. " +
+            "The total is only computed when requested."
+    )
+    public CursorResults<LogEntry> findWithCursor(
+        @Parameter(description = "The cursor of the page, as returned by the previous page") @Nullable @QueryValue String cursor,
+        @Parameter(description = "The current page size") @QueryValue(defaultValue = "100") @Min(1) int size,
+        @Parameter(description = "Whether to compute the total number of logs") @QueryValue(defaultValue = "false") boolean withTotal,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "A trigger id filter") @Nullable @QueryValue String triggerId,
+        @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate
+    ) {
+        validateTimeline(startDate, endDate);
+
+        return CursorResults.of(
+            logRepository.findWithCursor(cursor, size, withTotal, query, tenantService.resolveTenant(), namespace, flowId, triggerId, minLevel, startDate, endDate)
+        );
+    }
+
+    @Get(uri = "logs/export/by-query", produces = {ExportUtils.APPLICATION_NDJSON, ExportUtils.TEXT_CSV})
+    @Operation(tags = {"Logs"}, summary = "Export logs filter by query parameters")
+    public HttpResponse<Flux<byte[]>> exportByQuery(
+        @Parameter(description = "The export format") @QueryValue(defaultValue = "NDJSON") ExportUtils.Format format,
+        @Parameter(description = "A string filter") @Nullable @QueryValue(value = "q") String query,
+        @Parameter(description = "A namespace filter prefix") @Nullable @QueryValue String namespace,
+        @Parameter(description = "A flow id filter") @Nullable @QueryValue String flowId,
+        @Parameter(description = "A trigger id filter") @Nullable @QueryValue String triggerId,
+        @Parameter(description = "The min log level filter") @Nullable @QueryValue Level minLevel,
+        @Parameter(description = "The start datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime startDate,
+        @Parameter(description = "The end datetime") @Nullable @Format("yyyy-MM-dd'T'HH:mm[:ss][.SSS][XXX]") @QueryValue ZonedDateTime endDate
+    ) {
+        validateTimeline(startDate, endDate);
+
+        String tenantId = tenantService.resolveTenant();
+        Flux<LogEntry> logs = ExportUtils.pages(
+            cursor -> logRepository.findWithCursor(cursor, exportPageSize, false, query, tenantId, namespace, flowId, triggerId, minLevel, startDate, endDate)
+        );
+
+        return ExportUtils.export(
+            logs,
+            format,
+            "logs",
+            List.of("timestamp", "level", "namespace", "flowId", "taskId", "executionId", "taskRunId", "attemptNumber", "triggerId", "thread", "message"),
+            log -> Arrays.asList(
+                log.getTimestamp(),
+                log.getLevel(),
+                log.getNamespace(),
+                log.getFlowId(),
+                log.getTaskId(),
+                log.getExecutionId(),
+                log.getTaskRunId(),
+                log.getAttemptNumber(),
+                log.getTriggerId(),
+                log.getThread(),
+                log.getMessage()
+            )
+        );
+    }
+
     @ExecuteOn(TaskExecutors.IO)
     @Get(uri = "logs/{executionId}")
     @Operation(tags = {"Logs"}, summary = "Get logs for a specific execution, taskrun or task")
@@ -1,24 +1,23 @@
 package io.kestra.webserver.controllers.api;
 
 import io.kestra.core.docs.*;
-import io.kestra.core.models.flows.Flow;
 import io.kestra.core.models.flows.Input;
-import io.kestra.core.models.flows.PluginDefault;
 import io.kestra.core.models.flows.Type;
 import io.kestra.core.models.tasks.FlowableTask;
-import io.kestra.core.models.tasks.Task;
-import io.kestra.core.models.templates.Template;
-import io.kestra.core.models.triggers.AbstractTrigger;
 import io.kestra.core.plugins.PluginRegistry;
 import io.kestra.core.plugins.RegisteredPlugin;
+import io.kestra.webserver.services.JsonSchemaArtifactService;
+import io.kestra.webserver.utils.RequestUtils;
 import io.micronaut.cache.annotation.Cacheable;
 import io.micronaut.core.annotation.NonNull;
 import io.micronaut.core.annotation.Nullable;
 import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
 import io.micronaut.http.MutableHttpResponse;
 import io.micronaut.http.annotation.Controller;
 import io.micronaut.http.annotation.Get;
+import io.micronaut.http.annotation.Header;
 import io.micronaut.http.annotation.PathVariable;
 import io.micronaut.http.annotation.QueryValue;
 import io.micronaut.scheduling.TaskExecutors;
@@ -43,6 +42,9 @@ public class PluginController {
     @Inject
     protected JsonSchemaGenerator jsonSchemaGenerator;
 
+    @Inject
+    protected JsonSchemaArtifactService jsonSchemaArtifactService;
+
     @Inject
     private PluginRegistry pluginRegistry;
 
@@ -53,30 +55,32 @@ public class PluginController {
         summary = "Get all json schemas for a type",
         description = "The schema will be output as [http://json-schema.org/draft-07/schema](Json Schema Draft 7)"
     )
-    public HttpResponse<Map<String, Object>> schemas(
+    public HttpResponse<?> schemas(
         @Parameter(description = "The schema needed") @PathVariable SchemaType type,
-        @Parameter(description = "If schema should be an array of requested type") @Nullable @QueryValue(value = "arrayOf", defaultValue = "false") Boolean arrayOf
+        @Parameter(description = "If schema should be an array of requested type") @Nullable @QueryValue(value = "arrayOf", defaultValue = "false") Boolean arrayOf,
+        @Parameter(hidden = true) @Nullable @Header(HttpHeaders.IF_NONE_MATCH) String ifNoneMatch,
+        @Parameter(hidden = true) @Nullable @Header(HttpHeaders.ACCEPT_ENCODING) String acceptEncoding
     ) {
-        return HttpResponse.ok()
-            .body(this.schemasCache(type, arrayOf))
-            .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
-    }
+        JsonSchemaArtifactService.SchemaArtifact artifact = jsonSchemaArtifactService.get(type, Boolean.TRUE.equals(arrayOf));
+        if (artifact.etag().equals(ifNoneMatch)) {
+            return HttpResponse.notModified()
+                .header(HttpHeaders.ETAG, artifact.etag())
+                .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE);
+        }
 
-    @Cacheable("default")
-    protected Map<String, Object> schemasCache(SchemaType type, boolean arrayOf) {
-        if (type == SchemaType.flow) {
-            return jsonSchemaGenerator.schemas(Flow.class, arrayOf);
-        } else if (type == SchemaType.template) {
-            return jsonSchemaGenerator.schemas(Template.class, arrayOf);
-        } else if (type == SchemaType.task) {
-            return jsonSchemaGenerator.schemas(Task.class, arrayOf);
-        } else if (type == SchemaType.trigger) {
-            return jsonSchemaGenerator.schemas(AbstractTrigger.class, arrayOf);
-        } else if (type == SchemaType.plugindefault) {
-            return jsonSchemaGenerator.schemas(PluginDefault.class, arrayOf);
-        } else {
-            throw new IllegalArgumentException("Invalid type " + type);
+        MutableHttpResponse<byte[]> response = HttpResponse.<byte[]>ok()
+            .contentType(MediaType.APPLICATION_JSON_TYPE)
+            .header(HttpHeaders.ETAG, artifact.etag())
+            .header(HttpHeaders.CACHE_CONTROL, CACHE_DIRECTIVE)
+            .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        if (RequestUtils.acceptsEncoding(acceptEncoding, "gzip")) {
+            return response
+                .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                .body(artifact.gzipped());
         }
+
+        return response.body(artifact.json());
     }
 
     @Get(uri = "inputs")
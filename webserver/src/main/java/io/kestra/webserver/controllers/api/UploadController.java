@@ -0,0 +1,71 @@
+package io.kestra.webserver.controllers.api;
+
+import io.kestra.core.services.FileUploadService;
+import io.kestra.core.tenant.TenantService;
+import io.micronaut.http.MediaType;
+import io.micronaut.http.annotation.*;
+import io.micronaut.scheduling.TaskExecutors;
+import io.micronaut.scheduling.annotation.ExecuteOn;
+import io.micronaut.validation.Validated;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import jakarta.inject.Inject;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+@Validated
+@Controller("/api/v1/uploads")
+public class UploadController {
+    @Inject
+    private FileUploadService fileUploadService;
+
+    @Inject
+    private TenantService tenantService;
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Post
+    @Operation(tags = {"Uploads"}, summary = "Create a chunked file upload, its parts can be uploaded in parallel and retried independently")
+    public Upload create() throws IOException {
+        return new Upload(fileUploadService.createSession(tenantService.resolveTenant()), List.of());
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Put(uri = "{id}/parts/{number}", consumes = MediaType.APPLICATION_OCTET_STREAM)
+    @Operation(tags = {"Uploads"}, summary = "Upload a part of a chunked file upload")
+    public FileUploadService.Part putPart(
+        @Parameter(description = "The upload id") @PathVariable String id,
+        @Parameter(description = "The part number, parts are assembled in this order") @PathVariable @Min(1) @Max(FileUploadService.MAX_PARTS) int number,
+        @Body InputStream data
+    ) throws IOException {
+        return new FileUploadService.Part(number, fileUploadService.putPart(tenantService.resolveTenant(), id, number, data));
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Get(uri = "{id}")
+    @Operation(tags = {"Uploads"}, summary = "Get a chunked file upload with its already uploaded parts, to resume it")
+    public Upload get(
+        @Parameter(description = "The upload id") @PathVariable String id
+    ) throws IOException {
+        return new Upload(id, fileUploadService.parts(tenantService.resolveTenant(), id));
+    }
+
+    @ExecuteOn(TaskExecutors.IO)
+    @Post(uri = "{id}/complete")
+    @Operation(tags = {"Uploads"}, summary = "Complete a chunked file upload", description = "The returned URI can be used as the value of a FILE input when creating an execution.")
+    public UploadedFile complete(
+        @Parameter(description = "The upload id") @PathVariable String id,
+        @Parameter(description = "The name of the uploaded file") @QueryValue String filename
+    ) throws IOException {
+        return new UploadedFile(fileUploadService.complete(tenantService.resolveTenant(), id, filename).toString());
+    }
+
+    public record Upload(String id, List<FileUploadService.Part> parts) {
+    }
+
+    public record UploadedFile(String uri) {
+    }
+}
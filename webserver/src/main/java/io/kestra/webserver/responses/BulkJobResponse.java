@@ -0,0 +1,29 @@
+package io.kestra.webserver.responses;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.time.Instant;
+
+@SuperBuilder
+@Getter
+@NoArgsConstructor
+public class BulkJobResponse {
+    String id;
+    String operation;
+    State state;
+    Integer processed;
+    Integer skipped;
+    Integer failed;
+    Instant startDate;
+    Instant endDate;
+    String error;
+
+    public enum State {
+        RUNNING,
+        SUCCESS,
+        FAILED,
+        KILLED
+    }
+}
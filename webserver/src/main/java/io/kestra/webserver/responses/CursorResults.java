@@ -0,0 +1,29 @@
+package io.kestra.webserver.responses;
+
+import io.kestra.core.repositories.ArrayListCursor;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+public class CursorResults<T> {
+    @NotNull
+    private List<T> results;
+
+    private String next;
+
+    private Long total;
+
+    private CursorResults(ArrayListCursor<T> results) {
+        this.results = results;
+        this.next = results.getNext();
+        this.total = results.getTotal();
+    }
+
+    public static <T> CursorResults<T> of(ArrayListCursor<T> results) {
+        return new CursorResults<>(results);
+    }
+}
@@ -0,0 +1,187 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.webserver.responses.BulkJobResponse;
+import io.micronaut.context.annotation.Value;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs bulk operations on executions in the background.
+ * <p>
+ * The matching executions are streamed from the repository and grouped in batches, up to {@code concurrency} batches
+ * being handled at the same time, so an operation on a large number of executions doesn't depend on the duration of
+ * an HTTP request. The progress of a job can be polled until it ends, finished jobs are kept for {@code retention}.
+ */
+@Slf4j
+@Singleton
+public class BulkExecutionService {
+    private final int batchSize;
+    private final int concurrency;
+    private final Duration retention;
+
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public BulkExecutionService(
+        @Value("${kestra.server.bulk.batch-size:100}") int batchSize,
+        @Value("${kestra.server.bulk.concurrency:4}") int concurrency,
+        @Value("${kestra.server.bulk.retention:PT1H}") Duration retention
+    ) {
+        this.batchSize = batchSize;
+        this.concurrency = concurrency;
+        this.retention = retention;
+    }
+
+    /**
+     * Starts a bulk job.
+     *
+     * @param tenantId the tenant of the executions, only this tenant can see the job.
+     * @param operation the name of the operation, for display only.
+     * @param executions the executions to process, they are only read when the job starts and as batches are handled,
+     *                   so they should be fetched page by page.
+     * @param handler the handler called for each batch of executions.
+     * @return the state of the job when started.
+     */
+    public BulkJobResponse submit(String tenantId, String operation, Flux<Execution> executions, BatchHandler handler) {
+        this.evict();
+
+        Job job = new Job(IdUtils.create(), tenantId, operation);
+        this.jobs.put(job.id, job);
+
+        // the executions are read on another thread so the job is returned without waiting for the query
+        job.disposable = executions
+            .subscribeOn(Schedulers.boundedElastic())
+            .buffer(this.batchSize)
+            .flatMap(
+                batch -> Mono.fromRunnable(() -> job.handle(batch, handler)).subscribeOn(Schedulers.boundedElastic()),
+                this.concurrency
+            )
+            .subscribe(
+                null,
+                throwable -> job.end(BulkJobResponse.State.FAILED, throwable),
+                () -> job.end(BulkJobResponse.State.SUCCESS, null)
+            );
+
+        return job.toResponse();
+    }
+
+    public Optional<BulkJobResponse> find(String tenantId, String id) {
+        return this.job(tenantId, id).map(Job::toResponse);
+    }
+
+    /**
+     * Stops a running job, the batches already being handled are not interrupted.
+     */
+    public Optional<BulkJobResponse> kill(String tenantId, String id) {
+        Job job = this.job(tenantId, id).orElse(null);
+        if (job == null) {
+            return Optional.empty();
+        }
+
+        if (job.disposable != null) {
+            job.disposable.dispose();
+        }
+        job.end(BulkJobResponse.State.KILLED, null);
+
+        return Optional.of(job.toResponse());
+    }
+
+    private Optional<Job> job(String tenantId, String id) {
+        return Optional.ofNullable(this.jobs.get(id)).filter(job -> Objects.equals(job.tenantId, tenantId));
+    }
+
+    private void evict() {
+        Instant limit = Instant.now().minus(this.retention);
+        this.jobs.values().removeIf(job -> job.endDate != null && job.endDate.isBefore(limit));
+    }
+
+    @FunctionalInterface
+    public interface BatchHandler {
+        /**
+         * Handles a batch of executions.
+         *
+         * @return the number of processed executions, the other ones are counted as skipped.
+         */
+        int handle(List<Execution> executions) throws Exception;
+    }
+
+    private static class Job {
+        private final String id;
+        private final String tenantId;
+        private final String operation;
+        private final Instant startDate = Instant.now();
+        private final AtomicInteger processed = new AtomicInteger();
+        private final AtomicInteger skipped = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+
+        private volatile BulkJobResponse.State state = BulkJobResponse.State.RUNNING;
+        private volatile Instant endDate;
+        private volatile String error;
+        private volatile Disposable disposable;
+
+        private Job(String id, String tenantId, String operation) {
+            this.id = id;
+            this.tenantId = tenantId;
+            this.operation = operation;
+        }
+
+        private void handle(List<Execution> batch, BatchHandler handler) {
+            if (this.state != BulkJobResponse.State.RUNNING) {
+                return;
+            }
+
+            try {
+                int count = handler.handle(batch);
+                this.processed.addAndGet(count);
+                this.skipped.addAndGet(batch.size() - count);
+            } catch (Exception e) {
+                // a failed batch doesn't stop the job, its executions are reported as failed
+                log.warn("Bulk job '{}' failed to handle a batch of {} executions", this.id, batch.size(), e);
+                this.failed.addAndGet(batch.size());
+                this.error = e.getMessage();
+            }
+        }
+
+        private synchronized void end(BulkJobResponse.State state, Throwable throwable) {
+            if (this.state != BulkJobResponse.State.RUNNING) {
+                return;
+            }
+
+            if (throwable != null) {
+                log.warn("Bulk job '{}' failed", this.id, throwable);
+                this.error = throwable.getMessage();
+            }
+
+            this.endDate = Instant.now();
+            this.state = state;
+        }
+
+        private BulkJobResponse toResponse() {
+            return BulkJobResponse.builder()
+                .id(this.id)
+                .operation(this.operation)
+                .state(this.state)
+                .processed(this.processed.get())
+                .skipped(this.skipped.get())
+                .failed(this.failed.get())
+                .startDate(this.startDate)
+                .endDate(this.endDate)
+                .error(this.error)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package io.kestra.webserver.services;
+
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import io.kestra.core.docs.JsonSchemaGenerator;
+import io.kestra.core.docs.SchemaType;
+import io.kestra.core.models.flows.Flow;
+import io.kestra.core.models.flows.PluginDefault;
+import io.kestra.core.models.tasks.Task;
+import io.kestra.core.models.templates.Template;
+import io.kestra.core.models.triggers.AbstractTrigger;
+import io.kestra.core.plugins.RegisteredPlugin;
+import io.kestra.core.plugins.PluginRegistry;
+import io.kestra.core.serializers.JacksonMapper;
+import io.kestra.core.storages.FileAttributes;
+import io.kestra.core.storages.StorageInterface;
+import io.kestra.core.utils.VersionProvider;
+import jakarta.inject.Inject;
+import jakarta.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serves the JSON schemas of the flow editor as precomputed, gzipped artifacts.
+ * <p>
+ * Schemas are generated once per plugin-set fingerprint (Kestra version and registered plugin classes) and stored in
+ * the internal storage, so they are shared across all the webserver replicas and survive restarts. The plugins don't
+ * change at runtime, so the fingerprint is computed once, and the artifacts of the previous fingerprints are deleted.
+ */
+@Singleton
+@Slf4j
+public class JsonSchemaArtifactService {
+    private static final String STORAGE_PREFIX = "/_schemas/";
+
+    @Inject
+    private JsonSchemaGenerator jsonSchemaGenerator;
+
+    @Inject
+    private PluginRegistry pluginRegistry;
+
+    @Inject
+    private StorageInterface storageInterface;
+
+    @Inject
+    private VersionProvider versionProvider;
+
+    private final Map<String, SchemaArtifact> artifacts = new ConcurrentHashMap<>();
+    private volatile String fingerprint;
+
+    /**
+     * Gets the schema artifact for the given type.
+     *
+     * @param type    The schema type.
+     * @param arrayOf If the schema should be an array of the requested type.
+     * @return The {@link SchemaArtifact}.
+     */
+    public SchemaArtifact get(SchemaType type, boolean arrayOf) {
+        String fingerprint = this.fingerprint();
+
+        String name = type.name() + (arrayOf ? "-array" : "");
+        return this.artifacts.computeIfAbsent(name, key -> this.load(fingerprint, name, type, arrayOf));
+    }
+
+    private SchemaArtifact load(String fingerprint, String name, SchemaType type, boolean arrayOf) {
+        String etag = "\"" + fingerprint.substring(0, 16) + "-" + name + "\"";
+        URI uri = URI.create(STORAGE_PREFIX + fingerprint + "/" + name + ".json.gz");
+
+        try (InputStream inputStream = storageInterface.get(null, null, uri)) {
+            return new SchemaArtifact(inputStream.readAllBytes(), etag);
+        } catch (FileNotFoundException e) {
+            // not generated yet for this plugin set
+        } catch (IOException e) {
+            log.warn("Unable to read the JSON schema artifact '{}', it will be generated", uri, e);
+        }
+
+        long start = System.currentTimeMillis();
+        byte[] gzipped = gzip(this.generate(type, arrayOf));
+        log.info("Generated the '{}' JSON schema in {}ms", name, System.currentTimeMillis() - start);
+
+        try {
+            storageInterface.put(null, null, uri, new ByteArrayInputStream(gzipped));
+        } catch (IOException e) {
+            log.warn("Unable to store the JSON schema artifact '{}'", uri, e);
+        }
+
+        return new SchemaArtifact(gzipped, etag);
+    }
+
+    private Map<String, Object> generate(SchemaType type, boolean arrayOf) {
+        return switch (type) {
+            case flow -> jsonSchemaGenerator.schemas(Flow.class, arrayOf);
+            case template -> jsonSchemaGenerator.schemas(Template.class, arrayOf);
+            case task -> jsonSchemaGenerator.schemas(Task.class, arrayOf);
+            case trigger -> jsonSchemaGenerator.schemas(AbstractTrigger.class, arrayOf);
+            case plugindefault -> jsonSchemaGenerator.schemas(PluginDefault.class, arrayOf);
+            default -> throw new IllegalArgumentException("Invalid type " + type);
+        };
+    }
+
+    private String fingerprint() {
+        if (this.fingerprint == null) {
+            synchronized (this) {
+                if (this.fingerprint == null) {
+                    String computed = this.computeFingerprint();
+                    this.deletePreviousArtifacts(computed);
+                    this.fingerprint = computed;
+                }
+            }
+        }
+
+        return this.fingerprint;
+    }
+
+    /**
+     * Deletes the artifacts generated for other plugin sets, for example by a previous Kestra version.
+     */
+    private void deletePreviousArtifacts(String fingerprint) {
+        try {
+            for (FileAttributes attributes : storageInterface.list(null, null, URI.create(STORAGE_PREFIX))) {
+                if (attributes.getType() == FileAttributes.FileType.Directory && !attributes.getFileName().equals(fingerprint)) {
+                    storageInterface.deleteByPrefix(null, null, URI.create(STORAGE_PREFIX + attributes.getFileName() + "/"));
+                }
+            }
+        } catch (FileNotFoundException e) {
+            // nothing generated yet
+        } catch (IOException e) {
+            log.warn("Unable to delete the previous JSON schema artifacts", e);
+        }
+    }
+
+    /**
+     * Computes a fingerprint of everything the generated schemas depend on.
+     */
+    @SuppressWarnings("UnstableApiUsage")
+    private String computeFingerprint() {
+        Hasher hasher = Hashing.sha256().newHasher()
+            .putString(String.valueOf(versionProvider.getVersion()), StandardCharsets.UTF_8)
+            .putString(String.valueOf(versionProvider.getRevision()), StandardCharsets.UTF_8);
+
+        pluginRegistry.plugins()
+            .stream()
+            .sorted(Comparator.comparing(plugin -> Optional.ofNullable(plugin.group()).orElse("")))
+            .forEach(plugin -> {
+                hasher.putString(Optional.ofNullable(plugin.group()).orElse(""), StandardCharsets.UTF_8);
+                hasher.putString(String.valueOf(plugin.version()), StandardCharsets.UTF_8);
+                plugin.allClass()
+                    .stream()
+                    .map(Class::getName)
+                    .sorted()
+                    .forEach(cls -> hasher.putString(cls, StandardCharsets.UTF_8));
+            });
+
+        return hasher.hash().toString();
+    }
+
+    private static byte[] gzip(Map<String, Object> schema) {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(outputStream)) {
+            JacksonMapper.ofJson().writeValue(gzip, schema);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * A generated JSON schema.
+     *
+     * @param gzipped The gzipped JSON schema.
+     * @param etag    The entity tag of the schema.
+     */
+    public record SchemaArtifact(byte[] gzipped, String etag) {
+        public byte[] json() {
+            try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+                return inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
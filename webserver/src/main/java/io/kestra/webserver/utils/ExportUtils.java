@@ -0,0 +1,100 @@
+package io.kestra.webserver.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.kestra.core.repositories.ArrayListCursor;
+import io.kestra.core.serializers.JacksonMapper;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.MediaType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class ExportUtils {
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+    public static final String TEXT_CSV = "text/csv";
+
+    // lines are written by chunks to avoid a network write per line
+    private static final int CHUNK_SIZE = 100;
+
+    private ExportUtils() {
+    }
+
+    public enum Format {
+        NDJSON,
+        CSV
+    }
+
+    /**
+     * Streams all the results of a cursor paginated query.
+     * A page is only fetched once the previous one has been consumed, so the memory used doesn't depend on the number
+     * of results, and no database connection is held while waiting for a slow client.
+     *
+     * @param fetch fetches the page for a cursor, a null cursor being the first page.
+     */
+    public static <T> Flux<T> pages(Function<String, ArrayListCursor<T>> fetch) {
+        return page(fetch, null)
+            .expand(page -> page.getNext() == null ? Mono.empty() : page(fetch, page.getNext()))
+            .concatMapIterable(page -> page);
+    }
+
+    private static <T> Mono<ArrayListCursor<T>> page(Function<String, ArrayListCursor<T>> fetch, String cursor) {
+        return Mono.fromCallable(() -> fetch.apply(cursor))
+            .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Builds a streamed download of the items.
+     *
+     * @param header the CSV header.
+     * @param row the CSV values of an item, in the same order as the header.
+     */
+    public static <T> HttpResponse<Flux<byte[]>> export(Flux<T> items, Format format, String name, List<String> header, Function<T, List<?>> row) {
+        Flux<String> lines = switch (format) {
+            case NDJSON -> items.map(ExportUtils::jsonLine);
+            case CSV -> Flux.concat(Flux.just(csvLine(header)), items.map(item -> csvLine(row.apply(item))));
+        };
+
+        Flux<byte[]> body = lines
+            .buffer(CHUNK_SIZE)
+            .map(chunk -> String.join("", chunk).getBytes(StandardCharsets.UTF_8));
+
+        String extension = format.name().toLowerCase();
+        return HttpResponse.ok(body)
+            .contentType(format == Format.CSV ? MediaType.of(TEXT_CSV) : MediaType.of(APPLICATION_NDJSON))
+            .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + name + "." + extension + "\"");
+    }
+
+    private static String jsonLine(Object value) {
+        try {
+            return JacksonMapper.ofJson().writeValueAsString(value) + "\n";
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    static String csvLine(List<?> values) {
+        return values.stream()
+            .map(ExportUtils::csvValue)
+            .collect(Collectors.joining(",")) + "\n";
+    }
+
+    private static String csvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+
+        String string = value.toString();
+        if (string.contains(",") || string.contains("\"") || string.contains("\n") || string.contains("\r")) {
+            return "\"" + string.replace("\"", "\"\"") + "\"";
+        }
+
+        return string;
+    }
+}
@@ -25,4 +25,46 @@ public class RequestUtils {
             })
             .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
+
+    /**
+     * Checks whether an {@code Accept-Encoding} header accepts the given content coding, honouring the quality values:
+     * a coding with {@code q=0} is refused, and an explicit coding takes precedence over the {@code *} wildcard.
+     *
+     * @param acceptEncoding The {@code Accept-Encoding} header value, may be null.
+     * @param encoding       The content coding, for example {@code gzip}.
+     * @return {@code true} if the coding is accepted.
+     */
+    public static boolean acceptsEncoding(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return false;
+        }
+
+        Double wildcard = null;
+        for (String element : acceptEncoding.split(",")) {
+            String[] parts = element.split(";");
+            String coding = parts[0].trim();
+
+            double quality = 1.0;
+            for (int i = 1; i < parts.length; i++) {
+                String parameter = parts[i].trim();
+                if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+                    try {
+                        quality = Double.parseDouble(parameter.substring(2).trim());
+                    } catch (NumberFormatException e) {
+                        quality = 0.0;
+                    }
+                }
+            }
+
+            if (coding.equalsIgnoreCase(encoding)) {
+                return quality > 0;
+            }
+
+            if (coding.equals("*")) {
+                wildcard = quality;
+            }
+        }
+
+        return wildcard != null && wildcard > 0;
+    }
 }
@@ -9,6 +9,7 @@ import io.kestra.core.storages.kv.*;
 import io.kestra.webserver.controllers.api.KVController.ApiDeleteBulkRequest;
 import io.kestra.webserver.controllers.api.KVController.ApiDeleteBulkResponse;
 import io.kestra.webserver.controllers.h2.JdbcH2ControllerTest;
+import io.kestra.webserver.responses.PagedResults;
 import io.micronaut.core.type.Argument;
 import io.micronaut.http.HttpRequest;
 import io.micronaut.http.HttpResponse;
@@ -81,6 +82,19 @@ class KVControllerTest extends JdbcH2ControllerTest {
         assertThat(res.stream().filter(entry -> entry.key().equals("my-second-key")).findFirst().get().expirationDate(), is(mySecondKeyExpirationDate));
     }
 
+    @SuppressWarnings("unchecked")
+    @Test
+    void listPaged() throws IOException {
+        storageInterface.put(null, NAMESPACE, toKVUri(NAMESPACE, "key-a"), new StorageObject(Map.of(), new ByteArrayInputStream("\"a\"".getBytes())));
+        storageInterface.put(null, NAMESPACE, toKVUri(NAMESPACE, "key-b"), new StorageObject(Map.of(), new ByteArrayInputStream("\"b\"".getBytes())));
+        storageInterface.put(null, NAMESPACE, toKVUri(NAMESPACE, "key-c"), new StorageObject(Map.of(), new ByteArrayInputStream("\"c\"".getBytes())));
+
+        PagedResults<KVEntry> res = client.toBlocking().retrieve(HttpRequest.GET("/api/v1/namespaces/" + NAMESPACE + "/kv?prefix=key-&page=2&size=2"), Argument.of(PagedResults.class, KVEntry.class));
+
+        assertThat(res.getTotal(), is(3L));
+        assertThat(res.getResults().stream().map(KVEntry::key).toList(), is(List.of("key-c")));
+    }
+
     static Stream<Arguments> kvGetArgs() {
         return Stream.of(
             Arguments.of("{hello:\"world\"}", KVType.JSON, "{\"hello\":\"world\"}"),
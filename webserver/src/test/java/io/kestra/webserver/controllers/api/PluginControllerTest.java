@@ -9,7 +9,10 @@ import io.kestra.core.models.annotations.PluginSubGroup;
 import io.kestra.plugin.core.debug.Return;
 import io.kestra.plugin.core.log.Log;
 import io.micronaut.core.type.Argument;
+import io.micronaut.http.HttpHeaders;
 import io.micronaut.http.HttpRequest;
+import io.micronaut.http.HttpResponse;
+import io.micronaut.http.HttpStatus;
 import io.micronaut.reactor.http.client.ReactorHttpClient;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -178,6 +181,26 @@ class PluginControllerTest {
         });
     }
 
+    @Test
+    void flowSchemaNotModified() throws URISyntaxException {
+        Helpers.runApplicationContext((applicationContext, embeddedServer) -> {
+            ReactorHttpClient client = ReactorHttpClient.create(embeddedServer.getURL());
+            HttpResponse<String> response = client.toBlocking().exchange(
+                HttpRequest.GET("/api/v1/plugins/schemas/flow"),
+                String.class
+            );
+
+            String etag = response.header(HttpHeaders.ETAG);
+            assertThat(etag, notNullValue());
+
+            HttpResponse<String> notModified = client.toBlocking().exchange(
+                HttpRequest.GET("/api/v1/plugins/schemas/flow").header(HttpHeaders.IF_NONE_MATCH, etag),
+                String.class
+            );
+            assertThat(notModified.getStatus(), is(HttpStatus.NOT_MODIFIED));
+        });
+    }
+
     @Test
     void template() throws URISyntaxException {
         Helpers.runApplicationContext((applicationContext, embeddedServer) -> {
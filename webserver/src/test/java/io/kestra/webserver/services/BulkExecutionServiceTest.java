@@ -0,0 +1,86 @@
+package io.kestra.webserver.services;
+
+import io.kestra.core.models.executions.Execution;
+import io.kestra.core.utils.Await;
+import io.kestra.core.utils.IdUtils;
+import io.kestra.webserver.responses.BulkJobResponse;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.*;
+
+class BulkExecutionServiceTest {
+    @Test
+    void submit() throws TimeoutException {
+        BulkExecutionService bulkExecutionService = new BulkExecutionService(10, 4, Duration.ofHours(1));
+
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        BulkJobResponse started = bulkExecutionService.submit(null, "TEST", executions(1005), executions -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+
+                if (executions.getFirst().getId().equals("500")) {
+                    throw new IllegalStateException("failed batch");
+                }
+
+                // only the even executions are processed
+                return (int) executions.stream().filter(execution -> Integer.parseInt(execution.getId()) % 2 == 0).count();
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        assertThat(started.getState(), is(BulkJobResponse.State.RUNNING));
+
+        Await.until(() -> bulkExecutionService.find(null, started.getId()).orElseThrow().getState() != BulkJobResponse.State.RUNNING, Duration.ofMillis(10), Duration.ofSeconds(30));
+
+        BulkJobResponse ended = bulkExecutionService.find(null, started.getId()).orElseThrow();
+        assertThat(ended.getState(), is(BulkJobResponse.State.SUCCESS));
+        assertThat(ended.getProcessed(), is(498));
+        assertThat(ended.getSkipped(), is(497));
+        assertThat(ended.getFailed(), is(10));
+        assertThat(ended.getError(), is("failed batch"));
+        assertThat(ended.getEndDate(), notNullValue());
+        assertThat(maxRunning.get(), allOf(greaterThan(0), lessThanOrEqualTo(4)));
+
+        // jobs are only visible to their tenant
+        assertThat(bulkExecutionService.find("other", started.getId()).isPresent(), is(false));
+    }
+
+    @Test
+    void kill() throws InterruptedException {
+        BulkExecutionService bulkExecutionService = new BulkExecutionService(1, 1, Duration.ofHours(1));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        BulkJobResponse started = bulkExecutionService.submit(null, "TEST", executions(100), executions -> {
+            latch.await(10, TimeUnit.SECONDS);
+            return executions.size();
+        });
+
+        BulkJobResponse killed = bulkExecutionService.kill(null, started.getId()).orElseThrow();
+        latch.countDown();
+
+        assertThat(killed.getState(), is(BulkJobResponse.State.KILLED));
+        Thread.sleep(100);
+        assertThat(bulkExecutionService.find(null, started.getId()).orElseThrow().getProcessed(), lessThanOrEqualTo(1));
+    }
+
+    private static Flux<Execution> executions(int count) {
+        return Flux.range(0, count)
+            .map(i -> Execution.builder()
+                .id(String.valueOf(i))
+                .namespace("io.kestra.tests")
+                .flowId(IdUtils.create())
+                .build()
+            );
+    }
+}
@@ -16,4 +16,16 @@ class RequestUtilsTest {
 
         assertThat(resultMap.get("timestamp"), is("2023-12-18T14:32:14Z"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void acceptsEncoding() {
+        assertThat(RequestUtils.acceptsEncoding("gzip, deflate, br", "gzip"), is(true));
+        assertThat(RequestUtils.acceptsEncoding("deflate, GZIP;q=0.5", "gzip"), is(true));
+        assertThat(RequestUtils.acceptsEncoding("gzip;q=0", "gzip"), is(false));
+        assertThat(RequestUtils.acceptsEncoding("gzip; q=0.0, *", "gzip"), is(false));
+        assertThat(RequestUtils.acceptsEncoding("*", "gzip"), is(true));
+        assertThat(RequestUtils.acceptsEncoding("*;q=0", "gzip"), is(false));
+        assertThat(RequestUtils.acceptsEncoding("x-gzip, identity", "gzip"), is(false));
+        assertThat(RequestUtils.acceptsEncoding(null, "gzip"), is(false));
+    }
+}